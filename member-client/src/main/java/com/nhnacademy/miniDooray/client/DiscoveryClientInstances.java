@@ -0,0 +1,39 @@
+package com.nhnacademy.miniDooray.client;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Eureka 같은 DiscoveryClient 에 등록된 member-service 인스턴스 목록.
+ * DiscoveryClient 가 레지스트리를 로컬에 캐시하므로 호출마다 조회해도 된다.
+ */
+public class DiscoveryClientInstances implements Supplier<List<URI>> {
+
+    private final DiscoveryClient discoveryClient;
+    private final String serviceId;
+
+    public DiscoveryClientInstances(DiscoveryClient discoveryClient, String serviceId) {
+        this.discoveryClient = discoveryClient;
+        this.serviceId = serviceId;
+    }
+
+    @Override
+    public List<URI> get() {
+        return discoveryClient.getInstances(serviceId).stream()
+                .map(ServiceInstance::getUri)
+                .toList();
+    }
+
+    /**
+     * metadata 까지 담은 목록. {@link LoadAwareInstanceSelector} 에 넘긴다.
+     */
+    public Supplier<List<MemberInstance>> withMetadata() {
+        return () -> discoveryClient.getInstances(serviceId).stream()
+                .map(instance -> new MemberInstance(instance.getUri(), instance.getMetadata()))
+                .toList();
+    }
+}
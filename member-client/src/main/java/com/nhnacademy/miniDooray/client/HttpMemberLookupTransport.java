@@ -0,0 +1,99 @@
+package com.nhnacademy.miniDooray.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * POST /members/lookup?partial=true 로 조회한다. 서버는 찾은 회원만 돌려주므로 없는 ID 가 있어도 요청은 한 번이다.
+ * HttpClient 가 인스턴스별 keep-alive 연결을 재사용한다.
+ * 연결에 실패하면 인스턴스를 실패로 알리고 다른 인스턴스로 한 번 더 보낸다.
+ */
+public class HttpMemberLookupTransport implements MemberLookupTransport {
+
+    private static final String LOOKUP_PATH = "/members/lookup?partial=true";
+    private static final TypeReference<List<MemberInfo>> MEMBER_LIST = new TypeReference<>() {
+    };
+
+    private final HttpClient httpClient;
+    private final InstanceSelector instanceSelector;
+    private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+
+    public HttpMemberLookupTransport(HttpClient httpClient, InstanceSelector instanceSelector, ObjectMapper objectMapper,
+                                     Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.instanceSelector = instanceSelector;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, MemberInfo>> lookup(List<String> memberIds) {
+        return lookup(memberIds, true);
+    }
+
+    private CompletableFuture<Map<String, MemberInfo>> lookup(List<String> memberIds, boolean failover) {
+        URI instance = instanceSelector.select();
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(instance.resolve(LOOKUP_PATH))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(Map.of("memberIds", memberIds))))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new MemberClientException("조회 요청을 만들지 못했습니다.", e));
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                        if (cause instanceof IOException) {
+                            instanceSelector.failed(instance);
+                            if (failover) {
+                                return lookup(memberIds, false);
+                            }
+                        }
+                        return CompletableFuture.<Map<String, MemberInfo>>failedFuture(
+                                new MemberClientException("member-service 조회에 실패했습니다. instance: " + instance, cause));
+                    }
+                    return handle(memberIds, instance, response);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Map<String, MemberInfo>> handle(List<String> memberIds, URI instance,
+                                                              HttpResponse<byte[]> response) {
+        if (response.statusCode() != 200) {
+            return CompletableFuture.failedFuture(new MemberClientException(
+                    "member-service 가 " + response.statusCode() + " 로 응답했습니다. instance: " + instance));
+        }
+
+        try {
+            Map<String, MemberInfo> found = new HashMap<>();
+            for (MemberInfo member : objectMapper.readValue(response.body(), MEMBER_LIST)) {
+                found.put(member.id(), member);
+            }
+            return CompletableFuture.completedFuture(found);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new MemberClientException("조회 응답을 읽지 못했습니다.", e));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.net.URI;
+
+/**
+ * 요청을 보낼 member-service 인스턴스를 고른다.
+ */
+public interface InstanceSelector {
+
+    URI select();
+
+    /**
+     * 연결하지 못한 인스턴스를 알린다. 구현은 잠시 그 인스턴스를 피할 수 있다.
+     */
+    default void failed(URI instance) {
+    }
+}
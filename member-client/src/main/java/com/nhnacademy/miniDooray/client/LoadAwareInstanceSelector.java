@@ -0,0 +1,137 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 인스턴스 두 개를 무작위로 뽑아 metadata 의 부하 점수가 낮은 쪽을 고른다(power of two choices).
+ * 모든 클라이언트가 같은 metadata 를 보고 가장 한가한 인스턴스 하나로 몰리는 일을 피하면서도 바쁜 인스턴스는 덜 고른다.
+ * metadata 가 없거나 오래되었으면 점수를 믿지 않고 둘 중 아무거나 고른다.
+ * 연결에 실패한 인스턴스는 quarantine 동안 건너뛴다.
+ *
+ * <p>오래되었는지는 서버가 올린 갱신 시각을 이 호스트의 시계와 비교하지 않고, 그 값이 마지막으로 바뀐 것을
+ * 이 클라이언트가 본 뒤 얼마나 지났는지로 판단한다. 그래서 호스트 사이의 시계 차이와 상관이 없다.
+ * 서버가 새 값을 올려도 이 클라이언트에 보이기까지는 서버의 publish 주기, Eureka 클라이언트의
+ * instance-info-replication 주기, Eureka 서버의 응답 캐시 갱신 주기, 이 클라이언트의 registry-fetch 주기가 모두 쌓이므로,
+ * staleAfter 는 {@link #staleAfter(Duration, Duration, Duration, Duration)} 로 그 합 이상을 주어야 한다.
+ * 기본값은 Eureka 기본 설정(10초, 30초, 30초, 30초)의 합인 100초다.
+ *
+ * <pre>{@code
+ * MemberClient.builder()
+ *         .instanceSelector(new LoadAwareInstanceSelector(
+ *                 new DiscoveryClientInstances(discoveryClient, "member-service").withMetadata()))
+ *         .build();
+ * }</pre>
+ */
+public class LoadAwareInstanceSelector implements InstanceSelector {
+
+    static final Duration DEFAULT_STALE_AFTER =
+            staleAfter(Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofSeconds(30), Duration.ofSeconds(30));
+
+    private final Supplier<List<MemberInstance>> instances;
+    private final long staleAfterNanos;
+    private final long quarantineNanos;
+    private final LongSupplier nanoTime;
+    private final Map<URI, Long> quarantinedUntil = new ConcurrentHashMap<>();
+    private final Map<URI, Observed> observed = new ConcurrentHashMap<>();
+
+    public LoadAwareInstanceSelector(Supplier<List<MemberInstance>> instances) {
+        this(instances, DEFAULT_STALE_AFTER, Duration.ofSeconds(5));
+    }
+
+    public LoadAwareInstanceSelector(Supplier<List<MemberInstance>> instances, Duration staleAfter, Duration quarantine) {
+        this(instances, staleAfter, quarantine, System::nanoTime);
+    }
+
+    LoadAwareInstanceSelector(Supplier<List<MemberInstance>> instances, Duration staleAfter, Duration quarantine,
+                              LongSupplier nanoTime) {
+        this.instances = instances;
+        this.staleAfterNanos = staleAfter.toNanos();
+        this.quarantineNanos = quarantine.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 서버가 올린 metadata 가 이 클라이언트에 보이기까지 걸릴 수 있는 가장 긴 시간.
+     *
+     * @param publishInterval                 서버의 member.load.publish-interval-ms
+     * @param instanceInfoReplicationInterval 서버의 eureka.client.instance-info-replication-interval-seconds
+     * @param responseCacheUpdateInterval     Eureka 서버의 eureka.server.response-cache-update-interval-ms
+     * @param registryFetchInterval           이 클라이언트의 eureka.client.registry-fetch-interval-seconds
+     */
+    public static Duration staleAfter(Duration publishInterval, Duration instanceInfoReplicationInterval,
+                                      Duration responseCacheUpdateInterval, Duration registryFetchInterval) {
+        return publishInterval.plus(instanceInfoReplicationInterval)
+                .plus(responseCacheUpdateInterval)
+                .plus(registryFetchInterval);
+    }
+
+    @Override
+    public URI select() {
+        List<MemberInstance> all = instances.get();
+        if (all.isEmpty()) {
+            throw new MemberClientException("사용할 수 있는 member-service 인스턴스가 없습니다.");
+        }
+
+        long now = nanoTime.getAsLong();
+        if (observed.size() > all.size()) {
+            observed.keySet().removeIf(uri -> all.stream().noneMatch(instance -> instance.uri().equals(uri)));
+        }
+        List<MemberInstance> healthy = all.stream()
+                .filter(instance -> {
+                    Long until = quarantinedUntil.get(instance.uri());
+                    return until == null || until - now <= 0;
+                })
+                .toList();
+        List<MemberInstance> candidates = healthy.isEmpty() ? all : healthy;
+        if (candidates.size() == 1) {
+            return candidates.get(0).uri();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        return lessLoaded(candidates.get(first), candidates.get(second), now).uri();
+    }
+
+    @Override
+    public void failed(URI instance) {
+        quarantinedUntil.put(instance, nanoTime.getAsLong() + quarantineNanos);
+    }
+
+    private MemberInstance lessLoaded(MemberInstance first, MemberInstance second, long now) {
+        LoadMetadata firstLoad = fresh(first, now);
+        LoadMetadata secondLoad = fresh(second, now);
+        if (firstLoad == null || secondLoad == null) {
+            return first;
+        }
+        return secondLoad.score() < firstLoad.score() ? second : first;
+    }
+
+    /**
+     * 처음 보는 값은 방금 바뀐 것으로 본다. 실제 나이는 알 수 없지만 전파 지연보다 길지는 않다.
+     */
+    private LoadMetadata fresh(MemberInstance instance, long now) {
+        LoadMetadata load = LoadMetadata.parse(instance.metadata());
+        if (load == null) {
+            return null;
+        }
+        Observed seen = observed.compute(instance.uri(), (uri, previous) ->
+                previous != null && previous.updatedAt() == load.updatedAtMillis()
+                        ? previous
+                        : new Observed(load.updatedAtMillis(), now));
+        return now - seen.changedAtNanos() > staleAfterNanos ? null : load;
+    }
+
+    private record Observed(long updatedAt, long changedAtNanos) {
+    }
+}
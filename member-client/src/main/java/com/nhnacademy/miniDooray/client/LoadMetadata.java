@@ -0,0 +1,41 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.util.Map;
+
+/**
+ * member-service 의 LoadMetadataPublisher 가 Eureka metadata 에 올리는 부하 정보.
+ * 키 이름은 서버 쪽 상수와 같아야 한다.
+ */
+record LoadMetadata(int inFlight, long p99Millis, double poolUtilization, long updatedAtMillis) {
+
+    static final String IN_FLIGHT = "member.load.inflight";
+    static final String P99_MILLIS = "member.load.p99-ms";
+    static final String POOL_UTILIZATION = "member.load.pool-utilization";
+    static final String UPDATED_AT = "member.load.updated-at";
+
+    /**
+     * 값이 없거나 읽을 수 없으면 null 을 돌려준다. 풀 사용률은 없으면 0 으로 본다.
+     */
+    static LoadMetadata parse(Map<String, String> metadata) {
+        String inFlight = metadata.get(IN_FLIGHT);
+        String p99 = metadata.get(P99_MILLIS);
+        String updatedAt = metadata.get(UPDATED_AT);
+        if (inFlight == null || p99 == null || updatedAt == null) {
+            return null;
+        }
+        try {
+            String pool = metadata.get(POOL_UTILIZATION);
+            return new LoadMetadata(Integer.parseInt(inFlight), Long.parseLong(p99),
+                    pool == null ? 0 : Double.parseDouble(pool), Long.parseLong(updatedAt));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 작을수록 한가하다. 처리 중인 요청이 많을수록, 응답이 느릴수록, 커넥션 풀이 찰수록 커진다.
+     */
+    double score() {
+        return (inFlight + 1.0) * Math.max(p99Millis, 1) / Math.max(1 - poolUtilization, 0.05);
+    }
+}
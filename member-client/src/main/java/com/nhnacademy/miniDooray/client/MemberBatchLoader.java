@@ -0,0 +1,100 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개별 조회를 모아 한 번의 lookup 으로 보낸다. 같은 ID 는 한 번만 보낸다.
+ * window 가 있으면 첫 조회 후 window 가 지나거나 maxBatchSize 가 차면 보내고,
+ * window 가 없으면 {@link #dispatch()} 를 부를 때까지 모은다.
+ */
+class MemberBatchLoader {
+
+    private final MemberLookupTransport transport;
+    private final TtlCache<String, Optional<MemberInfo>> cache;
+    private final int maxBatchSize;
+    private final Duration window;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<Optional<MemberInfo>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledDispatch;
+
+    MemberBatchLoader(MemberLookupTransport transport, TtlCache<String, Optional<MemberInfo>> cache, int maxBatchSize,
+                      Duration window, ScheduledExecutorService scheduler) {
+        this.transport = transport;
+        this.cache = cache;
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+        this.scheduler = scheduler;
+    }
+
+    CompletableFuture<Optional<MemberInfo>> load(String memberId) {
+        Optional<MemberInfo> cached = cache.get(memberId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<Optional<MemberInfo>> future;
+        Map<String, CompletableFuture<Optional<MemberInfo>>> full = null;
+        synchronized (lock) {
+            future = pending.computeIfAbsent(memberId, id -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (window != null && scheduledDispatch == null) {
+                scheduledDispatch = scheduler.schedule(this::dispatch, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    void dispatch() {
+        Map<String, CompletableFuture<Optional<MemberInfo>>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private Map<String, CompletableFuture<Optional<MemberInfo>>> takePending() {
+        Map<String, CompletableFuture<Optional<MemberInfo>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        return batch;
+    }
+
+    private void send(Map<String, CompletableFuture<Optional<MemberInfo>>> batch) {
+        List<String> memberIds = List.copyOf(batch.keySet());
+        CompletableFuture<Map<String, MemberInfo>> response;
+        try {
+            response = transport.lookup(memberIds);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+
+        response.whenComplete((found, failure) -> batch.forEach((memberId, future) -> {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+                return;
+            }
+            Optional<MemberInfo> member = Optional.ofNullable(found.get(memberId));
+            cache.put(memberId, member);
+            future.complete(member);
+        }));
+    }
+}
@@ -0,0 +1,186 @@
+package com.nhnacademy.miniDooray.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * member-service 조회 클라이언트. 짧은 window 안에 들어온 개별 조회를 한 번의 /members/lookup 으로 묶고,
+ * 결과(없는 ID 포함)를 TTL 동안 로컬에 캐시한다. 요청 단위로 묶으려면 {@link #openScope()} 를 쓴다.
+ *
+ * <pre>{@code
+ * MemberClient client = MemberClient.builder()
+ *         .instances(new DiscoveryClientInstances(discoveryClient, "member-service"))
+ *         .build();
+ * client.load("member1").thenAccept(member -> ...);
+ * }</pre>
+ */
+public class MemberClient implements AutoCloseable {
+
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final MemberLookupTransport transport;
+    private final TtlCache<String, Optional<MemberInfo>> cache;
+    private final MemberBatchLoader loader;
+    private final int maxBatchSize;
+
+    private MemberClient(Builder builder) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(builder.connectTimeout)
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "member-client-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        InstanceSelector instanceSelector = builder.instanceSelector != null
+                ? builder.instanceSelector
+                : new RoundRobinInstanceSelector(builder.instances, builder.quarantine);
+        this.transport = new HttpMemberLookupTransport(httpClient, instanceSelector, builder.objectMapper,
+                builder.requestTimeout);
+        this.cache = new TtlCache<>(builder.cacheTtl, builder.cacheMaxSize);
+        this.maxBatchSize = builder.maxBatchSize;
+        this.loader = new MemberBatchLoader(transport, cache, maxBatchSize, builder.batchWindow, scheduler);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 회원이 없으면 빈 Optional 로 끝난다. 서버 오류나 연결 실패는 {@link MemberClientException} 으로 끝난다.
+     */
+    public CompletableFuture<Optional<MemberInfo>> load(String memberId) {
+        if (memberId == null) {
+            throw new IllegalArgumentException();
+        }
+        return loader.load(memberId);
+    }
+
+    /**
+     * 찾은 회원만 담아 돌려준다.
+     */
+    public CompletableFuture<Map<String, MemberInfo>> loadAll(Collection<String> memberIds) {
+        List<CompletableFuture<Optional<MemberInfo>>> futures = memberIds.stream().map(this::load).toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<String, MemberInfo> found = new HashMap<>();
+            futures.forEach(future -> future.join().ifPresent(member -> found.put(member.id(), member)));
+            return found;
+        });
+    }
+
+    public MemberLookupScope openScope() {
+        return new MemberLookupScope(new MemberBatchLoader(transport, cache, maxBatchSize, null, null));
+    }
+
+    public void invalidate(String memberId) {
+        cache.invalidate(memberId);
+    }
+
+    @Override
+    public void close() {
+        loader.dispatch();
+        scheduler.shutdown();
+        httpClient.close();
+    }
+
+    public static class Builder {
+
+        private Supplier<List<URI>> instances;
+        private InstanceSelector instanceSelector;
+        private ObjectMapper objectMapper = new ObjectMapper();
+        private Duration batchWindow = Duration.ofMillis(2);
+        private int maxBatchSize = 100;
+        private Duration cacheTtl = Duration.ofSeconds(30);
+        private int cacheMaxSize = 10_000;
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration requestTimeout = Duration.ofSeconds(2);
+        private Duration quarantine = Duration.ofSeconds(5);
+
+        private Builder() {
+        }
+
+        /**
+         * 요청마다 다시 읽는 인스턴스 목록. Eureka 를 쓰면 {@link DiscoveryClientInstances} 를 넘긴다.
+         */
+        public Builder instances(Supplier<List<URI>> instances) {
+            this.instances = instances;
+            return this;
+        }
+
+        public Builder instances(URI... instances) {
+            List<URI> fixed = List.of(instances);
+            return instances(() -> fixed);
+        }
+
+        public Builder instanceSelector(InstanceSelector instanceSelector) {
+            this.instanceSelector = instanceSelector;
+            return this;
+        }
+
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        public Builder batchWindow(Duration batchWindow) {
+            this.batchWindow = batchWindow;
+            return this;
+        }
+
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * 0 이면 캐시하지 않는다.
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        public Builder cacheMaxSize(int cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        public Builder quarantine(Duration quarantine) {
+            this.quarantine = quarantine;
+            return this;
+        }
+
+        public MemberClient build() {
+            if (instances == null && instanceSelector == null) {
+                throw new IllegalStateException("instances 나 instanceSelector 를 지정해야 합니다.");
+            }
+            if (maxBatchSize < 1 || batchWindow == null || batchWindow.isNegative()) {
+                throw new IllegalStateException("maxBatchSize 는 1 이상, batchWindow 는 0 이상이어야 합니다.");
+            }
+            return new MemberClient(this);
+        }
+    }
+}
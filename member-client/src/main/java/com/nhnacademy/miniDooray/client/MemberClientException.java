@@ -0,0 +1,11 @@
+package com.nhnacademy.miniDooray.client;
+
+public class MemberClientException extends RuntimeException {
+    public MemberClientException(String message) {
+        super(message);
+    }
+
+    public MemberClientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.nhnacademy.miniDooray.client;
+
+/**
+ * /members/lookup 이 돌려주는 회원 ID 와 이름.
+ */
+public record MemberInfo(String id, String name) {
+}
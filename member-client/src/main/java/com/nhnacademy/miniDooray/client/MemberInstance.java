@@ -0,0 +1,14 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 레지스트리에 등록된 member-service 인스턴스와 그 metadata.
+ */
+public record MemberInstance(URI uri, Map<String, String> metadata) {
+
+    public MemberInstance {
+        metadata = metadata == null ? Map.of() : Map.copyOf(metadata);
+    }
+}
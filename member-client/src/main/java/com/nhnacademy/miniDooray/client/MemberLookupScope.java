@@ -0,0 +1,31 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청 하나를 처리하는 동안의 조회를 모아 두었다가 {@link #dispatch()} 나 close 시점에 한 번에 보낸다.
+ * 화면의 항목을 그리면서 회원을 load 하고, 다 모은 뒤 dispatch 하고 join 하는 식으로 쓴다.
+ * 캐시는 {@link MemberClient} 와 공유한다.
+ */
+public class MemberLookupScope implements AutoCloseable {
+
+    private final MemberBatchLoader loader;
+
+    MemberLookupScope(MemberBatchLoader loader) {
+        this.loader = loader;
+    }
+
+    public CompletableFuture<Optional<MemberInfo>> load(String memberId) {
+        return loader.load(memberId);
+    }
+
+    public void dispatch() {
+        loader.dispatch();
+    }
+
+    @Override
+    public void close() {
+        loader.dispatch();
+    }
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 여러 ID 를 한 번에 조회한다. 없는 ID 는 결과 Map 에서 빠진다.
+ */
+public interface MemberLookupTransport {
+    CompletableFuture<Map<String, MemberInfo>> lookup(List<String> memberIds);
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 인스턴스 목록을 매번 다시 받아 돌아가며 고른다. 연결에 실패한 인스턴스는 quarantine 동안 건너뛰고,
+ * 모두 실패한 상태라면 목록 전체에서 고른다.
+ */
+public class RoundRobinInstanceSelector implements InstanceSelector {
+
+    private final Supplier<List<URI>> instances;
+    private final long quarantineNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<URI, Long> quarantinedUntil = new ConcurrentHashMap<>();
+
+    public RoundRobinInstanceSelector(Supplier<List<URI>> instances, Duration quarantine) {
+        this.instances = instances;
+        this.quarantineNanos = quarantine.toNanos();
+    }
+
+    @Override
+    public URI select() {
+        List<URI> all = instances.get();
+        if (all.isEmpty()) {
+            throw new MemberClientException("사용할 수 있는 member-service 인스턴스가 없습니다.");
+        }
+
+        long now = System.nanoTime();
+        List<URI> healthy = all.stream()
+                .filter(instance -> {
+                    Long until = quarantinedUntil.get(instance);
+                    return until == null || until - now <= 0;
+                })
+                .toList();
+        List<URI> candidates = healthy.isEmpty() ? all : healthy;
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    @Override
+    public void failed(URI instance) {
+        quarantinedUntil.put(instance, System.nanoTime() + quarantineNanos);
+    }
+}
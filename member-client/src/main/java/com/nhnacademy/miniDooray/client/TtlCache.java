@@ -0,0 +1,58 @@
+package com.nhnacademy.miniDooray.client;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 항목마다 만료 시각을 두는 로컬 캐시. 크기가 가득 차면 임의의 항목 하나를 내보낸다.
+ */
+class TtlCache<K, V> {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    TtlCache(Duration ttl, int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    void put(K key, V value) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            Iterator<K> iterator = entries.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.nhnacademy.miniDooray.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadAwareInstanceSelectorTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final URI BUSY = URI.create("http://busy:8080");
+    private static final URI IDLE = URI.create("http://idle:8080");
+
+    private final List<MemberInstance> registry = new CopyOnWriteArrayList<>();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final LoadAwareInstanceSelector selector = new LoadAwareInstanceSelector(() -> registry,
+            LoadAwareInstanceSelector.DEFAULT_STALE_AFTER, Duration.ofSeconds(5), nanoTime::get);
+
+    @Test
+    void picksLessLoadedInstance() {
+        registry.add(instance(BUSY, 50, 200, "0.90", NOW));
+        registry.add(instance(IDLE, 2, 20, "0.10", NOW));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(IDLE, selector.select());
+        }
+    }
+
+    @Test
+    void staleMetadataIsIgnored() {
+        registry.add(instance(BUSY, 50, 200, "0.90", NOW));
+        registry.add(instance(IDLE, 2, 20, "0.10", NOW));
+        assertEquals(IDLE, selector.select());
+
+        // IDLE 은 계속 새 값을 올리고 BUSY 는 전파 지연이 지나도록 그대로다.
+        advance(LoadAwareInstanceSelector.DEFAULT_STALE_AFTER.plusSeconds(1));
+        registry.set(1, instance(IDLE, 2, 20, "0.10", NOW + 110_000));
+
+        assertEquals(Set.of(BUSY, IDLE), selectMany());
+    }
+
+    @Test
+    void metadataIsTrustedForTheWholeEurekaPropagationDelay() {
+        // publish 10초, instance-info-replication 30초, 서버 응답 캐시 30초, registry-fetch 30초
+        assertEquals(Duration.ofSeconds(100), LoadAwareInstanceSelector.DEFAULT_STALE_AFTER);
+        registry.add(instance(BUSY, 50, 200, "0.90", NOW));
+        registry.add(instance(IDLE, 2, 20, "0.10", NOW));
+        assertEquals(IDLE, selector.select());
+
+        // 두 인스턴스 모두 새 값을 올렸지만 아직 이 클라이언트까지 오지 않았다.
+        advance(Duration.ofSeconds(99));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(IDLE, selector.select());
+        }
+
+        advance(Duration.ofSeconds(2));
+        assertEquals(Set.of(BUSY, IDLE), selectMany());
+    }
+
+    @Test
+    void publisherClockSkewDoesNotMatter() {
+        // 서버 시계가 한참 뒤처지거나 앞서 있어도 값이 바뀌는 것만 보므로 점수를 그대로 믿는다.
+        registry.add(instance(BUSY, 50, 200, "0.90", NOW + 3_600_000));
+        registry.add(instance(IDLE, 2, 20, "0.10", 0));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(IDLE, selector.select());
+        }
+    }
+
+    @Test
+    void missingMetadataFallsBackToRandom() {
+        registry.add(new MemberInstance(BUSY, Map.of()));
+        registry.add(instance(IDLE, 2, 20, "0.10", NOW));
+
+        assertEquals(Set.of(BUSY, IDLE), selectMany());
+    }
+
+    @Test
+    void followsRegistryChanges() {
+        registry.add(instance(BUSY, 50, 200, "0.90", NOW));
+        assertEquals(BUSY, selector.select());
+
+        registry.add(instance(IDLE, 2, 20, "0.10", NOW));
+        assertEquals(IDLE, selector.select());
+    }
+
+    @Test
+    void failedInstanceIsSkipped() {
+        registry.add(instance(BUSY, 50, 200, "0.90", NOW));
+        registry.add(instance(IDLE, 2, 20, "0.10", NOW));
+
+        selector.failed(IDLE);
+
+        assertEquals(BUSY, selector.select());
+    }
+
+    @Test
+    void emptyRegistryFails() {
+        assertThrows(MemberClientException.class, selector::select);
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    private Set<URI> selectMany() {
+        Set<URI> selected = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            selected.add(selector.select());
+        }
+        return selected;
+    }
+
+    private MemberInstance instance(URI uri, int inFlight, long p99Millis, String poolUtilization, long updatedAt) {
+        return new MemberInstance(uri, Map.of(
+                LoadMetadata.IN_FLIGHT, Integer.toString(inFlight),
+                LoadMetadata.P99_MILLIS, Long.toString(p99Millis),
+                LoadMetadata.POOL_UTILIZATION, poolUtilization,
+                LoadMetadata.UPDATED_AT, Long.toString(updatedAt)));
+    }
+}
@@ -0,0 +1,149 @@
+package com.nhnacademy.miniDooray.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberClientTest {
+
+    private static final Map<String, String> MEMBERS = Map.of("member1", "회원하나", "member2", "회원둘");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private MemberClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/members/lookup", this::lookup);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void loadsInOneWindowAreBatched() {
+        client = client(Duration.ofMillis(50), serverUri());
+
+        CompletableFuture<Optional<MemberInfo>> first = client.load("member1");
+        CompletableFuture<Optional<MemberInfo>> second = client.load("member2");
+        CompletableFuture<Optional<MemberInfo>> duplicate = client.load("member1");
+
+        assertEquals("회원하나", first.join().orElseThrow().name());
+        assertEquals("회원둘", second.join().orElseThrow().name());
+        assertEquals("회원하나", duplicate.join().orElseThrow().name());
+        assertEquals(List.of(List.of("member1", "member2")), requests);
+    }
+
+    @Test
+    void cachedMembersAreNotRequestedAgain() {
+        client = client(Duration.ZERO, serverUri());
+
+        client.load("member1").join();
+        client.load("member1").join();
+
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void missingIdDoesNotFailTheBatch() {
+        client = client(Duration.ofMillis(50), serverUri());
+
+        Map<String, MemberInfo> found = client.loadAll(List.of("member1", "ghost")).join();
+
+        assertEquals(Map.of("member1", new MemberInfo("member1", "회원하나")), found);
+        assertEquals(1, requests.size());
+        assertEquals(Optional.empty(), client.load("ghost").join());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void scopeSendsOnDispatch() {
+        client = client(Duration.ofMillis(50), serverUri());
+
+        CompletableFuture<Optional<MemberInfo>> first;
+        CompletableFuture<Optional<MemberInfo>> second;
+        try (MemberLookupScope scope = client.openScope()) {
+            first = scope.load("member1");
+            second = scope.load("member2");
+            assertTrue(requests.isEmpty());
+        }
+
+        assertTrue(first.join().isPresent());
+        assertTrue(second.join().isPresent());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void failsOverToAnotherInstance() throws IOException {
+        client = client(Duration.ZERO, unusedUri(), serverUri());
+
+        assertTrue(client.load("member1").join().isPresent());
+        assertTrue(client.load("member2").join().isPresent());
+    }
+
+    private MemberClient client(Duration window, URI... instances) {
+        return MemberClient.builder()
+                .instances(instances)
+                .batchWindow(window)
+                .build();
+    }
+
+    private URI serverUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    private URI unusedUri() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return URI.create("http://127.0.0.1:" + socket.getLocalPort());
+        }
+    }
+
+    private void lookup(HttpExchange exchange) throws IOException {
+        List<String> memberIds = objectMapper.readValue(exchange.getRequestBody(), LookupRequest.class).memberIds();
+        requests.add(memberIds);
+
+        // 실제 서버처럼 partial=true 일 때만 찾은 회원만 돌려주고, 아니면 없는 ID 가 있을 때 404 를 준다.
+        boolean partial = "partial=true".equals(exchange.getRequestURI().getQuery());
+        byte[] body;
+        if (partial || MEMBERS.keySet().containsAll(memberIds)) {
+            exchange.sendResponseHeaders(200, 0);
+            body = objectMapper.writeValueAsBytes(memberIds.stream()
+                    .filter(MEMBERS::containsKey)
+                    .map(id -> new MemberInfo(id, MEMBERS.get(id)))
+                    .toList());
+        } else {
+            exchange.sendResponseHeaders(404, 0);
+            body = "{\"message\":\"해당 ID가 없습니다: \"}".getBytes(StandardCharsets.UTF_8);
+        }
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private record LookupRequest(List<String> memberIds) {
+    }
+}
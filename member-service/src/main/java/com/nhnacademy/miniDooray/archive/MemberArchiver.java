@@ -0,0 +1,167 @@
+package com.nhnacademy.miniDooray.archive;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.ArchivedMember;
+import com.nhnacademy.miniDooray.entity.JobLock;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeBatchEvent;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.repository.ArchivedMemberRepository;
+import com.nhnacademy.miniDooray.repository.JobLockRepository;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 탈퇴한 지 min-age-days 가 지난 회원을 member_archive 로 옮긴다.
+ * chunk 마다 별도 트랜잭션에서 archive 에 넣고 member 에서 지운다. 그 사이 상태가 바뀐 회원이 있으면
+ * 해당 chunk 는 롤백하고 다음 실행에서 다시 판단한다.
+ * 모든 인스턴스가 같은 cron 으로 깨어나므로 job_lock 의 잠금을 얻은 인스턴스만 옮긴다. 잠금은 chunk 마다 연장하고,
+ * 인스턴스가 도중에 죽어도 lock-seconds 가 지나면 다음 실행이 다시 가져간다.
+ * 수정 시각(updatedAt)이 없는 회원은 탈퇴 시점을 알 수 없으므로 옮기지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.archive.enabled", havingValue = "true")
+public class MemberArchiver {
+
+    private static final String LOCK_NAME = "member-archive";
+
+    private final MemberRepository memberRepository;
+    private final ArchivedMemberRepository archivedMemberRepository;
+    private final JobLockRepository jobLockRepository;
+    private final MemberStatistics memberStatistics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int minAgeDays;
+    private final int chunkSize;
+    private final Duration lockDuration;
+    private final String owner = UUID.randomUUID().toString();
+
+    public MemberArchiver(MemberRepository memberRepository,
+                          ArchivedMemberRepository archivedMemberRepository,
+                          JobLockRepository jobLockRepository,
+                          MemberStatistics memberStatistics,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${member.archive.min-age-days:30}") int minAgeDays,
+                          @Value("${member.archive.chunk-size:500}") int chunkSize,
+                          @Value("${member.archive.lock-seconds:3600}") long lockSeconds) {
+        this.memberRepository = memberRepository;
+        this.archivedMemberRepository = archivedMemberRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.memberStatistics = memberStatistics;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minAgeDays = minAgeDays;
+        this.chunkSize = chunkSize;
+        this.lockDuration = Duration.ofSeconds(lockSeconds);
+    }
+
+    @Scheduled(cron = "${member.archive.cron:0 30 3 * * *}")
+    public int archive() {
+        if (!tryLock()) {
+            log.debug("다른 인스턴스가 탈퇴 회원을 옮기고 있어 이번 실행은 건너뜁니다.");
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        int total = 0;
+        try {
+            String afterId = "";
+            List<String> chunk;
+            while (!(chunk = memberRepository.findArchivableIds(
+                    Status.WITHDRAWN, cutoff, afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                if (!tryLock()) {
+                    log.warn("탈퇴 회원을 옮기는 도중 잠금을 잃어 중단합니다.");
+                    break;
+                }
+                total += archiveChunk(chunk);
+                afterId = chunk.get(chunk.size() - 1);
+            }
+        } finally {
+            transactionTemplate.executeWithoutResult(transaction ->
+                    jobLockRepository.release(LOCK_NAME, owner, LocalDateTime.now()));
+        }
+        if (total > 0) {
+            log.info("탈퇴 회원 {}명을 member_archive 로 옮겼습니다.", total);
+        }
+        return total;
+    }
+
+    /**
+     * 잠금이 비어 있거나 이미 이 인스턴스가 가진 경우 lock-seconds 만큼 잡거나 연장한다.
+     * 잠금 행이 아직 없으면 만들고, 동시에 다른 인스턴스가 먼저 만들었으면 얻지 못한 것으로 본다.
+     */
+    private boolean tryLock() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockDuration);
+        Integer acquired = transactionTemplate.execute(transaction ->
+                jobLockRepository.acquire(LOCK_NAME, owner, now, until));
+        if (acquired != null && acquired == 1) {
+            return true;
+        }
+        if (jobLockRepository.existsById(LOCK_NAME)) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(transaction ->
+                    jobLockRepository.saveAndFlush(new JobLock(LOCK_NAME, owner, until)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private int archiveChunk(List<String> memberIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ArchivedMember> archived = transactionTemplate.execute(transaction -> {
+            List<ArchivedMember> moved = memberRepository.findAllById(memberIds).stream()
+                    .filter(member -> member.getStatus() == Status.WITHDRAWN)
+                    .map(member -> new ArchivedMember(member, now))
+                    .toList();
+            if (moved.isEmpty()) {
+                return moved;
+            }
+            archivedMemberRepository.saveAll(moved);
+
+            int deleted = memberRepository.deleteByIdInAndStatus(
+                    moved.stream().map(ArchivedMember::getId).toList(), Status.WITHDRAWN);
+            if (deleted != moved.size()) {
+                transaction.setRollbackOnly();
+                return List.of();
+            }
+            return moved;
+        });
+
+        memberStatistics.recordArchived(archived.size());
+        // 커밋 이후에 알려야 캐시나 디렉터리가 옮기기 전의 행을 다시 읽어 오지 않는다.
+        if (!archived.isEmpty()) {
+            List<MemberChangedEvent> changes = archived.stream()
+                    .map(member -> new MemberChangedEvent(
+                            MemberChangeType.ARCHIVED,
+                            new MemberDto(member.getId(), member.getPassword(), member.getEmail(), member.getName(), member.getStatus()),
+                            member.getChangeSeq(),
+                            member.getUpdatedAt(),
+                            true))
+                    .toList();
+            changes.forEach(eventPublisher::publishEvent);
+            eventPublisher.publishEvent(new MemberChangeBatchEvent(changes));
+        }
+        return archived.size();
+    }
+}
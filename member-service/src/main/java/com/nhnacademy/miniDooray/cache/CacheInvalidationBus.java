@@ -0,0 +1,184 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.dto.InvalidationMessage;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.event.PeerMembersChangedEvent;
+import com.nhnacademy.miniDooray.token.TokenRevocations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 같은 서비스로 등록된 다른 인스턴스들에게 변경된 회원 ID를 모아서 전달한다.
+ * 수신 측은 송신자별 순번을 추적하고, 처음 보는 송신자이거나 순번이 비면 로컬 캐시 전체를 비운다.
+ * 다른 인스턴스에서 가입한 ID 가 없는 ID 로 남지 않도록 {@link NegativeMemberCache} 도 함께 비운다.
+ * 캐시 외에 회원 사본을 가진 컴포넌트가 따라올 수 있도록 받은 변경은 {@link PeerMembersChangedEvent} 로 다시 발행한다.
+ * 토큰 폐기도 같은 메시지에 실어 보낸다. 폐기는 시각의 최댓값만 남기므로 순번과 관계없이 그대로 반영한다.
+ * 전송에 실패한 peer 에게는 다음 flush 에 폐기를 다시 싣는다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private final MemberCache memberCache;
+    private final NegativeMemberCache negativeMemberCache;
+    private final TokenRevocations tokenRevocations;
+    private final DiscoveryClient discoveryClient;
+    private final PeerTransport peerTransport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String serviceId;
+    private final String instanceId;
+    private final int maxBatchSize;
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final Map<String, SourceState> sources = new HashMap<>();
+    private final Map<String, Map<String, Long>> unsentRevocations = new HashMap<>();
+
+    public CacheInvalidationBus(MemberCache memberCache,
+                                NegativeMemberCache negativeMemberCache,
+                                TokenRevocations tokenRevocations,
+                                DiscoveryClient discoveryClient,
+                                PeerTransport peerTransport,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${spring.application.name}") String serviceId,
+                                @Value("${eureka.instance.instance-id:${spring.application.name}}") String instanceId,
+                                @Value("${member.cache.invalidation.max-batch-size:500}") int maxBatchSize) {
+        this.memberCache = memberCache;
+        this.negativeMemberCache = negativeMemberCache;
+        this.tokenRevocations = tokenRevocations;
+        this.discoveryClient = discoveryClient;
+        this.peerTransport = peerTransport;
+        this.eventPublisher = eventPublisher;
+        this.serviceId = serviceId;
+        this.instanceId = instanceId;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        memberCache.invalidate(event.getMemberId());
+        pending.add(event.getMemberId());
+    }
+
+    @Scheduled(fixedDelayString = "${member.cache.invalidation.flush-interval-ms:100}")
+    public void flush() {
+        Map<String, Long> revocations = tokenRevocations.drainUnpublished();
+        if (pending.isEmpty() && revocations.isEmpty() && unsentRevocations.isEmpty()) {
+            return;
+        }
+
+        List<ServiceInstance> peers = discoveryClient.getInstances(serviceId).stream()
+                .filter(instance -> !instanceId.equals(instance.getInstanceId()))
+                .toList();
+        queueRevocations(peers, revocations);
+
+        List<List<String>> batches = drainPending();
+        if (batches.isEmpty()) {
+            batches.add(List.of());
+        }
+        for (List<String> batch : batches) {
+            long messageSequence = sequence.incrementAndGet();
+            for (ServiceInstance peer : peers) {
+                // 폐기는 peer 마다 전송에 성공할 때까지 남겨 두고, 아직 못 보낸 peer 에게만 싣는다.
+                Map<String, Long> unsent = unsentRevocations.getOrDefault(peer.getInstanceId(), Map.of());
+                InvalidationMessage message = new InvalidationMessage(instanceId, epoch, messageSequence, batch, Map.copyOf(unsent));
+                try {
+                    peerTransport.send(peer, message);
+                    unsentRevocations.remove(peer.getInstanceId());
+                } catch (RuntimeException e) {
+                    log.warn("캐시 무효화 메시지 전송 실패. peer: {}, sequence: {}", peer.getInstanceId(), messageSequence, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 새 폐기를 peer 별 미전송 목록에 더한다. 목록에서 사라진 peer 와 ttl 이 지나 의미가 없어진 폐기는 버린다.
+     */
+    private void queueRevocations(List<ServiceInstance> peers, Map<String, Long> revocations) {
+        Set<String> peerIds = new HashSet<>();
+        for (ServiceInstance peer : peers) {
+            peerIds.add(peer.getInstanceId());
+            if (!revocations.isEmpty()) {
+                Map<String, Long> unsent = unsentRevocations.computeIfAbsent(peer.getInstanceId(), key -> new HashMap<>());
+                revocations.forEach((memberId, epochSecond) -> unsent.merge(memberId, epochSecond, Math::max));
+            }
+        }
+        unsentRevocations.keySet().retainAll(peerIds);
+        unsentRevocations.values().forEach(unsent ->
+                unsent.entrySet().removeIf(entry -> tokenRevocations.revokedAt(entry.getKey()) < entry.getValue()));
+        unsentRevocations.values().removeIf(Map::isEmpty);
+    }
+
+    public void receive(InvalidationMessage message) {
+        // listener 가 이 잠금을 잡은 채로 실행되지 않도록 반영과 발행을 나눈다.
+        boolean inOrder = apply(message);
+        if (!inOrder) {
+            eventPublisher.publishEvent(PeerMembersChangedEvent.missed());
+        } else if (!message.getMemberIds().isEmpty()) {
+            eventPublisher.publishEvent(new PeerMembersChangedEvent(message.getMemberIds(), false));
+        }
+    }
+
+    private synchronized boolean apply(InvalidationMessage message) {
+        if (message.getRevocations() != null) {
+            message.getRevocations().forEach(tokenRevocations::revoke);
+        }
+        SourceState previous = sources.put(message.getSourceId(), new SourceState(message.getEpoch(), message.getSequence()));
+
+        boolean inOrder = previous != null
+                && Objects.equals(previous.epoch(), message.getEpoch())
+                && previous.sequence() + 1 == message.getSequence();
+
+        if (inOrder) {
+            memberCache.invalidateAll(message.getMemberIds());
+            negativeMemberCache.invalidateAll(message.getMemberIds());
+        } else {
+            log.info("캐시 무효화 순번 불일치로 전체 캐시를 비웁니다. source: {}, sequence: {}", message.getSourceId(), message.getSequence());
+            memberCache.clear();
+            negativeMemberCache.clear();
+        }
+        return inOrder;
+    }
+
+    private List<List<String>> drainPending() {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+
+        Iterator<String> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == maxBatchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private record SourceState(String epoch, long sequence) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 로컬 회원 캐시.
+ * 조회 시작 시점의 {@link #token()} 이후 무효화가 있었다면 조회 결과를 저장하지 않아
+ * 수정과 동시에 읽은 오래된 값이 캐시에 남지 않는다.
+ */
+@Component
+public class MemberCache {
+
+    private final int maxSize;
+    private final ConcurrentMap<String, MemberDto> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MemberCache(@Value("${member.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public MemberDto get(String memberId) {
+        return entries.get(memberId);
+    }
+
+    public long token() {
+        return invalidations.get();
+    }
+
+    public void putIfUnchanged(String memberId, MemberDto member, long token) {
+        if (token != invalidations.get()) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(memberId)) {
+            evictOne();
+        }
+        entries.put(memberId, member);
+    }
+
+    public void invalidate(String memberId) {
+        invalidations.incrementAndGet();
+        entries.remove(memberId);
+    }
+
+    public void invalidateAll(Collection<String> memberIds) {
+        invalidations.incrementAndGet();
+        memberIds.forEach(entries::remove);
+    }
+
+    public void clear() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictOne() {
+        Iterator<String> iterator = entries.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 정규화한 이메일에서 회원 ID 로 가는 인스턴스 로컬 캐시. 회원 자체는 {@link MemberCache} 에서 ID 로 찾는다.
+ * 이메일이 바뀌어도 옛 주소의 항목을 바로 찾아 지우지 않으므로, 꺼내 쓴 쪽에서 회원의 현재 이메일과 비교해
+ * 다르면 {@link #remove(String, String)} 로 지우고 DB 에서 다시 찾는다.
+ */
+@Component
+public class MemberEmailCache implements MeterBinder {
+
+    private final int maxSize;
+    private final ConcurrentMap<String, String> idsByEmail = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MemberEmailCache(@Value("${member.cache.email.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public String get(String email) {
+        String memberId = idsByEmail.get(email);
+        if (memberId == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return memberId;
+    }
+
+    public void put(String email, String memberId) {
+        if (idsByEmail.size() >= maxSize && !idsByEmail.containsKey(email)) {
+            evictOne();
+        }
+        idsByEmail.put(email, memberId);
+    }
+
+    public void remove(String email, String memberId) {
+        idsByEmail.remove(email, memberId);
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        String email = event.getMember().getEmail();
+        if (event.getType() == MemberChangeType.ARCHIVED) {
+            remove(email, event.getMemberId());
+        } else if (email != null) {
+            put(email, event.getMemberId());
+        }
+    }
+
+    public int size() {
+        return idsByEmail.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.cache.email.lookups", this, MemberEmailCache::getHits)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("member.cache.email.lookups", this, MemberEmailCache::getMisses)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    private void evictOne() {
+        Iterator<String> iterator = idsByEmail.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 에 없던 회원 ID 를 짧은 TTL 동안 기억해 같은 ID 의 반복 조회가 DB 까지 내려가지 않게 한다.
+ * 가입이나 다른 인스턴스의 무효화 메시지가 오면 바로 지운다. {@link MemberCache} 와 같이 조회 시작 시점의
+ * {@link #token()} 이후 무효화가 있었다면 저장하지 않아, 조회와 겹친 가입이 없는 ID 로 남지 않는다.
+ * 크기가 가득 차면 임의의 항목 하나를 내보내므로 없는 ID 가 쏟아져도 메모리는 max-size 를 넘지 않는다.
+ * 만료된 항목은 조회할 때 지운다.
+ */
+@Component
+public class NegativeMemberCache implements MeterBinder {
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final ConcurrentMap<String, Long> expiresAt = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public NegativeMemberCache(@Value("${member.cache.negative.ttl-ms:30000}") long ttlMillis,
+                               @Value("${member.cache.negative.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    public boolean isKnownMissing(String memberId) {
+        return isKnownMissing(memberId, System.currentTimeMillis());
+    }
+
+    boolean isKnownMissing(String memberId, long now) {
+        Long expiry = expiresAt.get(memberId);
+        if (expiry != null && expiry > now) {
+            hits.increment();
+            return true;
+        }
+        if (expiry != null) {
+            expiresAt.remove(memberId, expiry);
+        }
+        misses.increment();
+        return false;
+    }
+
+    public long token() {
+        return invalidations.get();
+    }
+
+    public void putIfUnchanged(String memberId, long token) {
+        putIfUnchanged(memberId, token, System.currentTimeMillis());
+    }
+
+    void putIfUnchanged(String memberId, long token, long now) {
+        if (token != invalidations.get()) {
+            return;
+        }
+        if (expiresAt.size() >= maxSize && !expiresAt.containsKey(memberId)) {
+            evictOne();
+        }
+        expiresAt.put(memberId, now + ttlMillis);
+    }
+
+    public void invalidate(String memberId) {
+        invalidations.incrementAndGet();
+        expiresAt.remove(memberId);
+    }
+
+    public void invalidateAll(Collection<String> memberIds) {
+        invalidations.incrementAndGet();
+        memberIds.forEach(expiresAt::remove);
+    }
+
+    public void clear() {
+        invalidations.incrementAndGet();
+        expiresAt.clear();
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate(event.getMemberId());
+    }
+
+    public int size() {
+        return expiresAt.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.cache.negative.lookups", this, NegativeMemberCache::getHits)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("member.cache.negative.lookups", this, NegativeMemberCache::getMisses)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("member.cache.negative.evictions", this, NegativeMemberCache::getEvictions)
+                .register(registry);
+        Gauge.builder("member.cache.negative.size", this, NegativeMemberCache::size)
+                .register(registry);
+    }
+
+    private void evictOne() {
+        Iterator<String> iterator = expiresAt.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.nhnacademy.miniDooray.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 인스턴스끼리 주고받는 내부 요청을 확인하는 공유 비밀값. 모든 인스턴스가 같은 값을 가져야 한다.
+ * 이 값이 없으면 누구나 캐시를 비우거나 토큰 폐기를 넣을 수 있으므로 설정하지 않으면 시작하지 않는다.
+ */
+@Component
+public class PeerAuthentication {
+
+    public static final String HEADER = "X-Member-Peer-Secret";
+
+    private final byte[] secret;
+
+    public PeerAuthentication(@Value("${member.cache.invalidation.secret:}") String secret) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("member.cache.invalidation.secret 이 설정되지 않았습니다.");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String getSecret() {
+        return new String(secret, StandardCharsets.UTF_8);
+    }
+
+    public boolean matches(String presented) {
+        return presented != null && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
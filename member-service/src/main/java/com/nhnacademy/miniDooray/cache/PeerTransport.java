@@ -0,0 +1,8 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.dto.InvalidationMessage;
+import org.springframework.cloud.client.ServiceInstance;
+
+public interface PeerTransport {
+    void send(ServiceInstance peer, InvalidationMessage message);
+}
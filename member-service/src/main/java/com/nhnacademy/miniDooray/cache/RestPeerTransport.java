@@ -0,0 +1,39 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.dto.InvalidationMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+public class RestPeerTransport implements PeerTransport {
+
+    private static final String INVALIDATION_PATH = "/internal/cache/invalidations";
+
+    private final RestClient restClient;
+    private final PeerAuthentication peerAuthentication;
+
+    public RestPeerTransport(RestClient.Builder builder,
+                             PeerAuthentication peerAuthentication,
+                             @Value("${member.cache.invalidation.timeout-ms:500}") int timeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restClient = builder.requestFactory(requestFactory).build();
+        this.peerAuthentication = peerAuthentication;
+    }
+
+    @Override
+    public void send(ServiceInstance peer, InvalidationMessage message) {
+        restClient.post()
+                .uri(peer.getUri().resolve(INVALIDATION_PATH))
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(PeerAuthentication.HEADER, peerAuthentication.getSecret())
+                .body(message)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,111 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.exception.OverloadedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합친다.
+ * 먼저 들어온 호출이 직접 조회하고, 뒤따르는 호출은 그 결과(예외 포함)를 최대 timeout 동안 기다려 공유한다.
+ */
+@Component
+public class SingleFlight implements MeterBinder {
+
+    private final long timeoutMillis;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(@Value("${member.single-flight.timeout-ms:2000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing == null) {
+            leaders.increment();
+            try {
+                T value = loader.get();
+                created.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, created);
+            }
+        }
+
+        collapsed.increment();
+        return (T) await(existing);
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        inFlight.remove(event.getMemberId());
+    }
+
+    public long getLeaders() {
+        return leaders.sum();
+    }
+
+    public long getCollapsed() {
+        return collapsed.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.single-flight.calls", this, SingleFlight::getLeaders)
+                .tag("role", "leader")
+                .register(registry);
+        FunctionCounter.builder("member.single-flight.calls", this, SingleFlight::getCollapsed)
+                .tag("role", "collapsed")
+                .register(registry);
+        FunctionCounter.builder("member.single-flight.timeouts", this, SingleFlight::getTimeouts)
+                .register(registry);
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new OverloadedException("회원 조회가 지연되고 있습니다. 잠시 후 다시 시도해 주세요.", 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
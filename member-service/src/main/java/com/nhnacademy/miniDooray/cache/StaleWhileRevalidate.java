@@ -0,0 +1,204 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.exception.OverloadedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 마지막으로 읽었던 값이 있는 회원은 DB 조회에 기한을 둔다. 조회는 호출한 스레드에서 하므로 호출자의 트랜잭션 설정을 그대로 따르고,
+ * 트랜잭션 밖이면 기한(초 단위로 올림, 최소 1초)을 timeout 으로 둔 읽기 전용 트랜잭션에서 읽는다.
+ * 기한을 넘기거나 DB 오류가 나면 마지막 값을 stale 로 표시해 돌려주고, 뒤에서 몇 번 더 다시 읽어 본다.
+ * 마지막 값이 없는 회원은 기한 없이 읽고, DB 오류가 나면 503 으로 실패한다.
+ * 조회를 시작한 뒤 회원이 바뀌었으면 읽은 값이 더 오래됐을 수 있으므로 마지막 값으로 남기지 않는다.
+ * stale 표시는 현재 요청의 속성으로 남기며 {@link StaleResponseAdvice} 가 응답 헤더로 옮긴다.
+ */
+@Component
+public class StaleWhileRevalidate implements MeterBinder {
+
+    public static final String STALE_HEADER = "X-Stale-Data";
+    static final String STALE_ATTRIBUTE = StaleWhileRevalidate.class.getName() + ".stale";
+
+    private final Executor executor;
+    private final TransactionTemplate deadlineTransaction;
+    private final TransactionTemplate refreshTransaction;
+    private final int maxSize;
+    private final int refreshRetries;
+    private final long refreshBackoffMillis;
+
+    private final ConcurrentMap<String, MemberDto> lastKnown = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong changes = new AtomicLong();
+
+    private final LongAdder fresh = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder unavailable = new LongAdder();
+    private final LongAdder refreshed = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public StaleWhileRevalidate(@Qualifier("memberServiceExecutor") Executor executor,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${member.stale.deadline-ms:1000}") long deadlineMillis,
+                                @Value("${member.stale.max-size:50000}") int maxSize,
+                                @Value("${member.stale.refresh-retries:3}") int refreshRetries,
+                                @Value("${member.stale.refresh-backoff-ms:1000}") long refreshBackoffMillis) {
+        this.executor = executor;
+        this.deadlineTransaction = new TransactionTemplate(transactionManager);
+        this.deadlineTransaction.setReadOnly(true);
+        this.deadlineTransaction.setTimeout((int) Math.max(1, (deadlineMillis + 999) / 1000));
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setReadOnly(true);
+        this.maxSize = maxSize;
+        this.refreshRetries = refreshRetries;
+        this.refreshBackoffMillis = refreshBackoffMillis;
+    }
+
+    public Optional<MemberDto> load(String memberId, Supplier<Optional<MemberDto>> loader) {
+        long token = changes.get();
+        try {
+            Optional<MemberDto> loaded = lastKnown.containsKey(memberId) ? withDeadline(loader) : loader.get();
+            fresh.increment();
+            rememberIfUnchanged(memberId, loaded, token);
+            return loaded;
+        } catch (DataAccessException | TransactionException e) {
+            return serveStale(memberId, loader);
+        }
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        changes.incrementAndGet();
+        if (event.getType() == MemberChangeType.ARCHIVED) {
+            lastKnown.remove(event.getMemberId());
+        } else {
+            remember(event.getMemberId(), Optional.of(event.getMember()));
+        }
+    }
+
+    public long getFresh() {
+        return fresh.sum();
+    }
+
+    public long getStale() {
+        return stale.sum();
+    }
+
+    public long getUnavailable() {
+        return unavailable.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.stale.reads", this, StaleWhileRevalidate::getFresh)
+                .tag("result", "fresh")
+                .register(registry);
+        FunctionCounter.builder("member.stale.reads", this, StaleWhileRevalidate::getStale)
+                .tag("result", "stale")
+                .register(registry);
+        FunctionCounter.builder("member.stale.reads", this, StaleWhileRevalidate::getUnavailable)
+                .tag("result", "unavailable")
+                .register(registry);
+        FunctionCounter.builder("member.stale.refreshes", refreshed, LongAdder::sum)
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder("member.stale.refreshes", refreshFailures, LongAdder::sum)
+                .tag("result", "failure")
+                .register(registry);
+    }
+
+    /**
+     * 이미 트랜잭션 안이면 호출자의 timeout 이 적용되므로 그대로 읽는다.
+     */
+    private Optional<MemberDto> withDeadline(Supplier<Optional<MemberDto>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        return deadlineTransaction.execute(status -> loader.get());
+    }
+
+    private Optional<MemberDto> serveStale(String memberId, Supplier<Optional<MemberDto>> loader) {
+        MemberDto last = lastKnown.get(memberId);
+        if (last == null) {
+            unavailable.increment();
+            throw new OverloadedException("회원 조회가 지연되고 있습니다. 잠시 후 다시 시도해 주세요.", 1);
+        }
+
+        stale.increment();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(STALE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        if (refreshing.add(memberId)) {
+            refresh(memberId, loader, 1);
+        }
+        return Optional.of(last);
+    }
+
+    /**
+     * 다시 읽기는 기다리는 호출자가 없으므로 실행기에서 자체 읽기 전용 트랜잭션으로 돌린다.
+     */
+    private void refresh(String memberId, Supplier<Optional<MemberDto>> loader, int attempt) {
+        Executor delayed = CompletableFuture.delayedExecutor(refreshBackoffMillis * attempt, TimeUnit.MILLISECONDS, executor);
+        CompletableFuture.runAsync(() -> {
+            long token = changes.get();
+            rememberIfUnchanged(memberId, refreshTransaction.execute(status -> loader.get()), token);
+        }, delayed).whenComplete((ignored, failure) -> {
+            if (failure == null) {
+                refreshed.increment();
+                refreshing.remove(memberId);
+            } else if (attempt < refreshRetries) {
+                refresh(memberId, loader, attempt + 1);
+            } else {
+                refreshFailures.increment();
+                refreshing.remove(memberId);
+            }
+        });
+    }
+
+    private void rememberIfUnchanged(String memberId, Optional<MemberDto> loaded, long token) {
+        if (token == changes.get()) {
+            remember(memberId, loaded);
+        }
+    }
+
+    private void remember(String memberId, Optional<MemberDto> loaded) {
+        if (loaded.isEmpty()) {
+            lastKnown.remove(memberId);
+            return;
+        }
+        if (lastKnown.size() >= maxSize && !lastKnown.containsKey(memberId)) {
+            Iterator<String> iterator = lastKnown.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        lastKnown.put(memberId, loaded.get());
+    }
+}
@@ -0,0 +1,21 @@
+package com.nhnacademy.miniDooray.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService memberServiceExecutor(@Value("${member.async.virtual-threads:true}") boolean virtualThreads,
+                                                 @Value("${member.async.pool-size:32}") int poolSize) {
+        if (virtualThreads) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newFixedThreadPool(poolSize);
+    }
+}
@@ -0,0 +1,38 @@
+package com.nhnacademy.miniDooray.config;
+
+import com.nhnacademy.miniDooray.health.CachedHealthIndicator;
+import com.nhnacademy.miniDooray.health.RepositoryFailureTracker;
+import com.nhnacademy.miniDooray.health.RepositoryFailureTrackingPostProcessor;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 기본 db health indicator(management.health.db.enabled=false 로 끈다) 대신 백그라운드에서 점검하고
+ * 결과를 캐시하는 indicator 를 같은 이름 "db" 로 등록한다.
+ */
+@Configuration
+public class HealthConfig {
+
+    @Bean
+    static RepositoryFailureTrackingPostProcessor repositoryFailureTrackingPostProcessor(
+            ObjectProvider<RepositoryFailureTracker> tracker) {
+        return new RepositoryFailureTrackingPostProcessor(tracker, Set.of(MemberRepository.class));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public CachedHealthIndicator dbHealthIndicator(DataSource dataSource,
+                                                   RepositoryFailureTracker tracker,
+                                                   @Value("${member.health.db.refresh-interval-ms:5000}") long refreshIntervalMillis,
+                                                   @Value("${member.health.db.max-age-ms:15000}") long maxAgeMillis) {
+        return new CachedHealthIndicator("db", new DataSourceHealthIndicator(dataSource), tracker,
+                Duration.ofMillis(refreshIntervalMillis), Duration.ofMillis(maxAgeMillis));
+    }
+}
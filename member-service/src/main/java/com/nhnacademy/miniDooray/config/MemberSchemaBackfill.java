@@ -0,0 +1,78 @@
+package com.nhnacademy.miniDooray.config;
+
+import com.nhnacademy.miniDooray.entity.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * name_key 컬럼이 생기기 전부터 있던 행을 채우고, MySQL 에서는 name_key/email 을 binary collation 으로 맞춘다.
+ * ddl-auto=update 는 NOT NULL 컬럼을 추가하면서 기존 행에 빈 문자열을 넣으므로, 채우지 않으면 그 회원들은 이름 검색에서 빠진다.
+ * 검색 정렬은 DB 경로와 메모리 색인, SearchCursor 가 모두 문자 코드 순서여야 페이지가 어긋나지 않는다.
+ * 준비 완료 시점에 적재하는 색인과 디렉터리보다 먼저 돌도록 ContextRefreshedEvent 에서 실행한다.
+ * 운영(ddl-auto=validate)은 db/member-name-key.sql 을 먼저 적용해야 시작할 수 있고, 기존 행의 name_key 는 여기서 채운다.
+ */
+@Slf4j
+@Component
+public class MemberSchemaBackfill {
+
+    private static final String BINARY_COLLATION = "utf8mb4_bin";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public MemberSchemaBackfill(JdbcTemplate jdbcTemplate,
+                                @Value("${member.schema.backfill-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void backfill() {
+        if (isMySql()) {
+            useBinaryCollation();
+        }
+
+        int filled = 0;
+        List<Map<String, Object>> rows;
+        while (!(rows = jdbcTemplate.queryForList(
+                "select id, name from member where (name_key is null or name_key = '') and name is not null limit ?",
+                batchSize)).isEmpty()) {
+            jdbcTemplate.batchUpdate("update member set name_key = ? where id = ?", rows.stream()
+                    .map(row -> new Object[]{Member.normalizeName((String) row.get("name")), row.get("id")})
+                    .toList());
+            filled += rows.size();
+        }
+        if (filled > 0) {
+            log.info("name_key 가 비어 있던 회원 {}명을 채웠습니다.", filled);
+        }
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private void useBinaryCollation() {
+        List<Map<String, Object>> columns = jdbcTemplate.queryForList(
+                "select column_name, column_type, collation_name from information_schema.columns " +
+                        "where table_schema = database() and table_name = 'member' and column_name in ('name_key', 'email')");
+        for (Map<String, Object> column : columns) {
+            if (BINARY_COLLATION.equals(column.get("collation_name"))) {
+                continue;
+            }
+            String name = (String) column.get("column_name");
+            log.info("member.{} 을 {} collation 으로 바꿉니다.", name, BINARY_COLLATION);
+            jdbcTemplate.execute("alter table member modify " + name + " " + column.get("column_type")
+                    + " character set utf8mb4 collate " + BINARY_COLLATION + " not null");
+        }
+    }
+}
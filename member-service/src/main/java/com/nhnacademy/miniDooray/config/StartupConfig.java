@@ -0,0 +1,41 @@
+package com.nhnacademy.miniDooray.config;
+
+import com.nhnacademy.miniDooray.archive.MemberArchiver;
+import com.nhnacademy.miniDooray.cache.CacheInvalidationBus;
+import com.nhnacademy.miniDooray.directory.MemberDirectory;
+import com.nhnacademy.miniDooray.health.CachedHealthIndicator;
+import com.nhnacademy.miniDooray.journal.MemberJournalRecorder;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimiters;
+import com.nhnacademy.miniDooray.load.LoadMetadataPublisher;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import com.nhnacademy.miniDooray.stream.MemberChangeStream;
+import com.nhnacademy.miniDooray.token.TokenRevocations;
+import com.nhnacademy.miniDooray.token.TokenService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * spring.main.lazy-initialization=true 로 띄울 때도 시작 시점에 만들어져 있어야 하는 빈.
+ * 스케줄 작업을 가지거나 준비 완료 시점에 데이터를 적재하는 빈, 설정이 잘못되면 시작을 막아야 하는 빈이 여기에 해당한다.
+ * lazy 빈의 {@code @Scheduled} 메서드는 빈이 처음 만들어질 때에야 등록되므로 새 스케줄 작업을 추가하면 여기에도 넣는다.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerMemberBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                CacheInvalidationBus.class,
+                MemberDirectory.class,
+                ConcurrencyLimiters.class,
+                LoadMetadataPublisher.class,
+                CachedHealthIndicator.class,
+                MemberStatistics.class,
+                TokenRevocations.class,
+                TokenService.class,
+                MemberJournalRecorder.class,
+                MemberArchiver.class,
+                MemberChangeStream.class);
+    }
+}
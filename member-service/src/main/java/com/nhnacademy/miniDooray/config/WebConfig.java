@@ -0,0 +1,29 @@
+package com.nhnacademy.miniDooray.config;
+
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimitInterceptor;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimiters;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimiters concurrencyLimiters;
+
+    public WebConfig(Environment environment) {
+        this.concurrencyLimiters = ConcurrencyLimiters.from(environment);
+    }
+
+    @Bean
+    public ConcurrencyLimiters concurrencyLimiters() {
+        return concurrencyLimiters;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiters));
+    }
+}
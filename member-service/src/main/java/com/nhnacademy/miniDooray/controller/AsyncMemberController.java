@@ -0,0 +1,50 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+import com.nhnacademy.miniDooray.dto.MemberRequest;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimited;
+import com.nhnacademy.miniDooray.limit.RouteGroup;
+import com.nhnacademy.miniDooray.service.AsyncMemberService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RequestMapping("/async/members")
+@RequiredArgsConstructor
+@RestController
+public class AsyncMemberController {
+
+    private final AsyncMemberService asyncMemberService;
+
+    @Operation(summary = "Get a member by ID without holding a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Member found"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden to this member's data"),
+            @ApiResponse(responseCode = "404", description = "Member not found"),
+            @ApiResponse(responseCode = "504", description = "Lookup did not finish in time")
+    })
+    @ConcurrencyLimited(RouteGroup.READ)
+    @GetMapping("/{memberId}")
+    public CompletableFuture<ResponseEntity<MemberDto>> getMember(@PathVariable String memberId) {
+        return asyncMemberService.getMember(memberId).thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Lookup members by their IDs without holding a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Members found"),
+            @ApiResponse(responseCode = "400", description = "Invalid member IDs"),
+            @ApiResponse(responseCode = "504", description = "Lookup did not finish in time")
+    })
+    @ConcurrencyLimited(RouteGroup.READ)
+    @PostMapping("/lookup")
+    public CompletableFuture<ResponseEntity<List<MemberInfoDto>>> lookupMembers(@RequestBody MemberRequest memberRequest) {
+        return asyncMemberService.lookupMembers(memberRequest.getMemberIds()).thenApply(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.cache.CacheInvalidationBus;
+import com.nhnacademy.miniDooray.cache.PeerAuthentication;
+import com.nhnacademy.miniDooray.dto.InvalidationMessage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/internal/cache")
+@RequiredArgsConstructor
+@RestController
+public class CacheInvalidationController {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final PeerAuthentication peerAuthentication;
+
+    @Operation(summary = "Receive cache invalidations from a peer instance")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Invalidation applied"),
+            @ApiResponse(responseCode = "403", description = "Missing or wrong peer secret")
+    })
+    @PostMapping("/invalidations")
+    public ResponseEntity<Void> receiveInvalidation(@RequestHeader(value = PeerAuthentication.HEADER, required = false) String secret,
+                                                    @RequestBody InvalidationMessage message) {
+        if (!peerAuthentication.matches(secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        cacheInvalidationBus.receive(message);
+        return ResponseEntity.noContent().build();
+    }
+}
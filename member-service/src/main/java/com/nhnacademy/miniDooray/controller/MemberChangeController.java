@@ -0,0 +1,36 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.dto.MemberChangesResponse;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimited;
+import com.nhnacademy.miniDooray.limit.RouteGroup;
+import com.nhnacademy.miniDooray.service.MemberChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/members")
+@RequiredArgsConstructor
+@RestController
+public class MemberChangeController {
+
+    private final MemberChangeFeedService memberChangeFeedService;
+
+    @Operation(summary = "Get member changes after a cursor, in change order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes and the cursor to continue from"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+    })
+    @ConcurrencyLimited(RouteGroup.READ)
+    @GetMapping("/changes")
+    public ResponseEntity<MemberChangesResponse> getChanges(@RequestParam(required = false) String since,
+                                                            @RequestParam(defaultValue = "100") int size) {
+        MemberChangesResponse response = memberChangeFeedService.getChanges(since, size);
+        return ResponseEntity.ok(response);
+    }
+}
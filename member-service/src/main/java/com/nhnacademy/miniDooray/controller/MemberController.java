@@ -1,14 +1,22 @@
 package com.nhnacademy.miniDooray.controller;
 
 import com.nhnacademy.miniDooray.dto.*;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.exception.IdNotFoundException;
 import com.nhnacademy.miniDooray.exception.IllegalIdOrPasswordException;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimited;
+import com.nhnacademy.miniDooray.limit.LoginThrottle;
+import com.nhnacademy.miniDooray.limit.RouteGroup;
 import com.nhnacademy.miniDooray.service.MemberService;
+import com.nhnacademy.miniDooray.token.TokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -22,13 +30,16 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
+    private final TokenService tokenService;
+    private final LoginThrottle loginThrottle;
 
     @Operation(summary = "Register a new member")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Member successfully registered"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
-            @ApiResponse(responseCode = "409", description = "Member ID already exists")
+            @ApiResponse(responseCode = "409", description = "Member ID or email already exists")
     })
+    @ConcurrencyLimited(RouteGroup.WRITE)
     @PostMapping("/register")
     public ResponseEntity<MemberDto> registerMember(@Validated @RequestBody RegisterRequest registerRequest) {
         MemberDto registerDto = memberService.registerMember(registerRequest);
@@ -42,6 +53,7 @@ public class MemberController {
             @ApiResponse(responseCode = "403", description = "Access forbidden to this member's data"),
             @ApiResponse(responseCode = "404", description = "Member not found")
     })
+    @ConcurrencyLimited(RouteGroup.READ)
     @GetMapping("/{memberId}")
     public ResponseEntity<MemberDto> getMember(@PathVariable String memberId) {
         MemberDto memberDto = memberService.getMember(memberId);
@@ -49,15 +61,30 @@ public class MemberController {
     }
 
 
+    @Operation(summary = "Get a member by email")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Member found"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden to this member's data"),
+            @ApiResponse(responseCode = "404", description = "Member not found")
+    })
+    @ConcurrencyLimited(RouteGroup.READ)
+    @GetMapping("/by-email")
+    public ResponseEntity<MemberDto> getMemberByEmail(@RequestParam String email) {
+        MemberDto memberDto = memberService.getMemberByEmail(email);
+        return ResponseEntity.ok(memberDto);
+    }
+
+
     @Operation(summary = "Get all members with pagination")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Members retrieved"),
             @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
     })
+    @ConcurrencyLimited(RouteGroup.LIST)
     @GetMapping
-    public ResponseEntity<Page<MemberDto>> getMembers(Pageable pageable) {
+    public ResponseEntity<MemberPage> getMembers(Pageable pageable) {
         Page<MemberDto> memberDtoList = memberService.getMembers(pageable.getPageNumber(), pageable.getPageSize());
-        return ResponseEntity.ok(memberDtoList);
+        return ResponseEntity.ok(MemberPage.from(memberDtoList));
     }
 
 
@@ -66,6 +93,7 @@ public class MemberController {
             @ApiResponse(responseCode = "200", description = "Member updated"),
             @ApiResponse(responseCode = "404", description = "Member not found")
     })
+    @ConcurrencyLimited(RouteGroup.WRITE)
     @PutMapping("/{memberId}")
     public ResponseEntity<MemberDto> updateMember(@PathVariable String memberId, @Validated @RequestBody UpdateRequest updateRequest) {
         MemberDto updateMember = memberService.updateMember(memberId, updateRequest);
@@ -78,6 +106,7 @@ public class MemberController {
             @ApiResponse(responseCode = "204", description = "Member status updated to WITHDRAWN"),
             @ApiResponse(responseCode = "404", description = "Member not found")
     })
+    @ConcurrencyLimited(RouteGroup.WRITE)
     @DeleteMapping("/{memberId}")
     public ResponseEntity<Void> deleteMember(@PathVariable String memberId) {
         memberService.deleteMember(memberId);
@@ -87,28 +116,55 @@ public class MemberController {
 
     @Operation(summary = "Login")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Login successful"),
-            @ApiResponse(responseCode = "401", description = "Invalid member ID or password")
+            @ApiResponse(responseCode = "204", description = "Login successful. A signed token is returned in the Authorization header"),
+            @ApiResponse(responseCode = "401", description = "Invalid member ID, email or password"),
+            @ApiResponse(responseCode = "429", description = "Too many failed logins for this member or client. Retry after the Retry-After header")
     })
+    @ConcurrencyLimited(RouteGroup.LOGIN)
     @PostMapping("/login")
-    public ResponseEntity<Void> doLogin(@RequestBody @Validated LoginRequest loginRequest) {
-
-        if (!memberService.matches(loginRequest.getId(), loginRequest.getPassword())) {
-            throw new IllegalIdOrPasswordException("Id 나 Password가 일치하지 않습니다.");
+    public ResponseEntity<Void> doLogin(@RequestBody @Validated LoginRequest loginRequest, HttpServletRequest request) {
+        String loginKey = loginRequest.getEmail() != null
+                ? Member.normalizeEmail(loginRequest.getEmail())
+                : loginRequest.getId();
+        // server.forward-headers-strategy 로 gateway 뒤의 실제 클라이언트 주소가 들어온다.
+        String clientAddress = request.getRemoteAddr();
+        // 막힌 회원이나 클라이언트는 DB 를 보기 전에 거절한다.
+        loginThrottle.check(loginKey, clientAddress);
+
+        MemberDto member;
+        try {
+            if (loginRequest.getEmail() != null) {
+                member = memberService.authenticateByEmail(loginRequest.getEmail(), loginRequest.getPassword());
+            } else {
+                if (!memberService.matches(loginRequest.getId(), loginRequest.getPassword())) {
+                    throw new IllegalIdOrPasswordException("Id 나 Password가 일치하지 않습니다.");
+                }
+                member = memberService.getMember(loginRequest.getId());
+            }
+        } catch (IllegalIdOrPasswordException | IdNotFoundException e) {
+            loginThrottle.recordFailure(loginKey, clientAddress);
+            throw e;
         }
 
-        return ResponseEntity.noContent().build();
+        String token = tokenService.issue(member);
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .build();
     }
 
 
     @Operation(summary = "Lookup members by their IDs")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Members found"),
-            @ApiResponse(responseCode = "400", description = "Invalid member IDs")
+            @ApiResponse(responseCode = "400", description = "Invalid member IDs"),
+            @ApiResponse(responseCode = "404", description = "Member not found. Archived members are only found with includeArchived=true")
     })
+    @ConcurrencyLimited(RouteGroup.READ)
     @PostMapping("/lookup")
-    public ResponseEntity<List<MemberInfoDto>> lookupMembers(@RequestBody MemberRequest memberRequest){
-        List<MemberInfoDto> memberInfoList = memberService.lookupMembers(memberRequest.getMemberIds());
+    public ResponseEntity<List<MemberInfoDto>> lookupMembers(@RequestBody MemberRequest memberRequest,
+                                                             @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                             @RequestParam(defaultValue = "false") boolean partial){
+        List<MemberInfoDto> memberInfoList = memberService.lookupMembers(memberRequest.getMemberIds(), includeArchived, partial);
         return ResponseEntity.ok(memberInfoList);
     }
 
@@ -0,0 +1,39 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.dto.MemberSearchResponse;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimited;
+import com.nhnacademy.miniDooray.limit.RouteGroup;
+import com.nhnacademy.miniDooray.search.SearchField;
+import com.nhnacademy.miniDooray.service.MemberSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/members")
+@RequiredArgsConstructor
+@RestController
+public class MemberSearchController {
+
+    private final MemberSearchService memberSearchService;
+
+    @Operation(summary = "Search members by name or email prefix")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching members and the cursor for the next page"),
+            @ApiResponse(responseCode = "400", description = "Invalid field, prefix, size or cursor")
+    })
+    @ConcurrencyLimited(RouteGroup.READ)
+    @GetMapping("/search")
+    public ResponseEntity<MemberSearchResponse> searchMembers(@RequestParam SearchField field,
+                                                              @RequestParam String prefix,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        MemberSearchResponse response = memberSearchService.search(field, prefix, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
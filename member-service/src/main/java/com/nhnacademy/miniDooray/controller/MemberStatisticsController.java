@@ -0,0 +1,31 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.dto.MemberStatisticsResponse;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/members")
+@RequiredArgsConstructor
+@RestController
+public class MemberStatisticsController {
+
+    private final MemberStatistics memberStatistics;
+
+    @Operation(summary = "Get member counts per status and registrations per day",
+            description = "Counters are kept per instance. Writes handled by other instances appear after the next "
+                    + "reconciliation (member.statistics.reconcile-interval-ms), so instances may briefly disagree.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics served from this instance's in-memory counters")
+    })
+    @GetMapping("/statistics")
+    public ResponseEntity<MemberStatisticsResponse> getStatistics() {
+        return ResponseEntity.ok(memberStatistics.snapshot());
+    }
+}
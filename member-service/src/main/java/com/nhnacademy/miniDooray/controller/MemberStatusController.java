@@ -0,0 +1,37 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.dto.BulkStatusRequest;
+import com.nhnacademy.miniDooray.dto.BulkStatusResponse;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimited;
+import com.nhnacademy.miniDooray.limit.RouteGroup;
+import com.nhnacademy.miniDooray.service.MemberStatusService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/members")
+@RequiredArgsConstructor
+@RestController
+public class MemberStatusController {
+
+    private final MemberStatusService memberStatusService;
+
+    @Operation(summary = "Change the status of many members at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-member transition outcomes. With fromStatus at most max-member-ids members are changed per call; repeat with afterId = nextAfterId until it is null"),
+            @ApiResponse(responseCode = "400", description = "Neither member IDs nor a status filter given")
+    })
+    @ConcurrencyLimited(RouteGroup.WRITE)
+    @PostMapping("/status-transitions")
+    public ResponseEntity<BulkStatusResponse> changeStatuses(@Validated @RequestBody BulkStatusRequest bulkStatusRequest) {
+        BulkStatusResponse response = memberStatusService.changeStatuses(bulkStatusRequest);
+        return ResponseEntity.ok(response);
+    }
+}
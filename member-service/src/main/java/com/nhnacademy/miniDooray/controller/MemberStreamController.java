@@ -0,0 +1,30 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.stream.MemberChangeStream;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RequestMapping("/members")
+@RequiredArgsConstructor
+@RestController
+public class MemberStreamController {
+
+    private final MemberChangeStream memberChangeStream;
+
+    @Operation(summary = "Stream member changes as Server-Sent Events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream. A 'reset' event means the client must catch up through /members/changes")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return memberChangeStream.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,55 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.dto.TokenRevocation;
+import com.nhnacademy.miniDooray.exception.InvalidTokenException;
+import com.nhnacademy.miniDooray.token.TokenClaims;
+import com.nhnacademy.miniDooray.token.TokenRevocations;
+import com.nhnacademy.miniDooray.token.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequestMapping("/members/tokens")
+@RequiredArgsConstructor
+@RestController
+public class TokenController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+    private final TokenRevocations tokenRevocations;
+
+    @Operation(summary = "Verify a login token without touching the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token is valid"),
+            @ApiResponse(responseCode = "401", description = "Token is malformed, expired, revoked or signed with an unknown key")
+    })
+    @PostMapping("/verify")
+    public ResponseEntity<TokenClaims> verify(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new InvalidTokenException("Bearer 토큰이 없습니다.");
+        }
+        TokenClaims claims = tokenService.verify(authorization.substring(BEARER_PREFIX.length()));
+        return ResponseEntity.ok(claims);
+    }
+
+    @Operation(summary = "Get token revocations since the given epoch second")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Revoked member IDs and when they were revoked")
+    })
+    @GetMapping("/revocations")
+    public ResponseEntity<List<TokenRevocation>> getRevocations(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(tokenRevocations.since(since));
+    }
+}
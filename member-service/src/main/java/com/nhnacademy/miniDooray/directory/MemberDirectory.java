@@ -0,0 +1,195 @@
+package com.nhnacademy.miniDooray.directory;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.event.PeerMembersChangedEvent;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탈퇴하지 않은 회원의 ID → 이름 디렉터리. DB 접근 없이 lookup 을 처리하기 위해 둔다.
+ * 시작 시 packed 스냅샷을 만들고, 이후 변경은 patch 로 덮어쓰다가 일정 개수가 쌓이면 정렬된 스냅샷에 병합한다.
+ * 적재와 병합은 서로 겹치지 않게 순서대로 실행한다.
+ * 다른 인스턴스에서 바뀐 회원은 dirty patch 로 표시해 DB 로 대체 조회하게 하고, 주기적으로 DB 에서 다시 읽어 채운다.
+ * 무효화 순번이 비면 어떤 회원이 바뀌었는지 모르므로 다시 적재할 때까지 모든 조회를 DB 로 넘긴다.
+ * 여기에 없는 ID 는 탈퇴했거나 아직 적재되지 않은 것이므로 호출자는 DB 로 대체 조회해야 한다.
+ */
+@Component
+public class MemberDirectory implements MeterBinder {
+
+    private static final long PATCH_OVERHEAD_BYTES = 128;
+
+    private final MemberRepository memberRepository;
+    private final int loadBatchSize;
+    private final int compactionThreshold;
+
+    private final ConcurrentMap<String, Patch> patches = new ConcurrentHashMap<>();
+    private volatile PackedDirectory snapshot = PackedDirectory.EMPTY;
+    private volatile boolean ready;
+    private final AtomicLong missedGeneration = new AtomicLong();
+    private volatile long loadedGeneration;
+
+    public MemberDirectory(MemberRepository memberRepository,
+                           @Value("${member.directory.load-batch-size:5000}") int loadBatchSize,
+                           @Value("${member.directory.compaction-threshold:10000}") int compactionThreshold) {
+        this.memberRepository = memberRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        // 적재가 시작되기 전의 patch 는 이번 스냅샷에 반영되므로 끝나면 지운다. 적재 중에 들어온 patch 는 남긴다.
+        Map<String, Patch> before = new HashMap<>(patches);
+        Map<String, String> names = new HashMap<>();
+        String afterId = "";
+        List<MemberInfoDto> batch;
+        while (!(batch = memberRepository.findInfosAfter(
+                Status.WITHDRAWN, afterId, PageRequest.of(0, loadBatchSize))).isEmpty()) {
+            batch.forEach(info -> names.put(info.getId(), info.getName()));
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        snapshot = PackedDirectory.build(names);
+        before.forEach(patches::remove);
+        ready = true;
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        MemberDto member = event.getMember();
+        patches.put(member.getId(), Patch.of(member.getStatus() == Status.WITHDRAWN ? null : member.getName()));
+    }
+
+    @EventListener
+    public void onPeerMembersChanged(PeerMembersChangedEvent event) {
+        if (event.isMissed()) {
+            missedGeneration.incrementAndGet();
+            return;
+        }
+        event.getMemberIds().forEach(memberId -> patches.put(memberId, Patch.dirty()));
+    }
+
+    public String findName(String memberId) {
+        if (missedGeneration.get() != loadedGeneration) {
+            return null;
+        }
+        Patch patch = patches.get(memberId);
+        if (patch != null) {
+            return patch.name;
+        }
+        return snapshot.findName(memberId);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return snapshot.size() + patches.size();
+    }
+
+    public long footprintBytes() {
+        return snapshot.footprintBytes() + patches.size() * PATCH_OVERHEAD_BYTES;
+    }
+
+    /**
+     * 다른 인스턴스의 변경을 반영한다. 순번이 빈 적이 있으면 다시 적재하고, 아니면 dirty 로 표시된 회원만 DB 에서 다시 읽는다.
+     * 다시 읽는 동안 새 변경이 들어왔으면 그 patch 가 더 최신이므로, 읽기 전에 본 dirty patch 가 그대로 있을 때만 바꾼다.
+     */
+    @Scheduled(fixedDelayString = "${member.directory.refresh-interval-ms:1000}")
+    public void refresh() {
+        long missed = missedGeneration.get();
+        if (missed != loadedGeneration) {
+            load();
+            loadedGeneration = missed;
+            return;
+        }
+
+        Map<String, Patch> dirty = new HashMap<>();
+        patches.forEach((memberId, patch) -> {
+            if (patch.dirty) {
+                dirty.put(memberId, patch);
+            }
+        });
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> names = new HashMap<>();
+        for (Member member : memberRepository.findAllById(dirty.keySet())) {
+            if (member.getStatus() != Status.WITHDRAWN) {
+                names.put(member.getId(), member.getName());
+            }
+        }
+        dirty.forEach((memberId, patch) -> patches.replace(memberId, patch, Patch.of(names.get(memberId))));
+    }
+
+    @Scheduled(fixedDelayString = "${member.directory.compaction-interval-ms:60000}")
+    public void compactIfNeeded() {
+        if (patches.size() >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * patch 를 스냅샷에 합친다. 합치는 동안 들어온 patch 는 남겨 두어야 하므로 합친 것과 같은 patch 일 때만 지운다.
+     * 아직 DB 에서 다시 읽지 않은 dirty patch 는 합치지 않는다.
+     */
+    public synchronized void compact() {
+        Map<String, Patch> merging = new HashMap<>(patches);
+        merging.values().removeIf(patch -> patch.dirty);
+        Map<String, String> names = new HashMap<>();
+        merging.forEach((memberId, patch) -> names.put(memberId, patch.name));
+
+        snapshot = snapshot.merge(names);
+        merging.forEach((memberId, patch) -> patches.remove(memberId, patch));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("member.directory.bytes", this, MemberDirectory::footprintBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("member.directory.entries", this, MemberDirectory::size)
+                .register(registry);
+    }
+
+    /**
+     * 병합과 갱신은 읽은 patch 와 같은 객체가 남아 있는지로 경합을 판단하므로, 값이 같아도 서로 다른 patch 로 취급한다.
+     */
+    private static final class Patch {
+        private final String name;
+        private final boolean dirty;
+
+        private Patch(String name, boolean dirty) {
+            this.name = name;
+            this.dirty = dirty;
+        }
+
+        static Patch of(String name) {
+            return new Patch(name, false);
+        }
+
+        static Patch dirty() {
+            return new Patch(null, true);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.nhnacademy.miniDooray.directory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ID 와 이름을 하나의 byte 배열에 UTF-8 로 이어 붙여 둔 불변 스냅샷.
+ * 항목은 [ID 길이(1 byte)][ID][이름] 형식이며, ID 의 UTF-8 바이트 순서로 정렬되어 있어 이진 탐색한다.
+ */
+final class PackedDirectory {
+
+    static final PackedDirectory EMPTY = new PackedDirectory(new byte[0], new int[]{0});
+
+    private final byte[] data;
+    private final int[] offsets;
+
+    private PackedDirectory(byte[] data, int[] offsets) {
+        this.data = data;
+        this.offsets = offsets;
+    }
+
+    static PackedDirectory build(Map<String, String> namesById) {
+        return EMPTY.merge(namesById);
+    }
+
+    /**
+     * 정렬된 기존 항목과 정렬한 patch 를 한 번씩만 훑어 새 스냅샷을 만든다. 기존 항목은 문자열로 풀지 않고 바이트 그대로 복사한다.
+     * 값이 {@code null} 인 patch 는 해당 ID 를 지운다.
+     */
+    PackedDirectory merge(Map<String, String> patchesById) {
+        List<byte[][]> patches = patchesById.entrySet().stream()
+                .map(entry -> new byte[][]{
+                        entry.getKey().getBytes(StandardCharsets.UTF_8),
+                        entry.getValue() == null ? null : entry.getValue().getBytes(StandardCharsets.UTF_8)})
+                .sorted(Comparator.comparing((byte[][] entry) -> entry[0], Arrays::compareUnsigned))
+                .toList();
+
+        int maxBytes = data.length;
+        for (byte[][] patch : patches) {
+            if (patch[0].length > 255) {
+                throw new IllegalArgumentException("ID가 너무 깁니다.");
+            }
+            if (patch[1] != null) {
+                maxBytes += 1 + patch[0].length + patch[1].length;
+            }
+        }
+
+        byte[] merged = new byte[maxBytes];
+        int[] mergedOffsets = new int[size() + patches.size() + 1];
+        int count = 0;
+        int position = 0;
+        int i = 0;
+        int p = 0;
+        while (i < size() || p < patches.size()) {
+            int compared;
+            if (i == size()) {
+                compared = 1;
+            } else if (p == patches.size()) {
+                compared = -1;
+            } else {
+                int start = offsets[i] + 1;
+                byte[] id = patches.get(p)[0];
+                compared = Arrays.compareUnsigned(data, start, start + (data[offsets[i]] & 0xFF), id, 0, id.length);
+            }
+
+            if (compared < 0) {
+                int length = offsets[i + 1] - offsets[i];
+                mergedOffsets[count++] = position;
+                System.arraycopy(data, offsets[i], merged, position, length);
+                position += length;
+                i++;
+                continue;
+            }
+            if (compared == 0) {
+                i++;
+            }
+            byte[] id = patches.get(p)[0];
+            byte[] name = patches.get(p)[1];
+            p++;
+            if (name == null) {
+                continue;
+            }
+            mergedOffsets[count++] = position;
+            merged[position++] = (byte) id.length;
+            System.arraycopy(id, 0, merged, position, id.length);
+            position += id.length;
+            System.arraycopy(name, 0, merged, position, name.length);
+            position += name.length;
+        }
+        mergedOffsets[count] = position;
+        return new PackedDirectory(Arrays.copyOf(merged, position), Arrays.copyOf(mergedOffsets, count + 1));
+    }
+
+    String findName(String memberId) {
+        int index = indexOf(memberId.getBytes(StandardCharsets.UTF_8));
+        if (index < 0) {
+            return null;
+        }
+        int idLength = data[offsets[index]] & 0xFF;
+        int nameStart = offsets[index] + 1 + idLength;
+        return new String(data, nameStart, offsets[index + 1] - nameStart, StandardCharsets.UTF_8);
+    }
+
+    int size() {
+        return offsets.length - 1;
+    }
+
+    long footprintBytes() {
+        return data.length + (long) offsets.length * Integer.BYTES;
+    }
+
+    private int indexOf(byte[] id) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int start = offsets[mid] + 1;
+            int end = start + (data[offsets[mid]] & 0xFF);
+            int compared = Arrays.compareUnsigned(data, start, end, id, 0, id.length);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+}
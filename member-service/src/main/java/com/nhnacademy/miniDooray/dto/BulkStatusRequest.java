@@ -0,0 +1,26 @@
+package com.nhnacademy.miniDooray.dto;
+
+import com.nhnacademy.miniDooray.entity.Status;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusRequest {
+    private List<String> memberIds;
+
+    private Status fromStatus;
+
+    @NotNull
+    private Status status;
+
+    /**
+     * fromStatus 로 고를 때 이전 응답의 nextAfterId. 처음에는 비워 둔다.
+     */
+    private String afterId;
+}
@@ -0,0 +1,20 @@
+package com.nhnacademy.miniDooray.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusResponse {
+    private int updated;
+    private List<StatusTransitionResult> results;
+
+    /**
+     * fromStatus 로 고른 회원이 max-member-ids 를 넘어 아직 남았으면 다음 요청의 afterId 로 넘길 값. 끝났으면 null.
+     */
+    private String nextAfterId;
+}
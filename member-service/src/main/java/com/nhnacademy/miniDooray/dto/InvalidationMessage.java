@@ -0,0 +1,22 @@
+package com.nhnacademy.miniDooray.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class InvalidationMessage {
+    private String sourceId;
+    private String epoch;
+    private long sequence;
+    private List<String> memberIds;
+    /**
+     * 보낸 인스턴스에서 생긴 토큰 폐기. 회원 ID → 폐기 시각(epoch second).
+     */
+    private Map<String, Long> revocations;
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.miniDooray.dto;
+
+import jakarta.validation.constraints.Email;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * id 와 email 중 하나로 로그인한다. 둘 다 있으면 email 을 쓴다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginRequest {
+    private String id;
+    @Email
+    private String email;
+    private String password;
+}
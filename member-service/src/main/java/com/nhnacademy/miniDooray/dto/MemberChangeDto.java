@@ -0,0 +1,20 @@
+package com.nhnacademy.miniDooray.dto;
+
+import com.nhnacademy.miniDooray.entity.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberChangeDto {
+    private String id;
+    private String email;
+    private String name;
+    private Status status;
+    private long changeSeq;
+    private LocalDateTime updatedAt;
+}
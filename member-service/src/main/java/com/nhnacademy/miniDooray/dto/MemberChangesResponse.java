@@ -0,0 +1,15 @@
+package com.nhnacademy.miniDooray.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberChangesResponse {
+    private List<MemberChangeDto> changes;
+    private String nextCursor;
+}
@@ -0,0 +1,37 @@
+package com.nhnacademy.miniDooray.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * GET /members 응답. 예전 PageImpl 직렬화와 같은 필드 이름을 쓰고, 중복 정보인 pageable 만 뺐다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberPage {
+    private List<MemberDto> content;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean first;
+    private boolean last;
+    private int numberOfElements;
+    private boolean empty;
+    private SortInfo sort;
+
+    public static MemberPage from(Page<MemberDto> page) {
+        boolean sorted = page.getSort().isSorted();
+        return new MemberPage(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast(),
+                page.getNumberOfElements(), page.isEmpty(), new SortInfo(!sorted, sorted, !sorted));
+    }
+
+    public record SortInfo(boolean empty, boolean sorted, boolean unsorted) {
+    }
+}
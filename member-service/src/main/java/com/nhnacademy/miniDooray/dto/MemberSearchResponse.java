@@ -0,0 +1,15 @@
+package com.nhnacademy.miniDooray.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberSearchResponse {
+    private List<MemberSearchResult> members;
+    private String nextCursor;
+}
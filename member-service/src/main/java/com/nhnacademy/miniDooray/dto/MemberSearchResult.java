@@ -5,9 +5,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@NoArgsConstructor
 @AllArgsConstructor
-public class LoginRequest {
+@NoArgsConstructor
+public class MemberSearchResult {
     private String id;
-    private String password;
-}
\ No newline at end of file
+    private String name;
+    private String email;
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.miniDooray.dto;
+
+import com.nhnacademy.miniDooray.entity.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberStatisticsResponse {
+    private Map<Status, Long> byStatus;
+    private Map<LocalDate, Long> registrationsPerDay;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.miniDooray.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatusTransitionResult {
+    private String id;
+    private Outcome outcome;
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND
+    }
+}
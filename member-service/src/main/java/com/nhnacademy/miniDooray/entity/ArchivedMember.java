@@ -0,0 +1,75 @@
+package com.nhnacademy.miniDooray.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래전에 탈퇴한 회원. member 테이블과 인덱스를 활동 회원 규모로 유지하기 위해 member_archive 로 옮겨 둔다.
+ */
+@Entity
+@Table(name = "member_archive")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ArchivedMember implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    private String password;
+
+    private String email;
+
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime registeredAt;
+
+    private LocalDateTime archivedAt;
+
+    // id 를 직접 지정하므로 저장 전에 select 로 존재 여부를 확인하지 않도록 새 엔티티임을 표시한다.
+    @Transient
+    private boolean newEntity = true;
+
+    public ArchivedMember(Member member, LocalDateTime archivedAt) {
+        this.id = member.getId();
+        this.password = member.getPassword();
+        this.email = member.getEmail();
+        this.name = member.getName();
+        this.status = member.getStatus();
+        this.changeSeq = member.getChangeSeq();
+        this.updatedAt = member.getUpdatedAt();
+        this.registeredAt = member.getRegisteredAt();
+        this.archivedAt = archivedAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
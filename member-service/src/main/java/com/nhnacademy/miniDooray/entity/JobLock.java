@@ -0,0 +1,57 @@
+package com.nhnacademy.miniDooray.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 돌아야 하는 예약 작업의 잠금. lockedUntil 이 지나면 다른 인스턴스가 가져갈 수 있다.
+ */
+@Entity
+@Table(name = "job_lock")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class JobLock implements Persistable<String> {
+
+    @Id
+    private String name;
+
+    private String lockedBy;
+
+    private LocalDateTime lockedUntil;
+
+    // 잠금 행이 없을 때만 insert 하므로 저장 전에 select 로 존재 여부를 확인하지 않도록 새 엔티티임을 표시한다.
+    @Transient
+    private boolean newEntity = true;
+
+    public JobLock(String name, String lockedBy, LocalDateTime lockedUntil) {
+        this.name = name;
+        this.lockedBy = lockedBy;
+        this.lockedUntil = lockedUntil;
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
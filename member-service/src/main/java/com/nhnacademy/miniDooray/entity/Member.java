@@ -0,0 +1,107 @@
+package com.nhnacademy.miniDooray.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.validator.constraints.Length;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_email", columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_member_name_key", columnList = "name_key, id"),
+        @Index(name = "idx_member_change_seq", columnList = "change_seq, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Member {
+
+    @Length(min = 1, max = 20)
+    @Id
+    private String id;
+
+    @NotNull
+    @Length(min = 1, max = 255)
+    @Setter
+    private String password;
+
+    @NotNull
+    @Email
+    @Length(max = 50)
+    private String email;
+
+    @NotNull
+    @Length(min = 2, max = 20)
+    private String name;
+
+    /**
+     * 기존 DB 에는 db/member-name-key.sql 로 추가하고, 비어 있는 값은 시작할 때 MemberSchemaBackfill 이 채운다.
+     */
+    @Column(name = "name_key", nullable = false, length = 20)
+    private String nameKey;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Setter
+    private Status status;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime registeredAt;
+
+    public Member(String id, String password, String email, String name, Status status) {
+        this.id = id;
+        this.password = password;
+        this.email = normalizeEmail(email);
+        this.name = name;
+        this.nameKey = normalizeName(name);
+        this.status = status;
+    }
+
+    /**
+     * 이메일은 앞뒤 공백을 없애고 소문자로 저장해 대소문자만 다른 주소가 유니크 인덱스를 통과하지 못하게 한다.
+     * 이메일로 조회할 때도 같은 규칙으로 바꾼 값을 쓴다.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 이름 검색의 비교/정렬 키. 메모리 색인과 DB 검색이 같은 키를 써야 접두어 일치와 cursor 순서가 어느 경로에서나 같다.
+     */
+    public static String normalizeName(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
+    public void setEmail(String email) {
+        this.email = normalizeEmail(email);
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        this.nameKey = normalizeName(name);
+    }
+
+    public void markRegistered(LocalDateTime registeredAt) {
+        this.registeredAt = registeredAt;
+    }
+
+    public void markChanged(long changeSeq, LocalDateTime updatedAt) {
+        this.changeSeq = changeSeq;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.miniDooray.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 상태 변경이나 보관처럼 한 chunk 에서 함께 커밋된 변경들.
+ * 각 변경은 batched 로 표시된 {@link MemberChangedEvent} 로 먼저 발행되고, 이 이벤트가 chunk 마다 한 번 뒤따른다.
+ * 변경을 모아 처리하는 편이 나은 listener 는 batched 이벤트를 건너뛰고 이 이벤트를 받는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberChangeBatchEvent {
+    private final List<MemberChangedEvent> changes;
+}
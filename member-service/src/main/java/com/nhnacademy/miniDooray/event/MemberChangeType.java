@@ -0,0 +1,8 @@
+package com.nhnacademy.miniDooray.event;
+
+public enum MemberChangeType {
+    REGISTERED,
+    UPDATED,
+    STATUS_CHANGED,
+    ARCHIVED
+}
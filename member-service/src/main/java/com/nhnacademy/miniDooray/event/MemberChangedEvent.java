@@ -0,0 +1,28 @@
+package com.nhnacademy.miniDooray.event;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * batched 이면 같은 변경이 {@link MemberChangeBatchEvent} 로도 한 번 더 발행된다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemberChangedEvent {
+    private final MemberChangeType type;
+    private final MemberDto member;
+    private final long changeSeq;
+    private final LocalDateTime updatedAt;
+    private final boolean batched;
+
+    public MemberChangedEvent(MemberChangeType type, MemberDto member, long changeSeq, LocalDateTime updatedAt) {
+        this(type, member, changeSeq, updatedAt, false);
+    }
+
+    public String getMemberId() {
+        return member.getId();
+    }
+}
@@ -0,0 +1,22 @@
+package com.nhnacademy.miniDooray.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다른 인스턴스에서 회원이 바뀌었다는 무효화 메시지를 받았을 때 발행한다.
+ * missed 이면 송신자의 순번이 비어 어떤 회원이 바뀌었는지 알 수 없으므로, 로컬 사본을 가진 listener 는 전체를 다시 적재해야 한다.
+ * 이벤트는 무효화 요청을 처리하는 스레드에서 발행되므로 listener 는 DB 를 직접 읽지 말고 표시만 해 두었다가 따로 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PeerMembersChangedEvent {
+    private final List<String> memberIds;
+    private final boolean missed;
+
+    public static PeerMembersChangedEvent missed() {
+        return new PeerMembersChangedEvent(List.of(), true);
+    }
+}
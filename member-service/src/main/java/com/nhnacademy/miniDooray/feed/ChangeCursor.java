@@ -0,0 +1,27 @@
+package com.nhnacademy.miniDooray.feed;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record ChangeCursor(long changeSeq, String id) {
+
+    public static final ChangeCursor START = new ChangeCursor(0, "");
+
+    public static ChangeCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty() || "0".equals(cursor)) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new ChangeCursor(Long.parseLong(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((changeSeq + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.nhnacademy.miniDooray.feed;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 변경 순번. epoch 기준 마이크로초를 쓰되 같은 인스턴스 안에서는 항상 증가하도록 보정한다.
+ * 시각 기반이므로 재시작이나 여러 인스턴스 사이에서도 대략적인 순서가 유지된다.
+ */
+@Component
+public class ChangeSequence {
+
+    private final AtomicLong last = new AtomicLong();
+
+    public long next() {
+        long now = currentMicros();
+        return last.updateAndGet(previous -> Math.max(previous + 1, now));
+    }
+
+    public long currentMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+}
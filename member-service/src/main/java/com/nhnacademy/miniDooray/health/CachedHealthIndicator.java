@@ -0,0 +1,103 @@
+package com.nhnacademy.miniDooray.health;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 health 점검을 요청 스레드 대신 전용 스레드에서 refresh-interval 마다 돌리고, 프로브에는 마지막 결과를 돌려준다.
+ * 점검이 max-age 보다 오래 끝나지 않아 결과가 낡으면 점검 대상이 멈춘 것으로 보고 DOWN 을 돌려준다.
+ * tracker 가 있으면 실제 조회가 연달아 실패할 때 다음 점검을 기다리지 않고 바로 DOWN 을 돌려준다.
+ * 첫 결과가 나오기 전의 호출은 직접 점검한다.
+ */
+@Slf4j
+public class CachedHealthIndicator implements HealthIndicator, AutoCloseable {
+
+    private final HealthIndicator delegate;
+    private final RepositoryFailureTracker tracker;
+    private final Duration refreshInterval;
+    private final long maxAgeMillis;
+    private final ScheduledExecutorService scheduler;
+    private volatile Snapshot snapshot;
+
+    public CachedHealthIndicator(String name, HealthIndicator delegate, RepositoryFailureTracker tracker,
+                                 Duration refreshInterval, Duration maxAge) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+        this.refreshInterval = refreshInterval;
+        this.maxAgeMillis = maxAge.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Health health() {
+        return health(System.currentTimeMillis());
+    }
+
+    Health health(long now) {
+        if (tracker != null && tracker.isFailing(now)) {
+            RepositoryFailureTracker.Failure failure = tracker.getLastFailure();
+            return Health.down()
+                    .withDetail("consecutiveFailures", tracker.getConsecutiveFailures())
+                    .withDetail("error", failure.error())
+                    .withDetail("failedAt", Instant.ofEpochMilli(failure.atMillis()).toString())
+                    .build();
+        }
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh(now);
+            current = snapshot;
+        }
+        if (now - current.checkedAtMillis() > maxAgeMillis) {
+            return Health.down()
+                    .withDetail("error", "점검 결과가 " + (now - current.checkedAtMillis()) + "ms 동안 갱신되지 않았습니다.")
+                    .withDetail("checkedAt", Instant.ofEpochMilli(current.checkedAtMillis()).toString())
+                    .build();
+        }
+        return current.health();
+    }
+
+    void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    void refresh(long now) {
+        Health health;
+        try {
+            health = delegate.health();
+        } catch (RuntimeException e) {
+            health = Health.down(e).build();
+        }
+        if (!Status.UP.equals(health.getStatus())) {
+            log.warn("health 점검 결과가 {} 입니다. details: {}", health.getStatus(), health.getDetails());
+        }
+        snapshot = new Snapshot(Health.status(health.getStatus())
+                .withDetails(health.getDetails())
+                .withDetail("checkedAt", Instant.ofEpochMilli(now).toString())
+                .build(), now);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private record Snapshot(Health health, long checkedAtMillis) {
+    }
+}
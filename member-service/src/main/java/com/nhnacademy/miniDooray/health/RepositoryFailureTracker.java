@@ -0,0 +1,104 @@
+package com.nhnacademy.miniDooray.health;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MemberRepository 호출 결과를 보고 DB 에 닿지 못하는 실패가 연달아 나는지 기억한다.
+ * 연결 실패, 타임아웃처럼 DB 상태 때문에 난 예외만 세고, 제약 조건 위반 같은 예외는 DB 가 응답한 것이므로 성공으로 본다.
+ * 락 충돌도 DB 는 살아 있는 것이므로 세지 않는다.
+ * {@link CachedHealthIndicator} 는 이 값으로 다음 점검을 기다리지 않고 바로 DOWN 을 알린다.
+ */
+@Component
+public class RepositoryFailureTracker implements MeterBinder {
+
+    private final int threshold;
+    private final long windowMillis;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final LongAdder failures = new LongAdder();
+    private volatile Failure lastFailure;
+
+    public RepositoryFailureTracker(@Value("${member.health.db.failure-threshold:3}") int threshold,
+                                    @Value("${member.health.db.failure-window-ms:10000}") long windowMillis) {
+        this.threshold = threshold;
+        this.windowMillis = windowMillis;
+    }
+
+    public void recordSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * DB 상태 때문에 난 예외면 실패로 세고 true 를 돌려준다. 아니면 성공으로 기록한다.
+     */
+    public boolean record(Throwable exception) {
+        return record(exception, System.currentTimeMillis());
+    }
+
+    boolean record(Throwable exception, long now) {
+        if (!isDatabaseFailure(exception)) {
+            recordSuccess();
+            return false;
+        }
+        failures.increment();
+        consecutiveFailures.incrementAndGet();
+        lastFailure = new Failure(exception.getClass().getName() + ": " + exception.getMessage(),
+                now);
+        return true;
+    }
+
+    /**
+     * 최근 failure-window 안에 threshold 번 이상 연달아 실패했는지.
+     * 그 뒤로 호출이 없으면 window 가 지나 false 가 되고, 판단은 주기적인 점검에 맡긴다.
+     */
+    public boolean isFailing() {
+        return isFailing(System.currentTimeMillis());
+    }
+
+    boolean isFailing(long now) {
+        Failure failure = lastFailure;
+        return consecutiveFailures.get() >= threshold
+                && failure != null
+                && now - failure.atMillis() <= windowMillis;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    public Failure getLastFailure() {
+        return lastFailure;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.health.db.query-failures", failures, LongAdder::sum)
+                .register(registry);
+    }
+
+    static boolean isDatabaseFailure(Throwable exception) {
+        if (exception instanceof ConcurrencyFailureException) {
+            return false;
+        }
+        return exception instanceof TransientDataAccessException
+                || exception instanceof DataAccessResourceFailureException
+                || exception instanceof RecoverableDataAccessException
+                || exception instanceof CannotCreateTransactionException;
+    }
+
+    public record Failure(String error, long atMillis) {
+    }
+}
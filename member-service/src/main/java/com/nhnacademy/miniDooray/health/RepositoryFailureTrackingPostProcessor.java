@@ -0,0 +1,53 @@
+package com.nhnacademy.miniDooray.health;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.Set;
+
+/**
+ * 지정한 repository 의 factory 에 {@link RepositoryFailureTracker} 로 결과를 알리는 interceptor 를 건다.
+ * interceptor 는 맨 앞에 두어 트랜잭션 시작 실패와 예외 변환을 거친 뒤의 예외를 본다.
+ * tracker 는 호출 시점에 꺼내므로 이 post processor 가 다른 빈을 일찍 만들지 않는다.
+ */
+public class RepositoryFailureTrackingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<RepositoryFailureTracker> tracker;
+    private final Set<Class<?>> repositories;
+
+    public RepositoryFailureTrackingPostProcessor(ObjectProvider<RepositoryFailureTracker> tracker,
+                                                  Set<Class<?>> repositories) {
+        this.tracker = tracker;
+        this.repositories = repositories;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean
+                && repositories.contains(factoryBean.getObjectType())) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(0, interceptor())));
+        }
+        return bean;
+    }
+
+    private MethodInterceptor interceptor() {
+        return invocation -> {
+            RepositoryFailureTracker failureTracker = tracker.getIfAvailable();
+            try {
+                Object result = invocation.proceed();
+                if (failureTracker != null) {
+                    failureTracker.recordSuccess();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (failureTracker != null) {
+                    failureTracker.record(e);
+                }
+                throw e;
+            }
+        };
+    }
+}
@@ -0,0 +1,213 @@
+package com.nhnacademy.miniDooray.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.miniDooray.exception.ErrorResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 회원 가입과 수정 요청의 Idempotency-Key 를 처리한다.
+ * 같은 키의 재시도는 저장해 둔 응답을 그대로 돌려주고 컨트롤러와 DB 까지 내려가지 않는다.
+ * 먼저 들어온 요청이 아직 처리 중이면 그 결과를 기다린다. 같은 키에 다른 본문이 오면 422 로 거절한다.
+ * 5xx 와 429 는 저장하지 않으므로 그 뒤의 재시도는 새로 실행된다.
+ * 키는 호출자별로 따로 저장한다. Authorization 헤더가 있으면 그 값의 해시로, 없으면 클라이언트 주소로 호출자를 구분하므로
+ * 다른 호출자가 같은 키를 보내도 남의 응답을 받지 않는다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter implements MeterBinder {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Pattern UPDATE_PATH = Pattern.compile("/members/[^/]+");
+
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore store;
+    private final long waitMillis;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    public IdempotencyFilter(ObjectMapper objectMapper,
+                             @Value("${member.idempotency.max-size:10000}") int maxSize,
+                             @Value("${member.idempotency.ttl-seconds:3600}") long ttlSeconds,
+                             @Value("${member.idempotency.wait-ms:5000}") long waitMillis) {
+        this.objectMapper = objectMapper;
+        this.store = new IdempotencyStore(maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds));
+        this.waitMillis = waitMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean register = "POST".equals(request.getMethod()) && "/members/register".equals(path);
+        boolean update = "PUT".equals(request.getMethod()) && UPDATE_PATH.matcher(path).matches();
+        return !register && !update;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String scope = callerOf(request) + " " + request.getMethod() + " " + request.getRequestURI() + " " + key;
+        byte[] fingerprint = sha256(cachedRequest.getBody());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+
+        while (true) {
+            IdempotencyStore.Slot slot = store.acquire(scope, fingerprint, System.currentTimeMillis());
+            if (slot == null) {
+                writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "처리 중인 Idempotency-Key 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+                return;
+            }
+            if (slot.owner()) {
+                execute(scope, slot, cachedRequest, response, filterChain);
+                return;
+            }
+            if (!MessageDigest.isEqual(slot.fingerprint(), fingerprint)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청이 이미 처리되었습니다.");
+                return;
+            }
+
+            StoredResponse stored;
+            try {
+                stored = slot.result().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                writeError(response, HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                throw new ServletException(e.getCause());
+            }
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            // 먼저 실행한 요청의 결과가 저장되지 않았으므로 이 요청이 다시 실행을 시도한다.
+        }
+    }
+
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    public long getReplayed() {
+        return replayed.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.idempotency.requests", this, IdempotencyFilter::getExecuted)
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("member.idempotency.requests", this, IdempotencyFilter::getReplayed)
+                .tag("result", "replayed")
+                .register(registry);
+        Gauge.builder("member.idempotency.keys", store, IdempotencyStore::size)
+                .register(registry);
+    }
+
+    private void execute(String scope, IdempotencyStore.Slot slot, CachedBodyRequest request,
+                         HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        executed.increment();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            int status = responseWrapper.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                stored = new StoredResponse(status, copyHeaders(responseWrapper), responseWrapper.getContentAsByteArray());
+            }
+        } finally {
+            if (stored != null) {
+                store.complete(slot, stored);
+            } else {
+                store.abandon(scope, slot);
+            }
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        replayed.increment();
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private Map<String, List<String>> copyHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            headers.put(name, new ArrayList<>(response.getHeaders(name)));
+        }
+        if (response.getContentType() != null) {
+            headers.put("Content-Type", List.of(response.getContentType()));
+        }
+        return headers;
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message, status.value(), LocalDateTime.now()));
+    }
+
+    private static String callerOf(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && !authorization.isBlank()) {
+            return "auth:" + HexFormat.of().formatHex(sha256(authorization.getBytes(StandardCharsets.UTF_8)));
+        }
+        return "addr:" + request.getRemoteAddr();
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.nhnacademy.miniDooray.idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Idempotency-Key 별 응답 저장소. 크기 상한을 넘으면 응답이 저장된 키 중 가장 오래된 것부터 지우고, ttl 이 지난 키는 조회 시 정리한다.
+ * 아직 처리 중인 키는 지우지 않는다. 지우면 같은 키의 재시도가 한 번 더 실행되기 때문이다.
+ * 모든 키의 ttl 이 같으므로 삽입 순서가 곧 만료 순서다.
+ */
+class IdempotencyStore {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    IdempotencyStore(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 처음 들어온 키면 owner 인 slot 을 돌려주고, 이미 있는 키면 먼저 실행한 요청의 결과를 기다릴 slot 을 돌려준다.
+     * 저장소가 처리 중인 키로만 가득 차 새 키를 받을 수 없으면 null 을 돌려준다.
+     */
+    synchronized Slot acquire(String key, byte[] fingerprint, long nowMillis) {
+        purgeExpired(nowMillis);
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            return new Slot(false, existing.fingerprint(), existing.result());
+        }
+
+        if (entries.size() >= maxSize && !evictCompleted()) {
+            return null;
+        }
+        Entry created = new Entry(fingerprint, new CompletableFuture<>(), nowMillis + ttlMillis);
+        entries.put(key, created);
+        return new Slot(true, fingerprint, created.result());
+    }
+
+    void complete(Slot slot, StoredResponse response) {
+        slot.result().complete(response);
+    }
+
+    /**
+     * 저장할 수 없는 결과(5xx, 예외)면 키를 비워 다음 재시도가 새로 실행되게 하고, 기다리던 요청에는 null 을 넘긴다.
+     */
+    synchronized void abandon(String key, Slot slot) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.result() == slot.result()) {
+            entries.remove(key);
+        }
+        slot.result().complete(null);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean evictCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().result().isDone()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void purgeExpired(long nowMillis) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expiresAt() > nowMillis) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    record Slot(boolean owner, byte[] fingerprint, CompletableFuture<StoredResponse> result) {
+    }
+
+    private record Entry(byte[] fingerprint, CompletableFuture<StoredResponse> result, long expiresAt) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.nhnacademy.miniDooray.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+record StoredResponse(int status, Map<String, List<String>> headers, byte[] body) {
+}
@@ -0,0 +1,113 @@
+package com.nhnacademy.miniDooray.importer;
+
+import com.nhnacademy.miniDooray.dto.RegisterRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 첫 줄이 헤더인 CSV. id, password, email, name 컬럼이 있어야 하며 순서는 상관없고 나머지 컬럼은 무시한다.
+ * 큰따옴표로 감싼 필드와 "" 이스케이프를 지원하지만 필드 안의 줄바꿈은 지원하지 않는다.
+ */
+class CsvMemberRecordReader implements MemberRecordReader {
+
+    private static final List<String> COLUMNS = List.of("id", "password", "email", "name");
+
+    private final BufferedReader reader;
+    private final int[] positions = new int[COLUMNS.size()];
+    private final int requiredFields;
+    private long lineNumber;
+
+    CsvMemberRecordReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String header = reader.readLine();
+        lineNumber = 1;
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        List<String> names = parse(header).stream()
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int required = 0;
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            positions[i] = names.indexOf(COLUMNS.get(i));
+            if (positions[i] < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 " + COLUMNS.get(i) + " 컬럼이 없습니다.");
+            }
+            required = Math.max(required, positions[i] + 1);
+        }
+        this.requiredFields = required;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> fields;
+            try {
+                fields = parse(line);
+            } catch (IllegalArgumentException e) {
+                return ImportRecord.rejected(lineNumber, e.getMessage());
+            }
+            if (fields.size() < requiredFields) {
+                return ImportRecord.rejected(lineNumber, "컬럼 수가 부족합니다.");
+            }
+            return ImportRecord.of(lineNumber, new RegisterRequest(
+                    field(fields, 0), field(fields, 1), field(fields, 2), field(fields, 3)));
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String field(List<String> fields, int column) {
+        String value = fields.get(positions[column]);
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.miniDooray.importer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 어느 줄까지 처리했는지 기록한다. writer 들이 batch 를 순서와 상관없이 끝내므로,
+ * 앞선 batch 가 모두 끝난 지점까지만 앞으로 옮겨 그 사이에 비는 줄이 없도록 한다.
+ * 파일은 임시 파일에 쓴 뒤 이름을 바꿔 교체하므로 중간에 죽어도 이전 값이 남는다.
+ */
+class ImportCheckpoint {
+
+    private final Path path;
+    private final long resumeAfter;
+    private final Map<Long, Long> finished = new TreeMap<>();
+    private long nextSequence;
+    private long lastLine;
+
+    private ImportCheckpoint(Path path, long resumeAfter) {
+        this.path = path;
+        this.resumeAfter = resumeAfter;
+        this.lastLine = resumeAfter;
+    }
+
+    static ImportCheckpoint open(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return new ImportCheckpoint(path, 0);
+        }
+        return new ImportCheckpoint(path, Long.parseLong(Files.readString(path, StandardCharsets.UTF_8).trim()));
+    }
+
+    long resumeAfter() {
+        return resumeAfter;
+    }
+
+    synchronized long lastLine() {
+        return lastLine;
+    }
+
+    synchronized void finished(long sequence, long batchLastLine) {
+        finished.put(sequence, batchLastLine);
+        Long line;
+        boolean advanced = false;
+        while ((line = finished.remove(nextSequence)) != null) {
+            lastLine = line;
+            nextSequence++;
+            advanced = true;
+        }
+        if (advanced) {
+            save();
+        }
+    }
+
+    private void save() {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.writeString(temporary, Long.toString(lastLine), StandardCharsets.UTF_8);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.nhnacademy.miniDooray.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * auto 면 확장자로 고른다. .ndjson, .jsonl 은 NDJSON 이고 나머지는 CSV 다. 끝의 .gz 는 보지 않는다.
+     */
+    public static ImportFormat of(String configured, Path file) {
+        if (!"auto".equalsIgnoreCase(configured)) {
+            return valueOf(configured.toUpperCase(Locale.ROOT));
+        }
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - ".gz".length());
+        }
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+
+    MemberRecordReader open(Path file, ObjectMapper objectMapper) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz")) {
+            in = new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            return this == CSV ? new CsvMemberRecordReader(reader) : new NdjsonMemberRecordReader(reader, objectMapper);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.miniDooray.importer;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * member.import.file 이 있으면 import profile 을 켜지 않았더라도 웹 서버와 Eureka 등록 없이 뜨게 한다.
+ * 가져오기 프로세스가 서비스 인스턴스로 등록되어 요청을 받거나 워밍업, archive 를 돌리지 않게 하기 위해서다.
+ */
+public class ImportModeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE_NAME = "memberImportMode";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.containsProperty("member.import.file")) {
+            return;
+        }
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(
+                "spring.main.web-application-type", "none",
+                "eureka.client.enabled", "false",
+                "eureka.client.register-with-eureka", "false",
+                "member.warmup.enabled", "false",
+                "member.archive.enabled", "false")));
+    }
+}
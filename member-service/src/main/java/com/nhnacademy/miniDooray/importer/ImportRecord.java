@@ -0,0 +1,17 @@
+package com.nhnacademy.miniDooray.importer;
+
+import com.nhnacademy.miniDooray.dto.RegisterRequest;
+
+/**
+ * 파일의 한 행. 형식이 잘못되어 읽지 못한 행은 request 대신 error 를 가진다.
+ */
+record ImportRecord(long lineNumber, RegisterRequest request, String error) {
+
+    static ImportRecord of(long lineNumber, RegisterRequest request) {
+        return new ImportRecord(lineNumber, request, null);
+    }
+
+    static ImportRecord rejected(long lineNumber, String error) {
+        return new ImportRecord(lineNumber, null, error);
+    }
+}
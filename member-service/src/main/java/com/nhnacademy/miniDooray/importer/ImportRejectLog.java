@@ -0,0 +1,37 @@
+package com.nhnacademy.miniDooray.importer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 가져오지 못한 행의 줄 번호와 이유. 비밀번호가 남지 않도록 원래 행은 쓰지 않는다.
+ */
+class ImportRejectLog implements Closeable {
+
+    private final BufferedWriter writer;
+
+    ImportRejectLog(Path path, boolean append) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    synchronized void write(long lineNumber, String reason) {
+        try {
+            writer.write(lineNumber + "\t" + reason);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,11 @@
+package com.nhnacademy.miniDooray.importer;
+
+/**
+ * @param read     이번 실행에서 읽은 행 수. 체크포인트 이전 행은 세지 않는다.
+ * @param imported 새로 넣은 회원 수
+ * @param skipped  이미 member 테이블에 같은 ID 가 있어 건너뛴 행 수
+ * @param rejected 검증이나 중복 때문에 넣지 못한 행 수
+ */
+public record ImportReport(long resumedAfterLine, long read, long imported, long skipped, long rejected,
+                           long elapsedMillis) {
+}
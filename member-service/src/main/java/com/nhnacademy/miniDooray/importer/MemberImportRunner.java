@@ -0,0 +1,76 @@
+package com.nhnacademy.miniDooray.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+/**
+ * member.import.file 이 있으면 서비스 대신 가져오기 모드로 돈다. 파일을 모두 넣고 나면 애플리케이션을 종료한다.
+ * 웹 서버와 Eureka 등록은 {@link ImportModeEnvironmentPostProcessor} 가 끄고, 다른 ApplicationRunner 보다 먼저 실행된다.
+ * 가져온 행은 DB 에 직접 넣으므로 이미 떠 있는 서비스 인스턴스의 캐시, 디렉터리, 검색 색인에는 반영되지 않는다.
+ * 서비스를 띄우기 전에 실행하고, 이미 떠 있다면 가져온 뒤 인스턴스를 다시 시작해 새로 읽게 한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "member.import.file")
+public class MemberImportRunner implements ApplicationRunner {
+
+    private final ConfigurableApplicationContext context;
+    private final MemberImporter memberImporter;
+    private final Path file;
+    private final ImportFormat format;
+
+    public MemberImportRunner(ConfigurableApplicationContext context,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              Validator validator,
+                              ObjectMapper objectMapper,
+                              ChangeSequence changeSequence,
+                              @Value("${member.import.file}") String file,
+                              @Value("${member.import.format:auto}") String format,
+                              @Value("${member.import.batch-size:1000}") int batchSize,
+                              @Value("${member.import.writers:4}") int writers,
+                              @Value("${member.import.queue-capacity:8}") int queueCapacity) {
+        this.context = context;
+        this.memberImporter = new MemberImporter(jdbcTemplate, transactionManager, validator, objectMapper,
+                changeSequence, batchSize, writers, queueCapacity);
+        this.file = Path.of(file);
+        this.format = ImportFormat.of(format, this.file);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            log.info("회원 가져오기를 시작합니다. file: {}, format: {}", file, format);
+            ImportReport report = memberImporter.importFile(file, format);
+            log.info("회원 가져오기 완료. {}번째 줄 이후 {}행을 읽어 {}명 추가, {}명은 이미 있어 건너뜀, {}행 거부. {}ms",
+                    report.resumedAfterLine(), report.read(), report.imported(), report.skipped(), report.rejected(),
+                    report.elapsedMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exitCode = 1;
+        } catch (Exception e) {
+            log.error("회원 가져오기에 실패했습니다. 다시 실행하면 체크포인트 이후부터 이어서 가져옵니다.", e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
@@ -0,0 +1,290 @@
+package com.nhnacademy.miniDooray.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.miniDooray.dto.RegisterRequest;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 나 NDJSON 으로 받은 회원을 member 테이블에 바로 넣는다.
+ * 읽기와 검증은 호출한 스레드가 하고, batch-size 행씩 묶어 큐에 넣으면 writer 스레드들이 JDBC batch insert 로 넣는다.
+ * 각 batch 는 이미 있는 ID 를 먼저 걸러 낸다. 저장된 행이 파일의 행과 같으면 이전 실행이 넣은 것으로 보고 건너뛰고,
+ * 다르면 다른 회원과 ID 가 겹친 것이므로 거부한다. 그래서 체크포인트 이후를 다시 읽어도 중복으로 들어가지 않고 충돌도 숨지 않는다.
+ * 가입 API 를 거치지 않으므로 변경 이벤트는 발행하지 않는다.
+ */
+@Slf4j
+public class MemberImporter {
+
+    static final String INSERT_SQL = "insert into member " +
+            "(id, password, email, name, name_key, status, change_seq, updated_at, registered_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Batch END = new Batch(-1, -1, List.of());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ChangeSequence changeSequence;
+    private final int batchSize;
+    private final int writers;
+    private final int queueCapacity;
+
+    private final LongAdder read = new LongAdder();
+    private final LongAdder imported = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    public MemberImporter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          Validator validator,
+                          ObjectMapper objectMapper,
+                          ChangeSequence changeSequence,
+                          int batchSize,
+                          int writers,
+                          int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.changeSequence = changeSequence;
+        this.batchSize = batchSize;
+        this.writers = writers;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public ImportReport importFile(Path file, ImportFormat format) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        ImportCheckpoint checkpoint = ImportCheckpoint.open(file.resolveSibling(file.getFileName() + ".checkpoint"));
+        long resumeAfter = checkpoint.resumeAfter();
+        if (resumeAfter > 0) {
+            log.info("체크포인트가 있어 {}번째 줄 이후부터 가져옵니다.", resumeAfter);
+        }
+
+        BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try (ImportRejectLog rejects = new ImportRejectLog(file.resolveSibling(file.getFileName() + ".rejected"), resumeAfter > 0)) {
+            for (int i = 0; i < writers; i++) {
+                pool.execute(() -> writeLoop(queue, checkpoint, rejects));
+            }
+            try (MemberRecordReader reader = format.open(file, objectMapper)) {
+                readLoop(reader, resumeAfter, queue, rejects);
+            } finally {
+                for (int i = 0; i < writers; i++) {
+                    queue.put(END);
+                }
+                pool.shutdown();
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new IllegalStateException("회원 가져오기가 " + checkpoint.lastLine() + "번째 줄 이후에서 중단되었습니다.", cause);
+        }
+        return new ImportReport(resumeAfter, read.sum(), imported.sum(), skipped.sum(), rejected.sum(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void readLoop(MemberRecordReader reader, long resumeAfter, BlockingQueue<Batch> queue, ImportRejectLog rejects)
+            throws IOException, InterruptedException {
+        long sequence = 0;
+        long lastLine = resumeAfter;
+        List<ImportRow> rows = new ArrayList<>(batchSize);
+        ImportRecord record;
+        while (failure.get() == null && (record = reader.next()) != null) {
+            if (record.lineNumber() <= resumeAfter) {
+                continue;
+            }
+            read.increment();
+            lastLine = record.lineNumber();
+
+            String error = record.error() != null ? record.error() : validate(record.request());
+            if (error != null) {
+                reject(rejects, record.lineNumber(), error);
+                continue;
+            }
+            rows.add(new ImportRow(record.lineNumber(), record.request()));
+            if (rows.size() == batchSize) {
+                enqueue(queue, new Batch(sequence++, lastLine, rows));
+                rows = new ArrayList<>(batchSize);
+            }
+        }
+        // 마지막 batch 는 비어 있어도 넣어 끝부분의 거부된 행까지 체크포인트가 지나가게 한다.
+        if (failure.get() == null) {
+            enqueue(queue, new Batch(sequence, lastLine, rows));
+        }
+    }
+
+    private String validate(RegisterRequest request) {
+        request.setEmail(Member.normalizeEmail(request.getEmail()));
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void enqueue(BlockingQueue<Batch> queue, Batch batch) throws InterruptedException {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (failure.get() != null) {
+                return;
+            }
+        }
+    }
+
+    private void writeLoop(BlockingQueue<Batch> queue, ImportCheckpoint checkpoint, ImportRejectLog rejects) {
+        try {
+            Batch batch;
+            while ((batch = queue.take()) != END) {
+                // 실패한 뒤에도 큐는 계속 비워야 reader 가 END 를 넣다가 멈추지 않는다.
+                if (failure.get() != null) {
+                    continue;
+                }
+                try {
+                    write(batch.rows(), rejects);
+                    checkpoint.finished(batch.sequence(), batch.lastLine());
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            failure.compareAndSet(null, e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<ImportRow> batch, ImportRejectLog rejects) {
+        List<ImportRow> rows = withoutExisting(batch, rejects);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> arguments = rows.stream().map(row -> toArguments(row.request(), now)).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, arguments));
+            imported.add(rows.size());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 writer 가 같은 ID 나 이메일을 먼저 넣었다. 한 행씩 다시 넣어 충돌한 행만 거른다.
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, arguments.get(i));
+                    imported.increment();
+                } catch (DataIntegrityViolationException duplicate) {
+                    reject(rejects, rows.get(i).lineNumber(), "이미 있는 ID 나 이메일입니다.");
+                }
+            }
+        }
+    }
+
+    private List<ImportRow> withoutExisting(List<ImportRow> batch, ImportRejectLog rejects) {
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        Map<String, Set<String>> ids = Map.of("ids", batch.stream().map(row -> row.request().getId()).collect(Collectors.toSet()));
+        Map<String, Set<String>> emails = Map.of("emails", batch.stream().map(row -> row.request().getEmail()).collect(Collectors.toSet()));
+        Map<String, ImportedMember> existing = namedParameterJdbcTemplate.query(
+                        "select id, password, email, name from member where id in (:ids)", ids,
+                        (rs, rowNum) -> new ImportedMember(rs.getString("id"), rs.getString("password"),
+                                rs.getString("email"), rs.getString("name")))
+                .stream()
+                .collect(Collectors.toMap(ImportedMember::id, member -> member));
+        Set<String> archivedIds = new HashSet<>(
+                namedParameterJdbcTemplate.queryForList("select id from member_archive where id in (:ids)", ids, String.class));
+        Set<String> existingEmails = new HashSet<>(
+                namedParameterJdbcTemplate.queryForList("select email from member where email in (:emails)", emails, String.class));
+
+        List<ImportRow> rows = new ArrayList<>(batch.size());
+        Set<String> seenIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        for (ImportRow row : batch) {
+            RegisterRequest request = row.request();
+            ImportedMember stored = existing.get(request.getId());
+            if (stored != null) {
+                if (stored.sameAs(request) && seenIds.add(request.getId())) {
+                    skipped.increment();
+                } else {
+                    reject(rejects, row.lineNumber(), "이미 있는 ID 입니다.");
+                }
+            } else if (archivedIds.contains(request.getId())) {
+                reject(rejects, row.lineNumber(), "탈퇴 후 보관된 회원의 ID 입니다.");
+            } else if (!seenIds.add(request.getId())) {
+                reject(rejects, row.lineNumber(), "파일 안에서 ID 가 중복됩니다.");
+            } else if (existingEmails.contains(request.getEmail()) || !seenEmails.add(request.getEmail())) {
+                reject(rejects, row.lineNumber(), "이미 사용 중인 이메일입니다.");
+            } else {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private Object[] toArguments(RegisterRequest request, LocalDateTime now) {
+        return new Object[]{
+                request.getId(),
+                request.getPassword(),
+                request.getEmail(),
+                request.getName(),
+                Member.normalizeName(request.getName()),
+                Status.REGISTERED.name(),
+                changeSequence.next(),
+                now,
+                now
+        };
+    }
+
+    private void reject(ImportRejectLog rejects, long lineNumber, String reason) {
+        rejected.increment();
+        rejects.write(lineNumber, reason);
+    }
+
+    private record ImportRow(long lineNumber, RegisterRequest request) {
+    }
+
+    private record ImportedMember(String id, String password, String email, String name) {
+
+        boolean sameAs(RegisterRequest request) {
+            return Objects.equals(password, request.getPassword())
+                    && Objects.equals(email, request.getEmail())
+                    && Objects.equals(name, request.getName());
+        }
+    }
+
+    private record Batch(long sequence, long lastLine, List<ImportRow> rows) {
+    }
+}
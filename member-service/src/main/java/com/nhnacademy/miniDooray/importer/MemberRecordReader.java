@@ -0,0 +1,12 @@
+package com.nhnacademy.miniDooray.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+interface MemberRecordReader extends Closeable {
+
+    /**
+     * 다음 행을 읽는다. 빈 줄은 건너뛰고, 파일 끝이면 null 을 돌려준다.
+     */
+    ImportRecord next() throws IOException;
+}
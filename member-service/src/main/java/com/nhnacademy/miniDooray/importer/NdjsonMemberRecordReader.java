@@ -0,0 +1,48 @@
+package com.nhnacademy.miniDooray.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nhnacademy.miniDooray.dto.RegisterRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 한 줄에 회원 하나인 JSON. RegisterRequest 에 없는 필드는 무시한다.
+ */
+class NdjsonMemberRecordReader implements MemberRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber;
+
+    NdjsonMemberRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectReader = objectMapper.readerFor(RegisterRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                return ImportRecord.of(lineNumber, objectReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                return ImportRecord.rejected(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
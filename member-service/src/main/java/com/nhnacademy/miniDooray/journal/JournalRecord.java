@@ -0,0 +1,95 @@
+package com.nhnacademy.miniDooray.journal;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * journal 에 남기는 회원 변경 한 건. 변경 직후의 회원을 담으므로 ID 마다 마지막 레코드만 있으면 그 회원의 마지막 상태를 알 수 있다.
+ * 비밀번호는 남기지 않으므로 되읽은 회원의 password 는 null 이다.
+ *
+ * <pre>
+ * format(1) changeSeq(8) type status id email name
+ * </pre>
+ * type 과 status 는 enum 순서가 바뀌어도 읽을 수 있도록 이름으로 쓴다. 문자열은 UTF-8 바이트 길이(4, null 이면 -1) 뒤에 바이트가 온다.
+ * format 바이트가 없는 이전 레코드(changeSeq 로 시작하고 type/status 를 ordinal 로 쓴 것)도 읽을 수 있으며, 그 안의 password 는 버린다.
+ */
+public record JournalRecord(long changeSeq, MemberChangeType type, MemberDto member) {
+
+    private static final byte FORMAT = 1;
+    private static final MemberChangeType[] LEGACY_TYPES = MemberChangeType.values();
+    private static final Status[] LEGACY_STATUSES = Status.values();
+
+    byte[] encode() {
+        byte[] typeName = bytes(type.name());
+        byte[] status = bytes(member.getStatus() == null ? null : member.getStatus().name());
+        byte[] id = bytes(member.getId());
+        byte[] email = bytes(member.getEmail());
+        byte[] name = bytes(member.getName());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES + 5 * Integer.BYTES
+                + length(typeName) + length(status) + length(id) + length(email) + length(name));
+        buffer.put(FORMAT);
+        buffer.putLong(changeSeq);
+        put(buffer, typeName);
+        put(buffer, status);
+        put(buffer, id);
+        put(buffer, email);
+        put(buffer, name);
+        return buffer.array();
+    }
+
+    static JournalRecord decode(ByteBuffer buffer) {
+        // 이전 레코드는 changeSeq(epoch 마이크로초)의 첫 바이트, 즉 0 으로 시작한다.
+        if (buffer.get(buffer.position()) != FORMAT) {
+            return decodeLegacy(buffer);
+        }
+        buffer.get();
+        long changeSeq = buffer.getLong();
+        MemberChangeType type = MemberChangeType.valueOf(string(buffer));
+        String status = string(buffer);
+        MemberDto member = new MemberDto(string(buffer), null, string(buffer), string(buffer),
+                status == null ? null : Status.valueOf(status));
+        return new JournalRecord(changeSeq, type, member);
+    }
+
+    private static JournalRecord decodeLegacy(ByteBuffer buffer) {
+        long changeSeq = buffer.getLong();
+        MemberChangeType type = LEGACY_TYPES[buffer.get()];
+        byte status = buffer.get();
+        String id = string(buffer);
+        string(buffer);
+        MemberDto member = new MemberDto(id, null, string(buffer), string(buffer),
+                status < 0 ? null : LEGACY_STATUSES[status]);
+        return new JournalRecord(changeSeq, type, member);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void put(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
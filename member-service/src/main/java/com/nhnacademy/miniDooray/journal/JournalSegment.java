@@ -0,0 +1,182 @@
+package com.nhnacademy.miniDooray.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 크기가 고정된 memory-mapped segment 파일. 레코드는 [길이(4)][CRC32C(4)][payload] 로 이어 붙이고,
+ * 길이가 0 이거나 CRC 가 맞지 않는 곳을 끝으로 본다. 쓰지 않은 영역은 0 이므로 따로 끝 표시를 쓰지 않는다.
+ * 쓰기는 {@link MemberJournal} 의 lock 안에서만 하고, 절대 위치로만 쓰므로 다른 스레드가 {@link #force()} 해도 된다.
+ */
+final class JournalSegment implements AutoCloseable {
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    static final String SUFFIX = ".journal";
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int position;
+
+    private JournalSegment(long id, Path path, FileChannel channel, MappedByteBuffer buffer, int position) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    static Path path(Path directory, long id) {
+        return directory.resolve(String.format("%020d%s", id, SUFFIX));
+    }
+
+    static long id(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SUFFIX.length()));
+    }
+
+    /**
+     * 새 segment 를 만들거나, 이미 있으면 마지막 온전한 레코드 뒤부터 이어 쓰도록 연다.
+     * 끝 뒤에 반쯤 쓰인 레코드가 남아 있으면 지워서, 새로 쓴 레코드 뒤에 옛 내용이 이어 읽히지 않게 한다.
+     */
+    static JournalSegment openForAppend(Path directory, long id, int size) throws IOException {
+        Path path = path(directory, id);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            int capacity = (int) Math.max(size, channel.size());
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            int end = scan(buffer, capacity, null);
+            if (!isZero(buffer, end, capacity)) {
+                buffer.put(end, new byte[capacity - end]);
+                buffer.force();
+            }
+            return new JournalSegment(id, path, channel, buffer, end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 온전한 레코드를 순서대로 넘기고 읽은 바이트 수를 돌려준다.
+     */
+    static long read(Path path, Consumer<JournalRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int size = (int) channel.size();
+            if (size == 0) {
+                return 0;
+            }
+            return scan(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), size, consumer);
+        }
+    }
+
+    /**
+     * payload 들을 한 파일에 빈틈없이 써서 fsync 한다. compaction 결과를 쓸 때 쓴다.
+     */
+    static void write(Path path, Iterable<byte[]> payloads, long totalBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, totalBytes);
+            int offset = 0;
+            for (byte[] payload : payloads) {
+                offset = put(buffer, offset, payload);
+            }
+            buffer.force();
+        }
+    }
+
+    static int recordBytes(byte[] payload) {
+        return HEADER_BYTES + payload.length;
+    }
+
+    /**
+     * 남은 공간이 모자라면 false 를 돌려준다.
+     */
+    boolean append(byte[] payload) {
+        if (recordBytes(payload) > buffer.capacity() - position) {
+            return false;
+        }
+        position = put(buffer, position, payload);
+        return true;
+    }
+
+    void force() {
+        buffer.force(0, position);
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int position() {
+        return position;
+    }
+
+    boolean isEmpty() {
+        return position == 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static int put(ByteBuffer buffer, int offset, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        // 길이를 마지막에 써서, 중간에 멈춰도 읽는 쪽이 길이 0 을 끝으로 보게 한다.
+        buffer.putInt(offset + Integer.BYTES, (int) crc.getValue());
+        buffer.put(offset + HEADER_BYTES, payload);
+        buffer.putInt(offset, payload.length);
+        return offset + recordBytes(payload);
+    }
+
+    private static boolean isZero(ByteBuffer buffer, int from, int to) {
+        int offset = from;
+        for (; offset + Long.BYTES <= to; offset += Long.BYTES) {
+            if (buffer.getLong(offset) != 0) {
+                return false;
+            }
+        }
+        for (; offset < to; offset++) {
+            if (buffer.get(offset) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int scan(ByteBuffer buffer, int limit, Consumer<JournalRecord> consumer) {
+        int offset = 0;
+        CRC32C crc = new CRC32C();
+        while (offset + HEADER_BYTES <= limit) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || length > limit - offset - HEADER_BYTES) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(offset + HEADER_BYTES, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                break;
+            }
+            if (consumer != null) {
+                consumer.accept(JournalRecord.decode(payload));
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+}
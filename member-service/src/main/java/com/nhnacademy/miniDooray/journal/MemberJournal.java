@@ -0,0 +1,290 @@
+package com.nhnacademy.miniDooray.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 이 인스턴스에서 일어난 회원 변경을 순서대로 쌓는 append-only journal. 다른 인스턴스의 변경은 들어 있지 않으므로 DB 를 대신하지 못하며,
+ * 서비스는 시작할 때 읽지 않는다. 변경 이력을 확인하거나 장애를 분석할 때 {@link #replay}/{@link #latest()} 로 읽는다.
+ *
+ * <p>쓰기는 memory-mapped segment 에 하고, {@link #append} 는 그 레코드까지 fsync 될 때까지 기다린다.
+ * fsync 는 전용 스레드 하나가 하므로 fsync 하는 동안 들어온 레코드들은 다음 fsync 한 번에 함께 내려간다(group commit).
+ * segment 가 차면 다음 segment 를 만들고, 닫힌 segment 가 여러 개 쌓이면 {@link #compact()} 가
+ * 회원마다 마지막 레코드만 남겨 하나로 합친다. 탈퇴나 보관 레코드도 남겨 둬야 이전 segment 의 레코드가 되살아나지 않는다.
+ */
+@Slf4j
+public class MemberJournal implements AutoCloseable {
+
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long syncTimeoutNanos;
+    private final int compactionMinSegments;
+
+    private final Object lock = new Object();
+    private final Object maintenanceLock = new Object();
+    private final List<Path> sealed = new ArrayList<>();
+    private final Thread flusher;
+    private JournalSegment active;
+    private long appendedBytes;
+    private long syncedBytes;
+    private boolean closed;
+
+    private final LongAdder appends = new LongAdder();
+    private final LongAdder fsyncs = new LongAdder();
+
+    private MemberJournal(Path directory, int segmentSize, Duration syncTimeout, int compactionMinSegments,
+                          List<Path> sealed, JournalSegment active) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncTimeoutNanos = syncTimeout.toNanos();
+        this.compactionMinSegments = compactionMinSegments;
+        this.sealed.addAll(sealed);
+        this.active = active;
+        this.flusher = new Thread(this::flushLoop, "member-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 디렉터리의 segment 들을 이어 쓰도록 연다. 가장 마지막 segment 에 이어 쓰고, 나머지는 읽기만 한다.
+     */
+    public static MemberJournal open(Path directory, int segmentSize, Duration syncTimeout, int compactionMinSegments)
+            throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> leftovers = Files.list(directory)) {
+            for (Path leftover : leftovers.filter(path -> path.toString().endsWith(COMPACTING_SUFFIX)).toList()) {
+                Files.delete(leftover);
+            }
+        }
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        long activeId = segments.isEmpty() ? 0 : JournalSegment.id(segments.get(segments.size() - 1));
+        List<Path> sealed = segments.isEmpty() ? List.of() : segments.subList(0, segments.size() - 1);
+        return new MemberJournal(directory, segmentSize, syncTimeout, compactionMinSegments, sealed,
+                JournalSegment.openForAppend(directory, activeId, segmentSize));
+    }
+
+    /**
+     * 레코드를 쓰고 fsync 될 때까지 기다린다. sync-timeout 안에 fsync 가 끝나지 않으면 기다리지 않고 돌아온다.
+     */
+    public void append(JournalRecord record) throws IOException {
+        appendAll(List.of(record));
+    }
+
+    public void appendAll(List<JournalRecord> records) throws IOException {
+        List<byte[]> payloads = records.stream().map(JournalRecord::encode).toList();
+        long target;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("journal 이 닫혔습니다.");
+            }
+            for (byte[] payload : payloads) {
+                if (!active.append(payload)) {
+                    roll();
+                    if (!active.append(payload)) {
+                        throw new IllegalArgumentException("레코드가 segment 크기보다 큽니다. bytes: " + payload.length);
+                    }
+                }
+                appendedBytes += JournalSegment.recordBytes(payload);
+            }
+            appends.add(payloads.size());
+            target = appendedBytes;
+            lock.notifyAll();
+        }
+        awaitSynced(target);
+    }
+
+    /**
+     * 모든 레코드를 쓴 순서대로 넘기고 읽은 바이트 수를 돌려준다. 쓰기와 동시에 불러도 되며,
+     * 그때는 부른 시점 이후에 쓴 레코드가 일부 포함될 수 있다.
+     */
+    public long replay(Consumer<JournalRecord> consumer) throws IOException {
+        synchronized (maintenanceLock) {
+            List<Path> segments;
+            synchronized (lock) {
+                segments = new ArrayList<>(sealed);
+                segments.add(active.path());
+            }
+            long bytes = 0;
+            for (Path segment : segments) {
+                bytes += JournalSegment.read(segment, consumer);
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * 회원 ID 마다 마지막 레코드. 탈퇴하거나 보관된 회원도 그 상태의 레코드로 들어 있다.
+     */
+    public Map<String, JournalRecord> latest() throws IOException {
+        Map<String, JournalRecord> latest = new LinkedHashMap<>();
+        replay(record -> latest.put(record.member().getId(), record));
+        return latest;
+    }
+
+    /**
+     * 닫힌 segment 가 compaction-min-segments 개 이상이면 회원마다 마지막 레코드만 남겨 하나로 합친다.
+     * 합친 파일은 합쳐진 segment 중 마지막 것의 이름으로 바꿔 넣은 뒤 나머지를 지운다.
+     * 그 사이에 멈추면 옛 segment 가 남지만, 뒤에 오는 합친 파일이 마지막 상태를 다시 덮으므로 replay 결과는 같다.
+     *
+     * @return 합친 segment 수. 합치지 않았으면 0
+     */
+    public int compact() throws IOException {
+        synchronized (maintenanceLock) {
+            List<Path> segments;
+            synchronized (lock) {
+                segments = new ArrayList<>(sealed);
+            }
+            if (segments.size() < compactionMinSegments) {
+                return 0;
+            }
+
+            Map<String, byte[]> latest = new LinkedHashMap<>();
+            for (Path segment : segments) {
+                JournalSegment.read(segment, record -> {
+                    // 순서를 마지막 변경 기준으로 맞추기 위해 지우고 다시 넣는다.
+                    latest.remove(record.member().getId());
+                    latest.put(record.member().getId(), record.encode());
+                });
+            }
+            long totalBytes = latest.values().stream().mapToLong(JournalSegment::recordBytes).sum();
+
+            Path target = segments.get(segments.size() - 1);
+            Path compacting = target.resolveSibling(target.getFileName() + COMPACTING_SUFFIX);
+            JournalSegment.write(compacting, latest.values(), totalBytes);
+            Files.move(compacting, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            for (Path segment : segments.subList(0, segments.size() - 1)) {
+                Files.delete(segment);
+            }
+
+            synchronized (lock) {
+                sealed.removeAll(segments);
+                sealed.add(0, target);
+            }
+            log.info("journal segment {}개를 회원 {}명, {}bytes 로 합쳤습니다.", segments.size(), latest.size(), totalBytes);
+            return segments.size();
+        }
+    }
+
+    public long getAppends() {
+        return appends.sum();
+    }
+
+    public long getFsyncs() {
+        return fsyncs.sum();
+    }
+
+    public int getSegmentCount() {
+        synchronized (lock) {
+            return sealed.size() + 1;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (lock) {
+            active.force();
+            active.close();
+        }
+    }
+
+    private void roll() throws IOException {
+        // 이 segment 의 나머지는 flusher 가 아니라 여기서 내려 보낸다. flusher 는 새 segment 만 본다.
+        active.force();
+        active.close();
+        sealed.add(active.path());
+        active = JournalSegment.openForAppend(directory, active.id() + 1, segmentSize);
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long target;
+            JournalSegment segment;
+            synchronized (lock) {
+                while (!closed && syncedBytes == appendedBytes) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+                target = appendedBytes;
+                segment = active;
+            }
+
+            try {
+                segment.force();
+                fsyncs.increment();
+            } catch (RuntimeException e) {
+                // 기다리는 쪽은 sync-timeout 뒤에 돌아간다. 잠시 뒤 다시 시도한다.
+                log.error("journal fsync 에 실패했습니다. segment: {}", segment.path(), e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(100);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                continue;
+            }
+
+            synchronized (lock) {
+                syncedBytes = Math.max(syncedBytes, target);
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void awaitSynced(long target) {
+        long deadline = System.nanoTime() + syncTimeoutNanos;
+        synchronized (lock) {
+            while (syncedBytes < target && !closed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    log.warn("journal fsync 가 {}ms 안에 끝나지 않아 기다리지 않고 진행합니다.",
+                            TimeUnit.NANOSECONDS.toMillis(syncTimeoutNanos));
+                    return;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
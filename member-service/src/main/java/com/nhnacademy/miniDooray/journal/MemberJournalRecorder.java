@@ -0,0 +1,105 @@
+package com.nhnacademy.miniDooray.journal;
+
+import com.nhnacademy.miniDooray.event.MemberChangeBatchEvent;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 변경 이벤트를 {@link MemberJournal} 에 남긴다. 이벤트는 MemberServiceImpl 이 저장을 마친 뒤 같은 스레드에서 발행하므로
+ * 쓰기 요청은 journal fsync 까지 기다렸다가 응답한다.
+ * 일괄 상태 변경이나 보관처럼 chunk 로 커밋된 변경은 {@link MemberChangeBatchEvent} 로 받아 한 번에 쓰고 fsync 도 한 번만 기다린다.
+ * journal 쓰기가 실패해도 DB 에는 이미 반영되었으므로 요청은 실패시키지 않고 로그와 member.journal.failures 로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.journal.enabled", havingValue = "true")
+public class MemberJournalRecorder implements MeterBinder {
+
+    private final MemberJournal journal;
+    private final LongAdder failures = new LongAdder();
+
+    public MemberJournalRecorder(@Value("${member.journal.dir:journal}") Path directory,
+                                 @Value("${member.journal.segment-size-bytes:67108864}") int segmentSize,
+                                 @Value("${member.journal.sync-timeout-ms:1000}") long syncTimeoutMillis,
+                                 @Value("${member.journal.compaction-min-segments:4}") int compactionMinSegments)
+            throws IOException {
+        this.journal = MemberJournal.open(directory, segmentSize, Duration.ofMillis(syncTimeoutMillis),
+                compactionMinSegments);
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.isBatched()) {
+            return;
+        }
+        try {
+            journal.append(toRecord(event));
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            log.error("회원 변경을 journal 에 남기지 못했습니다. memberId: {}, changeSeq: {}",
+                    event.getMemberId(), event.getChangeSeq(), e);
+        }
+    }
+
+    @EventListener
+    public void onMemberChangeBatch(MemberChangeBatchEvent event) {
+        List<MemberChangedEvent> changes = event.getChanges();
+        try {
+            journal.appendAll(changes.stream().map(this::toRecord).toList());
+        } catch (IOException | RuntimeException e) {
+            failures.add(changes.size());
+            log.error("회원 변경 {}건을 journal 에 남기지 못했습니다. changeSeq: {} ~ {}", changes.size(),
+                    changes.get(0).getChangeSeq(), changes.get(changes.size() - 1).getChangeSeq(), e);
+        }
+    }
+
+    private JournalRecord toRecord(MemberChangedEvent event) {
+        return new JournalRecord(event.getChangeSeq(), event.getType(), event.getMember());
+    }
+
+    @Scheduled(fixedDelayString = "${member.journal.compaction-interval-ms:600000}")
+    public void compact() {
+        try {
+            journal.compact();
+        } catch (IOException e) {
+            log.warn("journal compaction 에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    public MemberJournal getJournal() {
+        return journal;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.journal.appends", journal, MemberJournal::getAppends)
+                .register(registry);
+        FunctionCounter.builder("member.journal.fsyncs", journal, MemberJournal::getFsyncs)
+                .register(registry);
+        FunctionCounter.builder("member.journal.failures", failures, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("member.journal.segments", journal, MemberJournal::getSegmentCount)
+                .register(registry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhnacademy.miniDooray.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.nhnacademy.miniDooray.exception.ErrorResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * localDateTime 은 JavaTimeModule 기본값과 같은 ISO-8601 문자열로 쓴다.
+ */
+@JsonComponent
+public class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString LOCAL_DATE_TIME = new SerializedString("localDateTime");
+
+    public ErrorResponseSerializer() {
+        super(ErrorResponse.class);
+    }
+
+    @Override
+    public void serialize(ErrorResponse error, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(error);
+        gen.writeFieldName(TITLE);
+        gen.writeString(error.getTitle());
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(error.getStatus());
+        gen.writeFieldName(LOCAL_DATE_TIME);
+        if (error.getLocalDateTime() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(error.getLocalDateTime()));
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.miniDooray.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * MemberDto 를 bean introspection 없이 바로 출력한다. 필드 이름은 미리 인코딩해 두고 재사용한다.
+ * 출력 형태는 기본 직렬화와 같으므로 필드를 추가하면 여기에도 함께 추가해야 한다.
+ */
+@JsonComponent
+public class MemberDtoSerializer extends StdSerializer<MemberDto> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString PASSWORD = new SerializedString("password");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString STATUS = new SerializedString("status");
+
+    public MemberDtoSerializer() {
+        super(MemberDto.class);
+    }
+
+    @Override
+    public void serialize(MemberDto member, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(member);
+        writeFields(member, gen);
+        gen.writeEndObject();
+    }
+
+    static void writeFields(MemberDto member, JsonGenerator gen) throws IOException {
+        gen.writeFieldName(ID);
+        gen.writeString(member.getId());
+        gen.writeFieldName(PASSWORD);
+        gen.writeString(member.getPassword());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(member.getEmail());
+        gen.writeFieldName(NAME);
+        gen.writeString(member.getName());
+        gen.writeFieldName(STATUS);
+        if (member.getStatus() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(member.getStatus().name());
+        }
+    }
+}
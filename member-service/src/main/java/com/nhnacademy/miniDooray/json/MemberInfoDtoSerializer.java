@@ -0,0 +1,32 @@
+package com.nhnacademy.miniDooray.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+@JsonComponent
+public class MemberInfoDtoSerializer extends StdSerializer<MemberInfoDto> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+
+    public MemberInfoDtoSerializer() {
+        super(MemberInfoDto.class);
+    }
+
+    @Override
+    public void serialize(MemberInfoDto info, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(info);
+        gen.writeFieldName(ID);
+        gen.writeString(info.getId());
+        gen.writeFieldName(NAME);
+        gen.writeString(info.getName());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,84 @@
+package com.nhnacademy.miniDooray.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberPage;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * 목록의 각 원소를 serializer 조회 없이 MemberDtoSerializer 로 바로 출력한다.
+ * 필드 이름과 형태는 예전 PageImpl 직렬화와 같다(pageable 제외).
+ */
+@JsonComponent
+public class MemberPageSerializer extends StdSerializer<MemberPage> {
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString NUMBER = new SerializedString("number");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString LAST = new SerializedString("last");
+    private static final SerializableString NUMBER_OF_ELEMENTS = new SerializedString("numberOfElements");
+    private static final SerializableString EMPTY = new SerializedString("empty");
+    private static final SerializableString SORT = new SerializedString("sort");
+    private static final SerializableString SORTED = new SerializedString("sorted");
+    private static final SerializableString UNSORTED = new SerializedString("unsorted");
+
+    public MemberPageSerializer() {
+        super(MemberPage.class);
+    }
+
+    @Override
+    public void serialize(MemberPage page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+        gen.writeFieldName(CONTENT);
+        if (page.getContent() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(page.getContent(), page.getContent().size());
+            for (MemberDto member : page.getContent()) {
+                gen.writeStartObject(member);
+                MemberDtoSerializer.writeFields(member, gen);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        gen.writeFieldName(NUMBER);
+        gen.writeNumber(page.getNumber());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeFieldName(FIRST);
+        gen.writeBoolean(page.isFirst());
+        gen.writeFieldName(LAST);
+        gen.writeBoolean(page.isLast());
+        gen.writeFieldName(NUMBER_OF_ELEMENTS);
+        gen.writeNumber(page.getNumberOfElements());
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(page.isEmpty());
+        gen.writeFieldName(SORT);
+        if (page.getSort() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject(page.getSort());
+            gen.writeFieldName(EMPTY);
+            gen.writeBoolean(page.getSort().empty());
+            gen.writeFieldName(SORTED);
+            gen.writeBoolean(page.getSort().sorted());
+            gen.writeFieldName(UNSORTED);
+            gen.writeBoolean(page.getSort().unsorted());
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,92 @@
+package com.nhnacademy.miniDooray.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD 방식의 동시성 제한기.
+ * 응답 시간이 기준 이하이고 한도의 절반 이상을 쓰고 있으면 한도를 1 올리고,
+ * 기준을 넘으면 backoffRatio 만큼 곱해서 줄인다.
+ * 줄인 뒤에는 그 전에 시작한 요청의 느린 응답을 무시한다. 이미 줄이기 전의 한도에서 들어온 요청이므로,
+ * 한 번의 지연에 몰려 돌아오는 느린 응답들이 한도를 연달아 깎아 minLimit 까지 떨어뜨리지 않게 한 RTT 에 한 번만 줄인다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, long latencyThresholdMillis) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException();
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                recordRejection();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        release(latencyNanos, System.nanoTime());
+    }
+
+    void release(long latencyNanos, long nowNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        onSample(latencyNanos, inFlightBefore, nowNanos);
+    }
+
+    public void recordRejection() {
+        rejected.increment();
+    }
+
+    public boolean isSaturated() {
+        return inFlight.get() >= limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightBefore, long nowNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            long startedNanos = nowNanos - latencyNanos;
+            if (lastDecreaseNanos != Long.MIN_VALUE && startedNanos - lastDecreaseNanos < 0) {
+                return;
+            }
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+            lastDecreaseNanos = nowNanos;
+        } else if (inFlightBefore * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
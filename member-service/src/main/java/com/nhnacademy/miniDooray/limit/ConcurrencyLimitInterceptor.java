@@ -0,0 +1,45 @@
+package com.nhnacademy.miniDooray.limit;
+
+import com.nhnacademy.miniDooray.exception.OverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrencyLimiters concurrencyLimiters;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 요청의 재디스패치는 처음 받은 허가를 그대로 사용한다.
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        ConcurrencyLimited limited = handlerMethod.getMethodAnnotation(ConcurrencyLimited.class);
+        if (limited == null) {
+            return true;
+        }
+
+        ConcurrencyLimiters.Permit permit = concurrencyLimiters.tryAcquire(limited.value());
+        if (permit == null) {
+            throw new OverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.",
+                    concurrencyLimiters.getRetryAfterSeconds());
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof ConcurrencyLimiters.Permit acquired) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            acquired.release();
+        }
+    }
+}
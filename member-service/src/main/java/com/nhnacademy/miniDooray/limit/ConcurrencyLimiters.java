@@ -0,0 +1,126 @@
+package com.nhnacademy.miniDooray.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class ConcurrencyLimiters implements MeterBinder {
+
+    private static final RouteGroup LOWEST_PRIORITY = RouteGroup.values()[RouteGroup.values().length - 1];
+
+    private final Map<RouteGroup, AdaptiveConcurrencyLimiter> limiters;
+    private final long retryAfterSeconds;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    public ConcurrencyLimiters(Map<RouteGroup, AdaptiveConcurrencyLimiter> limiters, long retryAfterSeconds) {
+        this.limiters = new EnumMap<>(limiters);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public static ConcurrencyLimiters from(Environment environment) {
+        Map<RouteGroup, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RouteGroup.class);
+        limiters.put(RouteGroup.LOGIN, create(environment, RouteGroup.LOGIN, 40, 10, 200, 0.9));
+        limiters.put(RouteGroup.WRITE, create(environment, RouteGroup.WRITE, 20, 5, 100, 0.8));
+        limiters.put(RouteGroup.READ, create(environment, RouteGroup.READ, 40, 5, 200, 0.8));
+        limiters.put(RouteGroup.LIST, create(environment, RouteGroup.LIST, 10, 1, 50, 0.5));
+        return new ConcurrencyLimiters(limiters,
+                environment.getProperty("member.concurrency.retry-after-seconds", Long.class, 1L));
+    }
+
+    /**
+     * 허용되면 완료 시 반드시 {@link Permit#release()} 해야 하는 허가를 돌려주고, 거절되면 null 을 돌려준다.
+     * 각 그룹은 자기 한도로만 거절한다. 다른 그룹이 한도에 도달해 있으면 가장 낮은 우선순위 그룹(LIST)만 먼저 거절한다.
+     */
+    public Permit tryAcquire(RouteGroup group) {
+        if (group == LOWEST_PRIORITY && anyOtherSaturated(group)) {
+            return reject(group);
+        }
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(group);
+        if (!limiter.tryAcquire()) {
+            return null;
+        }
+        return new Permit(limiter, latencies, System.nanoTime());
+    }
+
+    public AdaptiveConcurrencyLimiter get(RouteGroup group) {
+        return limiters.get(group);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public int getTotalInFlight() {
+        return limiters.values().stream().mapToInt(AdaptiveConcurrencyLimiter::getInFlight).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.forEach((group, limiter) -> {
+            String tag = group.name().toLowerCase();
+            Gauge.builder("member.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("group", tag)
+                    .register(registry);
+            Gauge.builder("member.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("group", tag)
+                    .register(registry);
+            FunctionCounter.builder("member.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                    .tag("group", tag)
+                    .register(registry);
+        });
+    }
+
+    private boolean anyOtherSaturated(RouteGroup group) {
+        for (RouteGroup other : RouteGroup.values()) {
+            if (other != group && limiters.get(other).isSaturated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Permit reject(RouteGroup group) {
+        limiters.get(group).recordRejection();
+        return null;
+    }
+
+    private static AdaptiveConcurrencyLimiter create(Environment environment, RouteGroup group,
+                                                     int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        String prefix = "member.concurrency." + group.name().toLowerCase() + ".";
+        long defaultThreshold = environment.getProperty("member.concurrency.latency-threshold-ms", Long.class, 500L);
+        return new AdaptiveConcurrencyLimiter(
+                environment.getProperty(prefix + "initial-limit", Integer.class, initialLimit),
+                environment.getProperty(prefix + "min-limit", Integer.class, minLimit),
+                environment.getProperty(prefix + "max-limit", Integer.class, maxLimit),
+                environment.getProperty(prefix + "backoff-ratio", Double.class, backoffRatio),
+                environment.getProperty(prefix + "latency-threshold-ms", Long.class, defaultThreshold));
+    }
+
+    public static class Permit {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final LatencyHistogram latencies;
+        private final long startNanos;
+
+        private Permit(AdaptiveConcurrencyLimiter limiter, LatencyHistogram latencies, long startNanos) {
+            this.limiter = limiter;
+            this.latencies = latencies;
+            this.startNanos = startNanos;
+        }
+
+        public void release() {
+            long latencyNanos = System.nanoTime() - startNanos;
+            limiter.release(latencyNanos);
+            latencies.record(latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.nhnacademy.miniDooray.limit;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 최근 window 동안의 정확한 횟수. {@link SlidingWindowCounter} 와 같은 방식으로 window 를 slices 개의 시간 조각으로 나눠 센다.
+ * 키 수는 capacity 를 넘지 않는다. 가득 차면 조각마다 한 번 window 가 지난 키를 지우고, 그래도 자리가 없으면
+ * 앞쪽 몇 개 중 횟수가 가장 적은 키를 밀어낸다. 밀려난 키는 그동안의 횟수를 잃으므로 적게 셀 수는 있어도 많이 세지는 않는다.
+ */
+final class ExactWindowCounter {
+
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final int capacity;
+    private final int slices;
+    private final long sliceMillis;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder evictions = new LongAdder();
+    private long lastSweepEpoch = Long.MIN_VALUE;
+
+    ExactWindowCounter(int capacity, int slices, Duration window) {
+        if (capacity < 1 || slices < 1) {
+            throw new IllegalArgumentException("capacity 와 slices 는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.slices = slices;
+        this.sliceMillis = Math.max(1, window.toMillis() / slices);
+    }
+
+    void increment(String key, long nowMillis) {
+        long epoch = nowMillis / sliceMillis;
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= capacity) {
+                makeRoom(epoch);
+            }
+            window = windows.computeIfAbsent(key, k -> new Window(slices));
+        }
+        window.add(epoch);
+    }
+
+    int count(String key, long nowMillis) {
+        Window window = windows.get(key);
+        return window == null ? 0 : window.sum(nowMillis / sliceMillis);
+    }
+
+    /**
+     * 가장 오래된 조각이 window 밖으로 나가기까지 남은 시간.
+     */
+    long millisUntilNextSlice(long nowMillis) {
+        return sliceMillis - nowMillis % sliceMillis;
+    }
+
+    int size() {
+        return windows.size();
+    }
+
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    private synchronized void makeRoom(long epoch) {
+        if (windows.size() < capacity) {
+            return;
+        }
+        if (lastSweepEpoch != epoch) {
+            lastSweepEpoch = epoch;
+            windows.values().removeIf(window -> window.sum(epoch) == 0);
+        }
+        while (windows.size() >= capacity) {
+            Map.Entry<String, Window> coldest = null;
+            int coldestCount = Integer.MAX_VALUE;
+            Iterator<Map.Entry<String, Window>> iterator = windows.entrySet().iterator();
+            for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+                Map.Entry<String, Window> entry = iterator.next();
+                int count = entry.getValue().sum(epoch);
+                if (count < coldestCount) {
+                    coldest = entry;
+                    coldestCount = count;
+                }
+            }
+            if (coldest == null) {
+                return;
+            }
+            windows.remove(coldest.getKey(), coldest.getValue());
+            evictions.increment();
+        }
+    }
+
+    private static final class Window {
+        private final long[] epochs;
+        private final int[] counts;
+
+        Window(int slices) {
+            epochs = new long[slices];
+            counts = new int[slices];
+            // 어떤 조각 번호와도 window 안으로 계산되지 않는 값으로 채운다.
+            Arrays.fill(epochs, Long.MIN_VALUE / 2);
+        }
+
+        synchronized void add(long epoch) {
+            int index = (int) (epoch % epochs.length);
+            if (epochs[index] != epoch) {
+                epochs[index] = epoch;
+                counts[index] = 0;
+            }
+            counts[index]++;
+        }
+
+        synchronized int sum(long epoch) {
+            int sum = 0;
+            for (int i = 0; i < epochs.length; i++) {
+                long age = epoch - epochs[i];
+                if (age >= 0 && age < epochs.length) {
+                    sum += counts[i];
+                }
+            }
+            return sum;
+        }
+    }
+}
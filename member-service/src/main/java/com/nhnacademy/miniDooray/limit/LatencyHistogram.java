@@ -0,0 +1,51 @@
+package com.nhnacademy.miniDooray.limit;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 응답 시간 분포. 버킷 경계는 100µs 에서 시작해 1.25 배씩 늘어나 약 2분까지 덮으므로 백분위 오차는 25% 이내다.
+ * {@link #takePercentile(double)} 는 분포를 비우므로 읽는 쪽은 하나여야 한다.
+ */
+public class LatencyHistogram {
+
+    private static final long[] UPPER_BOUNDS_NANOS = new long[64];
+
+    static {
+        for (int i = 0; i < UPPER_BOUNDS_NANOS.length; i++) {
+            UPPER_BOUNDS_NANOS[i] = Math.round(100_000 * Math.pow(1.25, i));
+        }
+    }
+
+    private final AtomicLongArray counts = new AtomicLongArray(UPPER_BOUNDS_NANOS.length + 1);
+
+    public void record(long latencyNanos) {
+        int index = Arrays.binarySearch(UPPER_BOUNDS_NANOS, latencyNanos);
+        counts.incrementAndGet(index >= 0 ? index : -index - 1);
+    }
+
+    /**
+     * 지난 호출 이후 기록된 응답 시간의 백분위를 버킷 상한으로 돌려주고 분포를 비운다. 기록이 없으면 0 이다.
+     */
+    public long takePercentile(double quantile) {
+        long[] snapshot = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.getAndSet(i, 0);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return UPPER_BOUNDS_NANOS[Math.min(i, UPPER_BOUNDS_NANOS.length - 1)];
+            }
+        }
+        return UPPER_BOUNDS_NANOS[UPPER_BOUNDS_NANOS.length - 1];
+    }
+}
@@ -0,0 +1,116 @@
+package com.nhnacademy.miniDooray.limit;
+
+import com.nhnacademy.miniDooray.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 실패를 회원(ID 나 이메일)별, 클라이언트 주소별로 세어 최근 window 안에 너무 많이 실패했으면 DB 를 보기 전에 거절한다.
+ * {@link SlidingWindowCounter} 는 메모리가 고정된 대신 다른 키와 칸을 나눠 써 실제보다 크게 셀 수 있으므로 거르는 데에만 쓰고,
+ * 막을지는 키 수가 제한된 {@link ExactWindowCounter} 의 정확한 횟수로 정한다. 오래된 실패는 window 가 지나면 저절로 빠진다.
+ * 정확한 표가 가득 차 밀려난 키는 적게 세어질 뿐이므로, 실패가 폭주해도 다른 회원이 대신 막히지는 않는다.
+ * 성공해도 실패 횟수를 지우지는 않는다.
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    private final SlidingWindowCounter memberFailures;
+    private final SlidingWindowCounter clientFailures;
+    private final ExactWindowCounter memberFailuresExact;
+    private final ExactWindowCounter clientFailuresExact;
+    private final int maxFailuresPerMember;
+    private final int maxFailuresPerClient;
+
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder blockedByMember = new LongAdder();
+    private final LongAdder blockedByClient = new LongAdder();
+
+    public LoginThrottle(@Value("${member.login.throttle.window-seconds:300}") long windowSeconds,
+                         @Value("${member.login.throttle.slices:5}") int slices,
+                         @Value("${member.login.throttle.table-width:32768}") int tableWidth,
+                         @Value("${member.login.throttle.table-depth:3}") int tableDepth,
+                         @Value("${member.login.throttle.max-failures-per-member:10}") int maxFailuresPerMember,
+                         @Value("${member.login.throttle.max-failures-per-client:100}") int maxFailuresPerClient,
+                         @Value("${member.login.throttle.max-tracked-members:100000}") int maxTrackedMembers,
+                         @Value("${member.login.throttle.max-tracked-clients:100000}") int maxTrackedClients) {
+        Duration window = Duration.ofSeconds(windowSeconds);
+        this.memberFailures = new SlidingWindowCounter(tableDepth, tableWidth, slices, window);
+        this.clientFailures = new SlidingWindowCounter(tableDepth, tableWidth, slices, window);
+        this.memberFailuresExact = new ExactWindowCounter(maxTrackedMembers, slices, window);
+        this.clientFailuresExact = new ExactWindowCounter(maxTrackedClients, slices, window);
+        this.maxFailuresPerMember = maxFailuresPerMember;
+        this.maxFailuresPerClient = maxFailuresPerClient;
+    }
+
+    /**
+     * 막힌 회원이나 클라이언트면 {@link TooManyLoginAttemptsException} 을 던진다. null 인 키는 보지 않는다.
+     */
+    public void check(String loginKey, String clientAddress) {
+        check(loginKey, clientAddress, System.currentTimeMillis());
+    }
+
+    void check(String loginKey, String clientAddress, long now) {
+        if (loginKey != null && exceeds(memberFailures, memberFailuresExact, loginKey, maxFailuresPerMember, now)) {
+            blockedByMember.increment();
+            throw new TooManyLoginAttemptsException("로그인 실패가 많아 잠시 로그인할 수 없습니다.",
+                    retryAfterSeconds(memberFailuresExact, now));
+        }
+        if (clientAddress != null && exceeds(clientFailures, clientFailuresExact, clientAddress, maxFailuresPerClient, now)) {
+            blockedByClient.increment();
+            throw new TooManyLoginAttemptsException("로그인 실패가 많아 잠시 로그인할 수 없습니다.",
+                    retryAfterSeconds(clientFailuresExact, now));
+        }
+    }
+
+    public void recordFailure(String loginKey, String clientAddress) {
+        recordFailure(loginKey, clientAddress, System.currentTimeMillis());
+    }
+
+    void recordFailure(String loginKey, String clientAddress, long now) {
+        failures.increment();
+        if (loginKey != null) {
+            memberFailures.increment(loginKey, now);
+            memberFailuresExact.increment(loginKey, now);
+        }
+        if (clientAddress != null) {
+            clientFailures.increment(clientAddress, now);
+            clientFailuresExact.increment(clientAddress, now);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("member.login.failures", failures, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("member.login.throttled", blockedByMember, LongAdder::sum)
+                .tag("scope", "member")
+                .register(registry);
+        FunctionCounter.builder("member.login.throttled", blockedByClient, LongAdder::sum)
+                .tag("scope", "client")
+                .register(registry);
+        FunctionCounter.builder("member.login.tracked.evictions", memberFailuresExact, ExactWindowCounter::getEvictions)
+                .tag("scope", "member")
+                .register(registry);
+        FunctionCounter.builder("member.login.tracked.evictions", clientFailuresExact, ExactWindowCounter::getEvictions)
+                .tag("scope", "client")
+                .register(registry);
+    }
+
+    /**
+     * sketch 는 작게 세지 않으므로 sketch 가 한도 밑이면 정확한 표를 볼 필요가 없다.
+     */
+    private static boolean exceeds(SlidingWindowCounter sketch, ExactWindowCounter exact, String key, int max, long now) {
+        return sketch.estimate(key, now) >= max && exact.count(key, now) >= max;
+    }
+
+    private static long retryAfterSeconds(ExactWindowCounter counter, long now) {
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(counter.millisUntilNextSlice(now) + 999));
+    }
+}
@@ -0,0 +1,11 @@
+package com.nhnacademy.miniDooray.limit;
+
+/**
+ * 동시성 제한 단위. 선언 순서가 우선순위이며, 다른 그룹이 한도에 도달하면 마지막 그룹(LIST)의 요청부터 거절한다.
+ */
+public enum RouteGroup {
+    LOGIN,
+    WRITE,
+    READ,
+    LIST
+}
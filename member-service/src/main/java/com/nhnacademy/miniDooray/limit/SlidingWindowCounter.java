@@ -0,0 +1,96 @@
+package com.nhnacademy.miniDooray.limit;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 최근 window 동안의 횟수를 고정 크기 표로 어림하는 count-min sketch.
+ * 행마다 width 개의 칸이 있고, 칸마다 window 를 slices 개로 나눈 시간 조각별 횟수를 둔다.
+ * 조각 한 개는 long 하나에 (조각 번호 << 16 | 횟수) 로 담아 CAS 로만 바꾸므로 lock 이 없다.
+ * 지난 조각은 읽을 때 무시하고 쓸 때 덮어쓰므로 따로 지우지 않아도 값이 줄어든다.
+ *
+ * <p>메모리는 depth * width * slices * 8 bytes 로 고정된다. 다른 키와 칸을 나눠 쓰면 실제보다 크게 셀 수는 있어도
+ * 작게 세지는 않는다. 그래서 이 값만으로 막지 않고 정확한 횟수를 확인하기 전에 거르는 데에만 쓴다. 남의 ID 와 같은 칸을 노린 키를 만들지 못하도록 해시 seed 는 인스턴스마다 무작위로 정한다.
+ */
+final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int depth;
+    private final int width;
+    private final int slices;
+    private final long sliceMillis;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final AtomicLongArray cells;
+
+    SlidingWindowCounter(int depth, int width, int slices, Duration window) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1 || slices < 1) {
+            throw new IllegalArgumentException("depth 와 slices 는 1 이상, width 는 2의 거듭제곱이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.slices = slices;
+        this.sliceMillis = Math.max(1, window.toMillis() / slices);
+        this.cells = new AtomicLongArray(Math.multiplyExact(Math.multiplyExact(depth, width), slices));
+    }
+
+    void increment(String key, long nowMillis) {
+        long epoch = nowMillis / sliceMillis;
+        long hash = hash(key);
+        for (int row = 0; row < depth; row++) {
+            int index = cell(hash, row) + (int) (epoch % slices);
+            long current;
+            long updated;
+            do {
+                current = cells.get(index);
+                long count = current >>> COUNT_BITS == epoch ? current & COUNT_MASK : 0;
+                if (count == COUNT_MASK) {
+                    break;
+                }
+                updated = epoch << COUNT_BITS | (count + 1);
+            } while (!cells.compareAndSet(index, current, updated));
+        }
+    }
+
+    /**
+     * 최근 window 동안의 횟수. 칸을 나눠 쓴 다른 키의 횟수가 섞일 수 있으므로 행들 중 가장 작은 값을 쓴다.
+     */
+    int estimate(String key, long nowMillis) {
+        long epoch = nowMillis / sliceMillis;
+        long hash = hash(key);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth && min > 0; row++) {
+            int base = cell(hash, row);
+            long sum = 0;
+            for (int slice = 0; slice < slices; slice++) {
+                long value = cells.get(base + slice);
+                long age = epoch - (value >>> COUNT_BITS);
+                if (age >= 0 && age < slices) {
+                    sum += value & COUNT_MASK;
+                }
+            }
+            min = Math.min(min, sum);
+        }
+        return (int) Math.min(min, Integer.MAX_VALUE);
+    }
+
+    private int cell(long hash, int row) {
+        int first = (int) hash;
+        int second = (int) (hash >>> 32) | 1;
+        return ((first + row * second) & (width - 1)) * slices + row * width * slices;
+    }
+
+    private long hash(String key) {
+        long hash = seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ hash >>> 33;
+    }
+}
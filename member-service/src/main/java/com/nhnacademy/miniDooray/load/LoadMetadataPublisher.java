@@ -0,0 +1,82 @@
+package com.nhnacademy.miniDooray.load;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimiters;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 처리 중인 요청 수, 지난 주기의 p99 응답 시간, DB 커넥션 풀 사용률을 Eureka 인스턴스 metadata 에 올린다.
+ * member-client 의 LoadAwareInstanceSelector 가 이 값으로 덜 바쁜 인스턴스를 고른다. 키 이름은 양쪽이 같아야 한다.
+ * metadata 는 Eureka 의 instance-info-replication 주기에 맞춰 등록되므로 그만큼 늦을 수 있고,
+ * 클라이언트가 오래된 값을 거를 수 있도록 갱신 시각을 함께 올린다. 클라이언트는 이 값이 바뀌는지만 보므로 두 호스트의 시계가 달라도 된다.
+ */
+@Slf4j
+@Component
+public class LoadMetadataPublisher {
+
+    public static final String IN_FLIGHT = "member.load.inflight";
+    public static final String P99_MILLIS = "member.load.p99-ms";
+    public static final String POOL_UTILIZATION = "member.load.pool-utilization";
+    public static final String UPDATED_AT = "member.load.updated-at";
+
+    private final ConcurrencyLimiters concurrencyLimiters;
+    private final DataSource dataSource;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    public LoadMetadataPublisher(ConcurrencyLimiters concurrencyLimiters,
+                                 DataSource dataSource,
+                                 ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+        this.concurrencyLimiters = concurrencyLimiters;
+        this.dataSource = dataSource;
+        this.applicationInfoManager = applicationInfoManager;
+    }
+
+    @Scheduled(initialDelayString = "${member.load.publish-interval-ms:10000}",
+            fixedDelayString = "${member.load.publish-interval-ms:10000}")
+    public void publish() {
+        applicationInfoManager.ifAvailable(manager -> manager.registerAppMetadata(snapshot()));
+    }
+
+    Map<String, String> snapshot() {
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put(IN_FLIGHT, Integer.toString(concurrencyLimiters.getTotalInFlight()));
+        metadata.put(P99_MILLIS, Long.toString(
+                TimeUnit.NANOSECONDS.toMillis(concurrencyLimiters.getLatencies().takePercentile(0.99))));
+        OptionalDouble poolUtilization = poolUtilization();
+        if (poolUtilization.isPresent()) {
+            metadata.put(POOL_UTILIZATION, String.format(Locale.ROOT, "%.2f", poolUtilization.getAsDouble()));
+        }
+        metadata.put(UPDATED_AT, Long.toString(System.currentTimeMillis()));
+        return metadata;
+    }
+
+    private OptionalDouble poolUtilization() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return OptionalDouble.empty();
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+                return OptionalDouble.empty();
+            }
+            return OptionalDouble.of((double) pool.getActiveConnections() / hikari.getMaximumPoolSize());
+        } catch (SQLException e) {
+            log.debug("커넥션 풀 사용률을 읽지 못했습니다.", e);
+            return OptionalDouble.empty();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.nhnacademy.miniDooray.repository;
+
+import com.nhnacademy.miniDooray.entity.ArchivedMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArchivedMemberRepository extends JpaRepository<ArchivedMember, String> {
+}
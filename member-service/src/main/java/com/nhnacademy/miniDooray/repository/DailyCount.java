@@ -0,0 +1,8 @@
+package com.nhnacademy.miniDooray.repository;
+
+import java.time.LocalDate;
+
+public interface DailyCount {
+    LocalDate getRegisteredOn();
+    long getTotal();
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.miniDooray.repository;
+
+import com.nhnacademy.miniDooray.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * 잠금이 만료됐거나 이미 owner 가 가진 경우에만 lockedUntil 을 until 로 옮긴다. 갱신된 행이 1 이면 잠금을 얻은 것이다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update JobLock l set l.lockedBy = :owner, l.lockedUntil = :until " +
+            "where l.name = :name and (l.lockedUntil < :now or l.lockedBy = :owner)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update JobLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
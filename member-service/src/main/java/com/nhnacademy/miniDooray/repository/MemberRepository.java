@@ -0,0 +1,84 @@
+package com.nhnacademy.miniDooray.repository;
+
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+import com.nhnacademy.miniDooray.dto.MemberSearchResult;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberRepository extends JpaRepository<Member, String> {
+    boolean existsByIdAndPassword(String id, String password);
+
+    boolean existsByEmail(String email);
+
+    Optional<Member> findByEmailAndPasswordAndStatusNot(String email, String password, Status excluded);
+
+    @Query("select m.id from Member m where m.email = :email")
+    Optional<String> findIdByEmail(@Param("email") String email);
+
+    List<MemberStatusView> findByIdIn(Collection<String> ids);
+
+    @Query("select m.id from Member m where m.status = :status and m.id > :afterId order by m.id")
+    List<String> findIdsByStatusAfter(@Param("status") Status status, @Param("afterId") String afterId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.status = :status, m.changeSeq = :changeSeq, m.updatedAt = :updatedAt " +
+            "where m.id in :ids and m.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<String> ids, @Param("status") Status status,
+                           @Param("changeSeq") long changeSeq, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select new com.nhnacademy.miniDooray.dto.MemberSearchResult(m.id, m.name, m.email) from Member m " +
+            "where m.nameKey like :prefix escape '!' and m.status <> :excluded " +
+            "and (m.nameKey > :afterKey or (m.nameKey = :afterKey and m.id > :afterId)) order by m.nameKey, m.id")
+    List<MemberSearchResult> searchByNamePrefix(@Param("prefix") String prefix, @Param("excluded") Status excluded,
+                                                @Param("afterKey") String afterKey, @Param("afterId") String afterId,
+                                                Pageable pageable);
+
+    @Query("select new com.nhnacademy.miniDooray.dto.MemberSearchResult(m.id, m.name, m.email) from Member m " +
+            "where m.email like :prefix escape '!' and m.status <> :excluded " +
+            "and (m.email > :afterKey or (m.email = :afterKey and m.id > :afterId)) order by m.email, m.id")
+    List<MemberSearchResult> searchByEmailPrefix(@Param("prefix") String prefix, @Param("excluded") Status excluded,
+                                                 @Param("afterKey") String afterKey, @Param("afterId") String afterId,
+                                                 Pageable pageable);
+
+    @Query("select new com.nhnacademy.miniDooray.dto.MemberSearchResult(m.id, m.name, m.email) from Member m " +
+            "where m.status <> :excluded and m.id > :afterId order by m.id")
+    List<MemberSearchResult> findSearchEntriesAfter(@Param("excluded") Status excluded, @Param("afterId") String afterId,
+                                                    Pageable pageable);
+
+    @Query("select new com.nhnacademy.miniDooray.dto.MemberInfoDto(m.id, m.name) from Member m " +
+            "where m.status <> :excluded and m.id > :afterId order by m.id")
+    List<MemberInfoDto> findInfosAfter(@Param("excluded") Status excluded, @Param("afterId") String afterId,
+                                       Pageable pageable);
+
+    @Query("select m from Member m where m.changeSeq <= :upTo " +
+            "and (m.changeSeq > :afterSeq or (m.changeSeq = :afterSeq and m.id > :afterId)) " +
+            "order by m.changeSeq, m.id")
+    List<Member> findChangesAfter(@Param("afterSeq") long afterSeq, @Param("afterId") String afterId,
+                                  @Param("upTo") long upTo, Pageable pageable);
+
+    @Query("select m.status as status, count(m) as total from Member m group by m.status")
+    List<StatusCount> countByStatus();
+
+    @Query("select cast(m.registeredAt as LocalDate) as registeredOn, count(m) as total from Member m " +
+            "where m.registeredAt >= :from group by cast(m.registeredAt as LocalDate)")
+    List<DailyCount> countRegistrationsSince(@Param("from") LocalDateTime from);
+
+    @Query("select m.id from Member m where m.status = :status " +
+            "and m.updatedAt < :cutoff and m.id > :afterId order by m.id")
+    List<String> findArchivableIds(@Param("status") Status status, @Param("cutoff") LocalDateTime cutoff,
+                                   @Param("afterId") String afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Member m where m.id in :ids and m.status = :status")
+    int deleteByIdInAndStatus(@Param("ids") Collection<String> ids, @Param("status") Status status);
+}
@@ -0,0 +1,8 @@
+package com.nhnacademy.miniDooray.repository;
+
+import com.nhnacademy.miniDooray.entity.Status;
+
+public interface MemberStatusView {
+    String getId();
+    Status getStatus();
+}
@@ -0,0 +1,8 @@
+package com.nhnacademy.miniDooray.repository;
+
+import com.nhnacademy.miniDooray.entity.Status;
+
+public interface StatusCount {
+    Status getStatus();
+    long getTotal();
+}
@@ -0,0 +1,210 @@
+package com.nhnacademy.miniDooray.search;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberSearchResult;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.event.PeerMembersChangedEvent;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이름/이메일 접두어 검색용 메모리 색인. (소문자 값, ID) 순으로 정렬된 skip list 에서
+ * 접두어 구간만 읽으므로 비용은 전체 회원 수가 아니라 돌려주는 건수에 비례한다.
+ * 키는 DB 의 {@code name_key}/{@code email} 과 같은 규칙으로 만들어 색인이 준비되기 전후로 cursor 순서가 같다.
+ * (MySQL 에서는 두 컬럼이 binary collation 이어야 정렬까지 일치하며, {@link com.nhnacademy.miniDooray.config.MemberSchemaBackfill} 이 맞춘다.)
+ * 적재가 끝나기 전에 들어온 변경은 모아 두었다가 적재 후 순서대로 반영해 오래된 batch 가 최신 변경을 덮지 않게 한다.
+ * 다른 인스턴스에서 바뀐 회원은 DB 에서 다시 읽을 때까지 dirty 로 두고, 그동안은 준비되지 않은 것으로 보고 DB 검색으로 넘긴다.
+ * 무효화 순번이 비면 어떤 회원이 바뀌었는지 모르므로 색인 전체를 다시 적재한다.
+ */
+@Component
+@ConditionalOnProperty(name = "member.search.in-memory-index", havingValue = "true")
+public class MemberPrefixIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final MemberRepository memberRepository;
+    private final int loadBatchSize;
+
+    private final NavigableMap<String, MemberSearchResult> byName = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, MemberSearchResult> byEmail = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, MemberSearchResult> byId = new ConcurrentHashMap<>();
+    private final List<MemberChangedEvent> pending = new ArrayList<>();
+    private final ConcurrentMap<String, Object> dirty = new ConcurrentHashMap<>();
+    private final AtomicLong missedGeneration = new AtomicLong();
+    private volatile long loadedGeneration;
+    private boolean loading = true;
+    private volatile boolean ready;
+
+    public MemberPrefixIndex(MemberRepository memberRepository,
+                             @Value("${member.search.load-batch-size:1000}") int loadBatchSize) {
+        this.memberRepository = memberRepository;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            String afterId = "";
+            List<MemberSearchResult> batch;
+            while (!(batch = memberRepository.findSearchEntriesAfter(
+                    Status.WITHDRAWN, afterId, PageRequest.of(0, loadBatchSize))).isEmpty()) {
+                batch.forEach(this::put);
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } finally {
+            synchronized (this) {
+                pending.forEach(this::apply);
+                pending.clear();
+                loading = false;
+            }
+        }
+        ready = true;
+    }
+
+    @EventListener
+    public synchronized void onMemberChanged(MemberChangedEvent event) {
+        // 다시 읽는 중인 회원이면 읽은 값이 이 변경보다 오래됐을 수 있으므로 표시를 바꿔 다음 갱신에서 다시 읽게 한다.
+        dirty.computeIfPresent(event.getMemberId(), (memberId, token) -> new Object());
+        if (loading) {
+            pending.add(event);
+        } else {
+            apply(event);
+        }
+    }
+
+    @EventListener
+    public void onPeerMembersChanged(PeerMembersChangedEvent event) {
+        if (event.isMissed()) {
+            missedGeneration.incrementAndGet();
+            return;
+        }
+        event.getMemberIds().forEach(memberId -> dirty.put(memberId, new Object()));
+    }
+
+    /**
+     * 다른 인스턴스의 변경을 반영한다. 순번이 빈 적이 있으면 다시 적재하고, 아니면 dirty 회원만 DB 에서 다시 읽는다.
+     * 읽는 동안 표시가 바뀐 회원은 읽은 값이 오래됐을 수 있으므로 반영하지 않고 다음 갱신으로 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${member.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        long missed = missedGeneration.get();
+        if (missed != loadedGeneration) {
+            reload();
+            loadedGeneration = missed;
+            return;
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> reading = new HashMap<>(dirty);
+        Map<String, MemberSearchResult> entries = new HashMap<>();
+        for (Member member : memberRepository.findAllById(reading.keySet())) {
+            if (member.getStatus() != Status.WITHDRAWN) {
+                entries.put(member.getId(), new MemberSearchResult(member.getId(), member.getName(), member.getEmail()));
+            }
+        }
+        synchronized (this) {
+            reading.forEach((memberId, token) -> {
+                if (dirty.remove(memberId, token)) {
+                    MemberSearchResult entry = entries.get(memberId);
+                    if (entry == null) {
+                        remove(memberId);
+                    } else {
+                        put(entry);
+                    }
+                }
+            });
+        }
+    }
+
+    private void reload() {
+        synchronized (this) {
+            loading = true;
+            byId.clear();
+            byName.clear();
+            byEmail.clear();
+            dirty.clear();
+        }
+        load();
+    }
+
+    private void apply(MemberChangedEvent event) {
+        MemberDto member = event.getMember();
+        if (member.getStatus() == Status.WITHDRAWN) {
+            remove(member.getId());
+        } else {
+            put(new MemberSearchResult(member.getId(), member.getName(), member.getEmail()));
+        }
+    }
+
+    public boolean isReady() {
+        return ready && missedGeneration.get() == loadedGeneration && dirty.isEmpty();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public List<MemberSearchResult> search(SearchField field, String prefix, SearchCursor after, int limit) {
+        NavigableMap<String, MemberSearchResult> index = field == SearchField.NAME ? byName : byEmail;
+        String normalizedPrefix = normalize(prefix);
+
+        Map<String, MemberSearchResult> range = SearchCursor.START.equals(after)
+                ? index.tailMap(normalizedPrefix, true)
+                : index.tailMap(key(after.key(), after.id()), false);
+
+        List<MemberSearchResult> results = new ArrayList<>(limit);
+        for (Map.Entry<String, MemberSearchResult> entry : range.entrySet()) {
+            if (!entry.getKey().startsWith(normalizedPrefix) || results.size() == limit) {
+                break;
+            }
+            results.add(entry.getValue());
+        }
+        return results;
+    }
+
+    private synchronized void put(MemberSearchResult entry) {
+        remove(entry.getId());
+        byId.put(entry.getId(), entry);
+        byName.put(key(entry.getName(), entry.getId()), entry);
+        byEmail.put(key(entry.getEmail(), entry.getId()), entry);
+    }
+
+    private synchronized void remove(String memberId) {
+        MemberSearchResult previous = byId.remove(memberId);
+        if (previous != null) {
+            byName.remove(key(previous.getName(), memberId));
+            byEmail.remove(key(previous.getEmail(), memberId));
+        }
+    }
+
+    private static String key(String value, String memberId) {
+        return normalize(value) + SEPARATOR + memberId;
+    }
+
+    private static String normalize(String value) {
+        return Member.normalizeName(value);
+    }
+}
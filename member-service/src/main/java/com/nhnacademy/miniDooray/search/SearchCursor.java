@@ -0,0 +1,35 @@
+package com.nhnacademy.miniDooray.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 위치. 마지막으로 돌려준 (정렬 키, ID) 쌍을 URL-safe 문자열로 인코딩한다.
+ */
+public record SearchCursor(String key, String id) {
+
+    private static final char SEPARATOR = '\u0000';
+    public static final SearchCursor START = new SearchCursor("", "");
+
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return START;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+        int separator = decoded.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+        return new SearchCursor(decoded.substring(0, separator), decoded.substring(separator + 1));
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
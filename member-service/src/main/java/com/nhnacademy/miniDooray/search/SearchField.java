@@ -0,0 +1,6 @@
+package com.nhnacademy.miniDooray.search;
+
+public enum SearchField {
+    NAME,
+    EMAIL
+}
@@ -0,0 +1,13 @@
+package com.nhnacademy.miniDooray.service;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncMemberService {
+    CompletableFuture<MemberDto> getMember(String memberId);
+    CompletableFuture<List<MemberInfoDto>> lookupMembers(List<String> memberIds);
+    CompletableFuture<Boolean> matches(String memberId, String password);
+}
@@ -0,0 +1,7 @@
+package com.nhnacademy.miniDooray.service;
+
+import com.nhnacademy.miniDooray.dto.MemberChangesResponse;
+
+public interface MemberChangeFeedService {
+    MemberChangesResponse getChanges(String cursor, int size);
+}
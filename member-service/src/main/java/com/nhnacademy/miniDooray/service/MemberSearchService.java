@@ -0,0 +1,8 @@
+package com.nhnacademy.miniDooray.service;
+
+import com.nhnacademy.miniDooray.dto.MemberSearchResponse;
+import com.nhnacademy.miniDooray.search.SearchField;
+
+public interface MemberSearchService {
+    MemberSearchResponse search(SearchField field, String prefix, String cursor, int size);
+}
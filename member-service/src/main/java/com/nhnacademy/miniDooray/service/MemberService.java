@@ -11,9 +11,13 @@ import java.util.List;
 public interface MemberService {
     MemberDto registerMember(RegisterRequest registerRequest);
     MemberDto getMember(String memberId);
+    MemberDto getMemberByEmail(String email);
     MemberDto updateMember(String memberId, UpdateRequest updateRequest);
     void deleteMember(String memberId);
     Page<MemberDto> getMembers(int page, int size);
     boolean matches(String memberId, String password);
+    MemberDto authenticateByEmail(String email, String password);
     List<MemberInfoDto> lookupMembers(List<String> memberIds);
+    List<MemberInfoDto> lookupMembers(List<String> memberIds, boolean includeArchived);
+    List<MemberInfoDto> lookupMembers(List<String> memberIds, boolean includeArchived, boolean partial);
 }
@@ -0,0 +1,8 @@
+package com.nhnacademy.miniDooray.service;
+
+import com.nhnacademy.miniDooray.dto.BulkStatusRequest;
+import com.nhnacademy.miniDooray.dto.BulkStatusResponse;
+
+public interface MemberStatusService {
+    BulkStatusResponse changeStatuses(BulkStatusRequest bulkStatusRequest);
+}
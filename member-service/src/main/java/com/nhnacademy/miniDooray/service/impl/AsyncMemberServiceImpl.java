@@ -0,0 +1,96 @@
+package com.nhnacademy.miniDooray.service.impl;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+import com.nhnacademy.miniDooray.service.AsyncMemberService;
+import com.nhnacademy.miniDooray.service.MemberService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * {@link MemberService} 호출을 별도 실행기에서 수행한다.
+ * 남은 시간을 초 단위로 올림해(최소 1초) 읽기 전용 트랜잭션의 timeout 으로 넘긴다. JDBC 쿼리 타임아웃은 초 단위라
+ * 1초 미만의 기한은 future 의 timeout 이 지키고, 기한이 지나면 작업을 interrupt 한다.
+ * 기한이 이미 지났거나 취소된 작업은 시작하지 않는다.
+ */
+@Service
+public class AsyncMemberServiceImpl implements AsyncMemberService {
+
+    private final MemberService memberService;
+    private final ExecutorService executor;
+    private final PlatformTransactionManager transactionManager;
+    private final long timeoutMillis;
+
+    public AsyncMemberServiceImpl(MemberService memberService,
+                                  @Qualifier("memberServiceExecutor") ExecutorService executor,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${member.async.timeout-ms:3000}") long timeoutMillis) {
+        this.memberService = memberService;
+        this.executor = executor;
+        this.transactionManager = transactionManager;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public CompletableFuture<MemberDto> getMember(String memberId) {
+        return submit(() -> memberService.getMember(memberId));
+    }
+
+    @Override
+    public CompletableFuture<List<MemberInfoDto>> lookupMembers(List<String> memberIds) {
+        return submit(() -> memberService.lookupMembers(memberIds));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> matches(String memberId, String password) {
+        return submit(() -> memberService.matches(memberId, password));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        Future<?> task = executor.submit(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                result.completeExceptionally(new TimeoutException());
+                return;
+            }
+            long remainingSeconds = Math.max(1, (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            try {
+                result.complete(inReadOnlyTransaction(work, (int) remainingSeconds));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        result.whenComplete((value, e) -> {
+            if (e != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> work, int remainingSeconds) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout(remainingSeconds);
+        return transactionTemplate.execute(transaction -> work.get());
+    }
+}
@@ -0,0 +1,83 @@
+package com.nhnacademy.miniDooray.service.impl;
+
+import com.nhnacademy.miniDooray.dto.MemberChangeDto;
+import com.nhnacademy.miniDooray.dto.MemberChangesResponse;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.feed.ChangeCursor;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.service.MemberChangeFeedService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class MemberChangeFeedServiceImpl implements MemberChangeFeedService {
+
+    private final MemberRepository memberRepository;
+    private final ChangeSequence changeSequence;
+    private final int maxSize;
+    private final long settleMicros;
+
+    /**
+     * settle 구간은 가장 긴 쓰기 트랜잭션 timeout 에 인스턴스 간 허용 시계 오차를 더한 값보다 짧을 수 없다.
+     * settle-ms 를 지정하지 않으면 그 하한을 그대로 쓰고, 더 짧게 지정하면 시작하지 않는다.
+     */
+    public MemberChangeFeedServiceImpl(MemberRepository memberRepository,
+                                       ChangeSequence changeSequence,
+                                       @Value("${member.changes.max-size:500}") int maxSize,
+                                       @Value("${member.changes.settle-ms:-1}") long settleMillis,
+                                       @Value("${spring.transaction.default-timeout:10s}") Duration transactionTimeout,
+                                       @Value("${member.bulk-status.chunk-timeout-seconds:10}") int chunkTimeoutSeconds,
+                                       @Value("${member.changes.max-clock-skew-ms:1000}") long maxClockSkewMillis) {
+        long minSettleMillis = Math.max(transactionTimeout.toMillis(), TimeUnit.SECONDS.toMillis(chunkTimeoutSeconds))
+                + maxClockSkewMillis;
+        if (settleMillis >= 0 && settleMillis < minSettleMillis) {
+            throw new IllegalArgumentException(
+                    "member.changes.settle-ms 는 트랜잭션 timeout 과 시계 오차를 더한 " + minSettleMillis + "ms 이상이어야 합니다.");
+        }
+        this.memberRepository = memberRepository;
+        this.changeSequence = changeSequence;
+        this.maxSize = maxSize;
+        this.settleMicros = TimeUnit.MILLISECONDS.toMicros(settleMillis < 0 ? minSettleMillis : settleMillis);
+    }
+
+    /**
+     * 순번은 커밋 전에 매겨지므로, 아직 커밋되지 않았을 수 있는 최근 settle 구간은 돌려주지 않는다.
+     * 그래야 늦게 커밋된 낮은 순번의 변경을 cursor 가 건너뛰지 않는다.
+     * 쓰기 트랜잭션은 timeout 안에 커밋되거나 롤백되고, 다른 인스턴스의 순번은 허용 오차만큼 어긋날 수 있다.
+     */
+    @Override
+    public MemberChangesResponse getChanges(String cursor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        ChangeCursor after = ChangeCursor.decode(cursor);
+        long upTo = changeSequence.currentMicros() - settleMicros;
+
+        List<Member> members = memberRepository.findChangesAfter(
+                after.changeSeq(), after.id(), upTo, PageRequest.of(0, Math.min(size, maxSize)));
+
+        List<MemberChangeDto> changes = members.stream()
+                .map(member -> new MemberChangeDto(
+                        member.getId(),
+                        member.getEmail(),
+                        member.getName(),
+                        member.getStatus(),
+                        member.getChangeSeq(),
+                        member.getUpdatedAt()))
+                .toList();
+
+        ChangeCursor next = after;
+        if (!changes.isEmpty()) {
+            MemberChangeDto last = changes.get(changes.size() - 1);
+            next = new ChangeCursor(last.getChangeSeq(), last.getId());
+        }
+        return new MemberChangesResponse(changes, next.encode());
+    }
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.miniDooray.service.impl;
+
+import com.nhnacademy.miniDooray.dto.MemberSearchResponse;
+import com.nhnacademy.miniDooray.dto.MemberSearchResult;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.search.MemberPrefixIndex;
+import com.nhnacademy.miniDooray.search.SearchCursor;
+import com.nhnacademy.miniDooray.search.SearchField;
+import com.nhnacademy.miniDooray.service.MemberSearchService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class MemberSearchServiceImpl implements MemberSearchService {
+
+    private final MemberRepository memberRepository;
+    private final ObjectProvider<MemberPrefixIndex> memberPrefixIndex;
+    private final int maxSize;
+
+    public MemberSearchServiceImpl(MemberRepository memberRepository,
+                                   ObjectProvider<MemberPrefixIndex> memberPrefixIndex,
+                                   @Value("${member.search.max-size:50}") int maxSize) {
+        this.memberRepository = memberRepository;
+        this.memberPrefixIndex = memberPrefixIndex;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public MemberSearchResponse search(SearchField field, String prefix, String cursor, int size) {
+        if (field == null || prefix == null || prefix.isBlank() || size <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        // 이메일과 이름 검색 키는 소문자로 저장되므로 검색어도 같은 규칙으로 바꾼다.
+        prefix = field == SearchField.EMAIL ? Member.normalizeEmail(prefix) : Member.normalizeName(prefix);
+        int limit = Math.min(size, maxSize);
+        SearchCursor after = SearchCursor.decode(cursor);
+
+        MemberPrefixIndex index = memberPrefixIndex.getIfAvailable();
+        List<MemberSearchResult> members = index != null && index.isReady()
+                ? index.search(field, prefix, after, limit)
+                : searchDatabase(field, prefix, after, limit);
+
+        String nextCursor = null;
+        if (members.size() == limit) {
+            MemberSearchResult last = members.get(members.size() - 1);
+            String key = field == SearchField.NAME ? Member.normalizeName(last.getName()) : last.getEmail();
+            nextCursor = new SearchCursor(key, last.getId()).encode();
+        }
+        return new MemberSearchResponse(members, nextCursor);
+    }
+
+    private List<MemberSearchResult> searchDatabase(SearchField field, String prefix, SearchCursor after, int limit) {
+        String pattern = escapeLike(prefix) + "%";
+        PageRequest page = PageRequest.of(0, limit);
+        if (field == SearchField.NAME) {
+            return memberRepository.searchByNamePrefix(pattern, Status.WITHDRAWN, after.key(), after.id(), page);
+        }
+        return memberRepository.searchByEmailPrefix(pattern, Status.WITHDRAWN, after.key(), after.id(), page);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+}
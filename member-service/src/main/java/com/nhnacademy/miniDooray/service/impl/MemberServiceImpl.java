@@ -0,0 +1,346 @@
+package com.nhnacademy.miniDooray.service.impl;
+
+import com.nhnacademy.miniDooray.cache.MemberCache;
+import com.nhnacademy.miniDooray.cache.MemberEmailCache;
+import com.nhnacademy.miniDooray.cache.NegativeMemberCache;
+import com.nhnacademy.miniDooray.cache.SingleFlight;
+import com.nhnacademy.miniDooray.cache.StaleWhileRevalidate;
+import com.nhnacademy.miniDooray.directory.MemberDirectory;
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+import com.nhnacademy.miniDooray.dto.RegisterRequest;
+import com.nhnacademy.miniDooray.dto.UpdateRequest;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.exception.EmailAlreadyExistsException;
+import com.nhnacademy.miniDooray.exception.IdAlreadyExistsException;
+import com.nhnacademy.miniDooray.exception.IdNotFoundException;
+import com.nhnacademy.miniDooray.exception.IllegalIdOrPasswordException;
+import com.nhnacademy.miniDooray.exception.StatusIsWithdrawnException;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import com.nhnacademy.miniDooray.repository.ArchivedMemberRepository;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.service.MemberService;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import com.nhnacademy.miniDooray.warmup.HotKeyTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Service
+public class MemberServiceImpl implements MemberService {
+
+    private final MemberRepository memberRepository;
+    private final ArchivedMemberRepository archivedMemberRepository;
+    private final MemberCache memberCache;
+    private final NegativeMemberCache negativeMemberCache;
+    private final MemberEmailCache memberEmailCache;
+    private final SingleFlight singleFlight;
+    private final StaleWhileRevalidate staleWhileRevalidate;
+    private final MemberDirectory memberDirectory;
+    private final HotKeyTracker hotKeyTracker;
+    private final ChangeSequence changeSequence;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberStatistics memberStatistics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public MemberDto registerMember(RegisterRequest registerRequest) {
+        if (registerRequest == null) {
+            throw new IllegalArgumentException();
+        }
+
+        // archive 로 옮겨진 탈퇴 회원의 ID 도 다시 쓸 수 없다.
+        if (memberRepository.existsById(registerRequest.getId())
+                || archivedMemberRepository.existsById(registerRequest.getId())) {
+            throw new IdAlreadyExistsException("해당 ID가 이미 존재합니다. id: " + registerRequest.getId());
+        }
+        String email = Member.normalizeEmail(registerRequest.getEmail());
+        if (memberRepository.existsByEmail(email)) {
+            throw new EmailAlreadyExistsException("해당 이메일이 이미 사용 중입니다. email: " + email);
+        }
+
+        Member member = new Member(
+                registerRequest.getId(),
+                registerRequest.getPassword(),
+                registerRequest.getEmail(),
+                registerRequest.getName(),
+                Status.REGISTERED
+        );
+        LocalDateTime now = LocalDateTime.now();
+        member.markRegistered(now);
+
+        saveChanged(member, now);
+        memberStatistics.recordRegistration(member.getStatus(), now);
+
+        MemberDto memberDto = convertToDto(member);
+        eventPublisher.publishEvent(new MemberChangedEvent(
+                MemberChangeType.REGISTERED, memberDto, member.getChangeSeq(), member.getUpdatedAt()));
+        return memberDto;
+    }
+
+    @Override
+    public MemberDto getMember(String memberId) {
+        if (memberId == null) {
+            throw new IllegalArgumentException();
+        }
+
+        hotKeyTracker.record(memberId);
+        MemberDto memberDto = findMember(memberId)
+                .orElseThrow(() -> new IdNotFoundException("해당 ID가 없습니다."));
+
+        if(memberDto.getStatus() == Status.WITHDRAWN){
+            throw new StatusIsWithdrawnException("탈퇴한 회원입니다. id:" + memberId);
+        }
+
+        return memberDto;
+    }
+
+    @Override
+    public MemberDto getMemberByEmail(String email) {
+        if (email == null) {
+            throw new IllegalArgumentException();
+        }
+
+        MemberDto memberDto = findMemberByEmail(Member.normalizeEmail(email))
+                .orElseThrow(() -> new IdNotFoundException("해당 이메일의 회원이 없습니다."));
+
+        if (memberDto.getStatus() == Status.WITHDRAWN) {
+            throw new StatusIsWithdrawnException("탈퇴한 회원입니다. id:" + memberDto.getId());
+        }
+
+        return memberDto;
+    }
+
+    @Override
+    public MemberDto updateMember(String memberId, UpdateRequest updateRequest) {
+        if (memberId == null) {
+            throw new IllegalArgumentException();
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IdNotFoundException("해당 ID가 없습니다."));
+
+        if (updateRequest.getPassword() != null) {
+            member.setPassword(updateRequest.getPassword());
+        }
+        if (updateRequest.getEmail() != null) {
+            String email = Member.normalizeEmail(updateRequest.getEmail());
+            if (!email.equals(member.getEmail()) && memberRepository.existsByEmail(email)) {
+                throw new EmailAlreadyExistsException("해당 이메일이 이미 사용 중입니다. email: " + email);
+            }
+            member.setEmail(email);
+        }
+        if (updateRequest.getName() != null) {
+            member.setName(updateRequest.getName());
+        }
+        Status previousStatus = member.getStatus();
+        boolean statusChanged = false;
+        if (updateRequest.getStatus() != null) {
+            statusChanged = member.getStatus() != updateRequest.getStatus();
+            member.setStatus(updateRequest.getStatus());
+        }
+
+        saveChanged(member, LocalDateTime.now());
+        memberStatistics.recordTransition(previousStatus, member.getStatus());
+
+        MemberDto memberDto = convertToDto(member);
+        eventPublisher.publishEvent(new MemberChangedEvent(
+                statusChanged ? MemberChangeType.STATUS_CHANGED : MemberChangeType.UPDATED, memberDto,
+                member.getChangeSeq(), member.getUpdatedAt()));
+        return memberDto;
+    }
+
+    @Override
+    public void deleteMember(String memberId) {
+        if (memberId == null) {
+            throw new IllegalArgumentException();
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IdNotFoundException("해당 ID가 없습니다."));
+
+        Status previousStatus = member.getStatus();
+        member.setStatus(Status.WITHDRAWN);
+        saveChanged(member, LocalDateTime.now());
+        memberStatistics.recordTransition(previousStatus, Status.WITHDRAWN);
+
+        eventPublisher.publishEvent(new MemberChangedEvent(
+                MemberChangeType.STATUS_CHANGED, convertToDto(member), member.getChangeSeq(), member.getUpdatedAt()));
+    }
+
+    @Override
+    public Page<MemberDto> getMembers(int page, int size) {
+        if (page < 0 || size < 0) {
+            throw new IllegalArgumentException();
+        }
+        Pageable pageable = PageRequest.of(page, size);
+        Page<Member> membersPage = memberRepository.findAll(pageable);
+
+        return membersPage.map(member -> new MemberDto(
+                member.getId(),
+                member.getPassword(),
+                member.getEmail(),
+                member.getName(),
+                member.getStatus()
+        ));
+    }
+
+    @Override
+    public boolean matches(String memberId, String password) {
+        if (memberId == null || password == null){
+            throw new IllegalArgumentException();
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IdNotFoundException("해당 ID가 없습니다."));
+
+        if(member.getStatus() == Status.WITHDRAWN){
+            throw new StatusIsWithdrawnException("탈퇴한 회원입니다. id:" + memberId);
+        }
+
+        return memberRepository.existsByIdAndPassword(memberId, password);
+    }
+
+    /**
+     * 이메일, 비밀번호, 탈퇴 여부를 한 번의 조회로 확인하고 로그인한 회원을 돌려준다.
+     * 없는 이메일, 탈퇴한 회원, 틀린 비밀번호 모두 같은 예외를 던져 응답으로 가입 여부나 탈퇴 여부를 알 수 없게 한다.
+     */
+    @Override
+    public MemberDto authenticateByEmail(String email, String password) {
+        if (email == null || password == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return memberRepository.findByEmailAndPasswordAndStatusNot(Member.normalizeEmail(email), password, Status.WITHDRAWN)
+                .map(this::convertToDto)
+                .orElseThrow(() -> new IllegalIdOrPasswordException("Email 이나 Password가 일치하지 않습니다."));
+    }
+
+    public List<MemberInfoDto> lookupMembers(List<String> memberIds) {
+        return lookupMembers(memberIds, false);
+    }
+
+    @Override
+    public List<MemberInfoDto> lookupMembers(List<String> memberIds, boolean includeArchived) {
+        return lookupMembers(memberIds, includeArchived, false);
+    }
+
+    /**
+     * partial 이면 없는 ID 는 결과에서 빼고 찾은 회원만 돌려준다. 아니면 ID 하나라도 없을 때 IdNotFoundException 을 던진다.
+     */
+    @Override
+    public List<MemberInfoDto> lookupMembers(List<String> memberIds, boolean includeArchived, boolean partial) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        List<MemberInfoDto> memberInfos = new ArrayList<>();
+
+        for (String memberId : memberIds) {
+            if (memberId == null) {
+                throw new IllegalArgumentException();
+            }
+
+            hotKeyTracker.record(memberId);
+            String name = memberDirectory.findName(memberId);
+            if (name != null) {
+                memberInfos.add(new MemberInfoDto(memberId, name));
+                continue;
+            }
+
+            Optional<MemberInfoDto> memberInfo = findMember(memberId)
+                    .map(member -> new MemberInfoDto(member.getId(), member.getName()));
+            if (memberInfo.isEmpty() && includeArchived) {
+                memberInfo = archivedMemberRepository.findById(memberId)
+                        .map(archived -> new MemberInfoDto(archived.getId(), archived.getName()));
+            }
+            if (memberInfo.isEmpty() && partial) {
+                continue;
+            }
+            memberInfos.add(memberInfo.orElseThrow(() -> new IdNotFoundException("해당 ID가 없습니다: ")));
+        }
+
+        return memberInfos;
+    }
+
+    private Optional<MemberDto> findMember(String memberId) {
+        MemberDto cached = memberCache.get(memberId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (negativeMemberCache.isKnownMissing(memberId)) {
+            return Optional.empty();
+        }
+
+        return staleWhileRevalidate.load(memberId, () -> singleFlight.load(memberId, () -> {
+            long token = memberCache.token();
+            long negativeToken = negativeMemberCache.token();
+            Optional<MemberDto> loaded = memberRepository.findById(memberId).map(this::convertToDto);
+            if (loaded.isPresent()) {
+                memberCache.putIfUnchanged(memberId, loaded.get(), token);
+            } else {
+                negativeMemberCache.putIfUnchanged(memberId, negativeToken);
+            }
+            return loaded;
+        }));
+    }
+
+    private Optional<MemberDto> findMemberByEmail(String email) {
+        String cachedId = memberEmailCache.get(email);
+        if (cachedId != null) {
+            Optional<MemberDto> cached = findMember(cachedId).filter(member -> email.equals(member.getEmail()));
+            if (cached.isPresent()) {
+                return cached;
+            }
+            memberEmailCache.remove(email, cachedId);
+        }
+
+        Optional<String> memberId = memberRepository.findIdByEmail(email);
+        memberId.ifPresent(id -> memberEmailCache.put(email, id));
+        return memberId.flatMap(this::findMember);
+    }
+
+    /**
+     * 변경 순번은 트랜잭션이 커넥션을 잡은 뒤에 매긴다. 커넥션을 기다리는 시간까지 순번과 커밋 사이에 끼면
+     * 변경 피드의 settle 구간(트랜잭션 timeout + 시계 오차)보다 늦게 커밋되어 읽는 쪽이 그 변경을 건너뛸 수 있다.
+     * 중복 확인과 저장 사이에 같은 이메일이 먼저 저장되면 유니크 인덱스가 막는다. 그 경우도 409 로 돌려준다.
+     */
+    private void saveChanged(Member member, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                member.markChanged(changeSequence.next(), now);
+                memberRepository.save(member);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (memberRepository.existsByEmail(member.getEmail())) {
+                throw new EmailAlreadyExistsException("해당 이메일이 이미 사용 중입니다. email: " + member.getEmail());
+            }
+            throw e;
+        }
+    }
+
+    private MemberDto convertToDto(Member member) {
+        return new MemberDto(
+                member.getId(),
+                member.getPassword(),
+                member.getEmail(),
+                member.getName(),
+                member.getStatus()
+        );
+    }
+
+}
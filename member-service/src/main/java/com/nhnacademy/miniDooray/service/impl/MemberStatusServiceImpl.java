@@ -0,0 +1,155 @@
+package com.nhnacademy.miniDooray.service.impl;
+
+import com.nhnacademy.miniDooray.dto.BulkStatusRequest;
+import com.nhnacademy.miniDooray.dto.BulkStatusResponse;
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.StatusTransitionResult;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeBatchEvent;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.repository.MemberStatusView;
+import com.nhnacademy.miniDooray.service.MemberStatusService;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class MemberStatusServiceImpl implements MemberStatusService {
+
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequence changeSequence;
+    private final MemberStatistics memberStatistics;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxMemberIds;
+
+    public MemberStatusServiceImpl(MemberRepository memberRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   ChangeSequence changeSequence,
+                                   MemberStatistics memberStatistics,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${member.bulk-status.chunk-size:500}") int chunkSize,
+                                   @Value("${member.bulk-status.max-member-ids:10000}") int maxMemberIds,
+                                   @Value("${member.bulk-status.chunk-timeout-seconds:10}") int chunkTimeoutSeconds) {
+        this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+        this.changeSequence = changeSequence;
+        this.memberStatistics = memberStatistics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(chunkTimeoutSeconds);
+        this.chunkSize = chunkSize;
+        this.maxMemberIds = maxMemberIds;
+    }
+
+    @Override
+    public BulkStatusResponse changeStatuses(BulkStatusRequest bulkStatusRequest) {
+        if (bulkStatusRequest == null || bulkStatusRequest.getStatus() == null) {
+            throw new IllegalArgumentException();
+        }
+
+        List<String> memberIds = bulkStatusRequest.getMemberIds();
+        boolean byIds = memberIds != null && !memberIds.isEmpty();
+        if (!byIds && bulkStatusRequest.getFromStatus() == null) {
+            throw new IllegalArgumentException("memberIds 또는 fromStatus 중 하나는 필요합니다.");
+        }
+        if (byIds && memberIds.size() > maxMemberIds) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 회원 수를 초과했습니다. max: " + maxMemberIds);
+        }
+
+        Status status = bulkStatusRequest.getStatus();
+        List<StatusTransitionResult> results = new ArrayList<>();
+
+        if (byIds) {
+            List<String> distinctIds = memberIds.stream().distinct().toList();
+            for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+                List<String> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+                results.addAll(applyChunk(chunk, status));
+            }
+        }
+
+        String nextAfterId = null;
+        if (!byIds && bulkStatusRequest.getFromStatus() != status) {
+            // 한 요청이 테이블 전체를 훑지 않도록 max-member-ids 명까지만 바꾸고, 남았으면 cursor 를 돌려준다.
+            String afterId = bulkStatusRequest.getAfterId() == null ? "" : bulkStatusRequest.getAfterId();
+            int remaining = maxMemberIds;
+            List<String> chunk;
+            while (remaining > 0 && !(chunk = memberRepository.findIdsByStatusAfter(
+                    bulkStatusRequest.getFromStatus(), afterId, PageRequest.of(0, Math.min(chunkSize, remaining)))).isEmpty()) {
+                results.addAll(applyChunk(chunk, status));
+                afterId = chunk.get(chunk.size() - 1);
+                remaining -= chunk.size();
+            }
+            if (remaining == 0) {
+                nextAfterId = afterId;
+            }
+        }
+
+        int updated = (int) results.stream()
+                .filter(result -> result.getOutcome() == StatusTransitionResult.Outcome.UPDATED)
+                .count();
+        return new BulkStatusResponse(updated, results, nextAfterId);
+    }
+
+    private List<StatusTransitionResult> applyChunk(List<String> chunk, Status status) {
+        Map<String, Status> previousStatuses = new HashMap<>();
+        List<StatusTransitionResult> results = transactionTemplate.execute(transaction -> {
+            Map<String, Status> currentStatuses = memberRepository.findByIdIn(chunk).stream()
+                    .collect(Collectors.toMap(MemberStatusView::getId, MemberStatusView::getStatus));
+            previousStatuses.putAll(currentStatuses);
+            memberRepository.updateStatusByIdIn(chunk, status, changeSequence.next(), LocalDateTime.now());
+
+            return chunk.stream()
+                    .map(memberId -> new StatusTransitionResult(memberId, outcome(currentStatuses.get(memberId), status)))
+                    .toList();
+        });
+
+        // 커밋 이후에 이벤트를 발행해야 캐시가 커밋 전 값으로 다시 채워지지 않는다.
+        List<String> updatedIds = results.stream()
+                .filter(result -> result.getOutcome() == StatusTransitionResult.Outcome.UPDATED)
+                .map(StatusTransitionResult::getId)
+                .toList();
+        updatedIds.forEach(memberId -> memberStatistics.recordTransition(previousStatuses.get(memberId), status));
+        if (!updatedIds.isEmpty()) {
+            List<MemberChangedEvent> changes = memberRepository.findAllById(updatedIds).stream()
+                    .map(member -> new MemberChangedEvent(MemberChangeType.STATUS_CHANGED, convertToDto(member),
+                            member.getChangeSeq(), member.getUpdatedAt(), true))
+                    .toList();
+            changes.forEach(eventPublisher::publishEvent);
+            eventPublisher.publishEvent(new MemberChangeBatchEvent(changes));
+        }
+        return results;
+    }
+
+    private StatusTransitionResult.Outcome outcome(Status current, Status target) {
+        if (current == null) {
+            return StatusTransitionResult.Outcome.NOT_FOUND;
+        }
+        return current == target ? StatusTransitionResult.Outcome.UNCHANGED : StatusTransitionResult.Outcome.UPDATED;
+    }
+
+    private MemberDto convertToDto(Member member) {
+        return new MemberDto(
+                member.getId(),
+                member.getPassword(),
+                member.getEmail(),
+                member.getName(),
+                member.getStatus()
+        );
+    }
+}
@@ -0,0 +1,143 @@
+package com.nhnacademy.miniDooray.stats;
+
+import com.nhnacademy.miniDooray.dto.MemberStatisticsResponse;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.repository.DailyCount;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.repository.StatusCount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상태별 회원 수와 일별 가입 수. 쓰기마다 카운터를 바로 갱신하므로 조회 시 DB 를 읽지 않는다.
+ * 카운터는 인스턴스마다 따로 있다. 각 인스턴스는 자기가 처리한 쓰기만 바로 반영하고, 다른 인스턴스의 쓰기는
+ * 주기적인 GROUP BY 보정에서 따라잡는다. 보정은 쿼리 직전 값과의 차이만 더하므로 쿼리와 겹친 쓰기를 지우지 않는다.
+ * 쿼리 결과에 이미 포함된 겹친 쓰기는 다음 보정까지 한 번 더 세어질 수 있다.
+ */
+@Component
+public class MemberStatistics implements MeterBinder {
+
+    private final MemberRepository memberRepository;
+    private final int retentionDays;
+
+    private final Map<Status, LongAdder> byStatus = new EnumMap<>(Status.class);
+    private final ConcurrentMap<LocalDate, LongAdder> registrationsPerDay = new ConcurrentHashMap<>();
+    private volatile LocalDateTime reconciledAt;
+    private volatile long lastDrift;
+
+    public MemberStatistics(MemberRepository memberRepository,
+                            @Value("${member.statistics.retention-days:30}") int retentionDays) {
+        this.memberRepository = memberRepository;
+        this.retentionDays = retentionDays;
+        for (Status status : Status.values()) {
+            byStatus.put(status, new LongAdder());
+        }
+    }
+
+    public void recordRegistration(Status status, LocalDateTime registeredAt) {
+        byStatus.get(status).increment();
+        registrationsPerDay.computeIfAbsent(registeredAt.toLocalDate(), day -> new LongAdder()).increment();
+    }
+
+    public void recordTransition(Status from, Status to) {
+        if (from == null || from == to) {
+            return;
+        }
+        byStatus.get(from).decrement();
+        byStatus.get(to).increment();
+    }
+
+    /**
+     * archive 로 옮긴 회원은 member 테이블 기준 집계에서 빠진다.
+     */
+    public void recordArchived(int count) {
+        byStatus.get(Status.WITHDRAWN).add(-count);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${member.statistics.reconcile-interval-ms:300000}",
+            fixedDelayString = "${member.statistics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        // 쿼리 전에 읽어 둔 값과 DB 값의 차이만 더한다. 쿼리가 도는 동안 들어온 쓰기는 카운터에 그대로 남는다.
+        Map<Status, Long> before = new EnumMap<>(Status.class);
+        byStatus.forEach((status, counter) -> before.put(status, counter.sum()));
+        LocalDate from = LocalDate.now().minusDays(retentionDays - 1L);
+        registrationsPerDay.keySet().removeIf(day -> day.isBefore(from));
+        Map<LocalDate, Long> perDayBefore = new HashMap<>();
+        registrationsPerDay.forEach((day, counter) -> perDayBefore.put(day, counter.sum()));
+        Map<Status, Long> counted = new EnumMap<>(Status.class);
+        for (StatusCount count : memberRepository.countByStatus()) {
+            counted.put(count.getStatus(), count.getTotal());
+        }
+        long drift = 0;
+        for (Status status : Status.values()) {
+            long delta = counted.getOrDefault(status, 0L) - before.get(status);
+            byStatus.get(status).add(delta);
+            drift += Math.abs(delta);
+        }
+
+        Map<LocalDate, Long> perDay = new TreeMap<>();
+        for (DailyCount count : memberRepository.countRegistrationsSince(from.atStartOfDay())) {
+            perDay.put(count.getRegisteredOn(), count.getTotal());
+        }
+        perDayBefore.forEach((day, countedBefore) -> {
+            if (!perDay.containsKey(day)) {
+                registrationsPerDay.get(day).add(-countedBefore);
+            }
+        });
+        perDay.forEach((day, total) -> registrationsPerDay.computeIfAbsent(day, key -> new LongAdder())
+                .add(total - perDayBefore.getOrDefault(day, 0L)));
+
+        lastDrift = drift;
+        reconciledAt = LocalDateTime.now();
+    }
+
+    public MemberStatisticsResponse snapshot() {
+        Map<Status, Long> statuses = new EnumMap<>(Status.class);
+        byStatus.forEach((status, counter) -> statuses.put(status, counter.sum()));
+
+        LocalDate from = LocalDate.now().minusDays(retentionDays - 1L);
+        Map<LocalDate, Long> perDay = new TreeMap<>();
+        registrationsPerDay.forEach((day, counter) -> {
+            if (!day.isBefore(from)) {
+                perDay.put(day, counter.sum());
+            }
+        });
+        return new MemberStatisticsResponse(statuses, perDay, reconciledAt);
+    }
+
+    public long getCount(Status status) {
+        return byStatus.get(status).sum();
+    }
+
+    public long getLastDrift() {
+        return lastDrift;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Status status : Status.values()) {
+            Gauge.builder("member.statistics.members", this, statistics -> statistics.getCount(status))
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        Gauge.builder("member.statistics.drift", this, MemberStatistics::getLastDrift)
+                .register(registry);
+    }
+}
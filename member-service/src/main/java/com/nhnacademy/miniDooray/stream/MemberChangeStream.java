@@ -0,0 +1,234 @@
+package com.nhnacademy.miniDooray.stream;
+
+import com.nhnacademy.miniDooray.dto.MemberChangeDto;
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.event.PeerMembersChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 변경을 SSE 구독자에게 밀어준다.
+ * 이벤트마다 이 인스턴스 안에서 증가하는 ID 를 붙이고 최근 ring-size 개를 보관해 Last-Event-ID 로 재개할 수 있게 한다.
+ * 구독자마다 크기가 정해진 큐를 두고 executor 에서 비운다. 큐가 가득 차면 기다리지 않고 쌓인 이벤트를 버린 뒤
+ * reset 이벤트 하나로 바꾼다. 대량 상태 변경처럼 한 번에 큐보다 많은 이벤트가 나와도 연결은 유지된다.
+ * 보관 구간보다 오래된 ID 로 재개해도 reset 이벤트를 보내며, 이때 구독자는 /members/changes 로 따라잡아야 한다.
+ * 다른 인스턴스의 변경은 이 스트림에 실리지 않으므로, 무효화 메시지로 알게 되면 모든 구독자에게 reset 을 보낸다.
+ * 한 번의 전송이 send-timeout 을 넘기면 느린 구독자가 executor 를 붙잡지 않도록 연결을 끝내고, 구독자는 Last-Event-ID 로 다시 붙는다.
+ */
+@Component
+public class MemberChangeStream implements MeterBinder {
+
+    static final String RESET_EVENT = "reset";
+
+    private final Executor executor;
+    private final int queueCapacity;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+
+    private final Object lock = new Object();
+    private final Entry[] ring;
+    private long lastId;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+
+    public MemberChangeStream(@Qualifier("memberServiceExecutor") Executor executor,
+                              @Value("${member.stream.ring-size:1024}") int ringSize,
+                              @Value("${member.stream.queue-capacity:256}") int queueCapacity,
+                              @Value("${member.stream.timeout-ms:1800000}") long emitterTimeoutMillis,
+                              @Value("${member.stream.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.executor = executor;
+        this.ring = new Entry[ringSize];
+        this.queueCapacity = queueCapacity;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(queueCapacity));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 재생분을 큐에 넣는 것과 구독자 등록을 같은 lock 안에서 해야 그 사이에 발행된 이벤트가 빠지지 않는다.
+        synchronized (lock) {
+            if (lastEventId != null) {
+                List<Entry> replay = replayAfter(lastEventId);
+                if (replay == null || replay.size() > queueCapacity) {
+                    subscriber.queue.offer(new Entry(lastId, RESET_EVENT, null));
+                } else {
+                    subscriber.queue.addAll(replay);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        MemberDto member = event.getMember();
+        MemberChangeDto change = new MemberChangeDto(member.getId(), member.getEmail(), member.getName(),
+                member.getStatus(), event.getChangeSeq(), event.getUpdatedAt());
+
+        List<Subscriber> ready = new ArrayList<>();
+        synchronized (lock) {
+            Entry entry = new Entry(++lastId, event.getType().name(), change);
+            ring[(int) (entry.id() % ring.length)] = entry;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(entry)) {
+                    reset(subscriber, entry.id());
+                }
+                ready.add(subscriber);
+            }
+        }
+        ready.forEach(this::schedule);
+    }
+
+    /**
+     * 다른 인스턴스에서 바뀐 회원은 이 인스턴스의 ID 로 이어 붙일 수 없으므로, 구독자에게 마지막 ID 까지의 reset 을 보내
+     * /members/changes 로 따라잡게 한다.
+     */
+    @EventListener
+    public void onPeerMembersChanged(PeerMembersChangedEvent event) {
+        List<Subscriber> ready = new ArrayList<>();
+        synchronized (lock) {
+            for (Subscriber subscriber : subscribers) {
+                reset(subscriber, lastId);
+                ready.add(subscriber);
+            }
+        }
+        ready.forEach(this::schedule);
+    }
+
+    /**
+     * 전송 하나가 send-timeout 을 넘긴 구독자를 끝낸다. 연결이 닫히면 막혀 있던 전송도 실패하고 executor 스레드가 풀려난다.
+     */
+    @Scheduled(fixedDelayString = "${member.stream.send-check-interval-ms:1000}")
+    public void expireStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince.get();
+            if (since != 0 && now - since > sendTimeoutNanos) {
+                subscribers.remove(subscriber);
+                subscriber.queue.clear();
+                stalled.increment();
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * lastEventId 이후의 이벤트. 보관 구간을 벗어났거나 이 인스턴스가 발행한 적 없는 ID 면 null 을 돌려준다.
+     */
+    List<Entry> replayAfter(long lastEventId) {
+        synchronized (lock) {
+            long oldest = Math.max(1, lastId - ring.length + 1);
+            if (lastEventId > lastId || lastEventId < oldest - 1) {
+                return null;
+            }
+            List<Entry> replay = new ArrayList<>();
+            for (long id = lastEventId + 1; id <= lastId; id++) {
+                replay.add(ring[(int) (id % ring.length)]);
+            }
+            return replay;
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getResets() {
+        return resets.sum();
+    }
+
+    public long getStalled() {
+        return stalled.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("member.stream.subscribers", this, MemberChangeStream::getSubscriberCount)
+                .register(registry);
+        FunctionCounter.builder("member.stream.resets", this, MemberChangeStream::getResets)
+                .register(registry);
+        FunctionCounter.builder("member.stream.stalled", this, MemberChangeStream::getStalled)
+                .register(registry);
+    }
+
+    /**
+     * 밀린 이벤트를 버리고 lastEventId 까지 놓쳤다는 reset 하나만 남긴다. 구독자는 /members/changes 로 따라잡은 뒤
+     * 이후 이벤트를 계속 받는다. lock 안에서만 호출되므로 비운 자리에 다른 이벤트가 먼저 들어오지 않는다.
+     */
+    private void reset(Subscriber subscriber, long lastEventId) {
+        resets.increment();
+        subscriber.queue.clear();
+        subscriber.queue.offer(new Entry(lastEventId, RESET_EVENT, null));
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Entry entry;
+            while ((entry = subscriber.queue.poll()) != null) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event()
+                        .id(Long.toString(entry.id()))
+                        .name(entry.type());
+                subscriber.sendingSince.set(System.nanoTime());
+                subscriber.emitter.send(entry.change() == null ? event.data("") : event.data(entry.change()));
+                subscriber.sendingSince.set(0);
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sendingSince.set(0);
+            subscriber.draining.set(false);
+        }
+        // 마지막 poll 과 draining 해제 사이에 들어온 이벤트를 놓치지 않도록 다시 확인한다.
+        if (subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    record Entry(long id, String type, MemberChangeDto change) {
+    }
+
+    private record Subscriber(SseEmitter emitter, Queue<Entry> queue, AtomicBoolean draining, AtomicLong sendingSince) {
+
+        Subscriber(SseEmitter emitter, Queue<Entry> queue) {
+            this(emitter, queue, new AtomicBoolean(), new AtomicLong());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.nhnacademy.miniDooray.token;
+
+import com.nhnacademy.miniDooray.exception.InvalidTokenException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 로그인 토큰을 만들고 검증한다. 형식은 {@code <kid>.<payload>.<signature>} 이고 payload 는
+ * {@code status \n issuedAt \n expiresAt \n memberId} 를 base64url 로 인코딩한 값이다.
+ * 서명은 kid 가 가리키는 키로 {@code <kid>.<payload>} 에 대해 계산한 HMAC-SHA256 이다.
+ * Spring 이나 DB 에 의존하지 않으므로 다른 서비스가 키만 공유받아 그대로 가져다 쓸 수 있다.
+ */
+public final class MemberTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, byte[]> keys;
+
+    public MemberTokenCodec(Map<String, byte[]> keys) {
+        this.keys = Map.copyOf(keys);
+    }
+
+    public String encode(String kid, TokenClaims claims) {
+        byte[] key = keys.get(kid);
+        if (key == null) {
+            throw new IllegalArgumentException("등록되지 않은 키입니다. kid:" + kid);
+        }
+        String payload = claims.status() + "\n" + claims.issuedAt() + "\n" + claims.expiresAt() + "\n" + claims.memberId();
+        String signingInput = kid + "." + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return signingInput + "." + ENCODER.encodeToString(sign(key, signingInput));
+    }
+
+    public TokenClaims decode(String token, long nowEpochSecond) {
+        if (token == null) {
+            throw new InvalidTokenException("토큰이 없습니다.");
+        }
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first <= 0 || first == last) {
+            throw new InvalidTokenException("토큰 형식이 올바르지 않습니다.");
+        }
+
+        byte[] key = keys.get(token.substring(0, first));
+        if (key == null) {
+            throw new InvalidTokenException("알 수 없는 서명 키입니다.");
+        }
+        String signingInput = token.substring(0, last);
+        try {
+            if (!MessageDigest.isEqual(sign(key, signingInput), DECODER.decode(token.substring(last + 1)))) {
+                throw new InvalidTokenException("토큰 서명이 올바르지 않습니다.");
+            }
+
+            String[] fields = new String(DECODER.decode(token.substring(first + 1, last)), StandardCharsets.UTF_8)
+                    .split("\n", 4);
+            TokenClaims claims = new TokenClaims(fields[3], fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+            if (claims.expiresAt() <= nowEpochSecond) {
+                throw new InvalidTokenException("만료된 토큰입니다.");
+            }
+            return claims;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidTokenException("토큰 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private static byte[] sign(byte[] key, String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.nhnacademy.miniDooray.token;
+
+public record TokenClaims(String memberId, String status, long issuedAt, long expiresAt) {
+}
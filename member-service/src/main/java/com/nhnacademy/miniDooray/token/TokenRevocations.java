@@ -0,0 +1,85 @@
+package com.nhnacademy.miniDooray.token;
+
+import com.nhnacademy.miniDooray.dto.TokenRevocation;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 탈퇴한 회원의 토큰 폐기 목록. 탈퇴 시각 이전에 발급된 토큰은 만료 전이라도 거부한다.
+ * 그 시각 이전 토큰은 ttl 이 지나면 모두 만료되므로 항목도 ttl 뒤에 지운다.
+ * 이 인스턴스에서 생긴 폐기는 {@link com.nhnacademy.miniDooray.cache.CacheInvalidationBus} 가 다른 인스턴스에 전한다.
+ */
+@Component
+public class TokenRevocations {
+
+    private final long ttlSeconds;
+    private final ConcurrentMap<String, Long> revokedAt = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> unpublished = new ConcurrentHashMap<>();
+
+    public TokenRevocations(@Value("${member.token.ttl-seconds:300}") long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @EventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.getMember().getStatus() == Status.WITHDRAWN) {
+            long now = Instant.now().getEpochSecond();
+            revoke(event.getMemberId(), now);
+            unpublished.merge(event.getMemberId(), now, Math::max);
+        }
+    }
+
+    public void revoke(String memberId, long epochSecond) {
+        revokedAt.merge(memberId, epochSecond, Math::max);
+    }
+
+    /**
+     * 회원의 마지막 폐기 시각(epoch second). 폐기된 적이 없으면 -1 을 돌려준다.
+     */
+    public long revokedAt(String memberId) {
+        return revokedAt.getOrDefault(memberId, -1L);
+    }
+
+    /**
+     * 이 인스턴스에서 생긴 폐기 중 아직 다른 인스턴스에 알리지 않은 것을 꺼낸다.
+     */
+    public Map<String, Long> drainUnpublished() {
+        Map<String, Long> drained = new HashMap<>();
+        for (String memberId : unpublished.keySet()) {
+            Long epochSecond = unpublished.remove(memberId);
+            if (epochSecond != null) {
+                drained.put(memberId, epochSecond);
+            }
+        }
+        return drained;
+    }
+
+    public boolean isRevoked(TokenClaims claims) {
+        Long revoked = revokedAt.get(claims.memberId());
+        return revoked != null && claims.issuedAt() <= revoked;
+    }
+
+    public List<TokenRevocation> since(long epochSecond) {
+        return revokedAt.entrySet().stream()
+                .filter(entry -> entry.getValue() >= epochSecond)
+                .map(entry -> new TokenRevocation(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${member.token.revocation-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long cutoff = Instant.now().getEpochSecond() - ttlSeconds;
+        revokedAt.values().removeIf(revoked -> revoked < cutoff);
+    }
+}
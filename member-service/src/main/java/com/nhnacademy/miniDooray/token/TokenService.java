@@ -0,0 +1,78 @@
+package com.nhnacademy.miniDooray.token;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.exception.InvalidTokenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그인 토큰 발급과 검증. 키는 {@code member.token.keys=kid:base64키,...} 로 여러 개 두고
+ * {@code member.token.active-key} 로 서명할 키를 고른다. 키를 교체할 때는 새 키를 추가해 active 로 바꾸고,
+ * 이전 키는 ttl 이 지난 뒤에 목록에서 뺀다. 키가 없으면 시작하지 않는다.
+ */
+@Component
+public class TokenService {
+
+    private final TokenRevocations tokenRevocations;
+    private final MemberTokenCodec codec;
+    private final String activeKeyId;
+    private final long ttlSeconds;
+
+    public TokenService(TokenRevocations tokenRevocations,
+                        @Value("${member.token.keys:}") String keys,
+                        @Value("${member.token.active-key:}") String activeKeyId,
+                        @Value("${member.token.ttl-seconds:300}") long ttlSeconds) {
+        Map<String, byte[]> keyRing = parseKeys(keys);
+        if (keyRing.isEmpty()) {
+            // 인스턴스마다 임의 키를 쓰면 다른 인스턴스가 발급한 토큰을 검증할 수 없으므로 키 없이는 시작하지 않는다.
+            throw new IllegalStateException("member.token.keys 가 설정되지 않았습니다.");
+        }
+        if (!keyRing.containsKey(activeKeyId)) {
+            throw new IllegalStateException("member.token.active-key 가 keys 에 없습니다: " + activeKeyId);
+        }
+
+        this.tokenRevocations = tokenRevocations;
+        this.codec = new MemberTokenCodec(keyRing);
+        this.activeKeyId = activeKeyId;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public String issue(MemberDto member) {
+        // 폐기는 초 단위로 issuedAt <= 폐기 시각인 토큰을 거르므로, 폐기된 그 초에 다시 발급하는 토큰은 다음 초로 발급한다.
+        long issuedAt = Math.max(Instant.now().getEpochSecond(), tokenRevocations.revokedAt(member.getId()) + 1);
+        return codec.encode(activeKeyId,
+                new TokenClaims(member.getId(), member.getStatus().name(), issuedAt, issuedAt + ttlSeconds));
+    }
+
+    public TokenClaims verify(String token) {
+        TokenClaims claims = codec.decode(token, Instant.now().getEpochSecond());
+        if (tokenRevocations.isRevoked(claims)) {
+            throw new InvalidTokenException("폐기된 토큰입니다.");
+        }
+        return claims;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    private static Map<String, byte[]> parseKeys(String keys) {
+        Map<String, byte[]> keyRing = new LinkedHashMap<>();
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || entry.substring(0, separator).contains(".")) {
+                throw new IllegalStateException("member.token.keys 형식이 올바르지 않습니다. kid:base64키 형식이어야 하며 kid 에 '.' 을 쓸 수 없습니다.");
+            }
+            keyRing.put(entry.substring(0, separator).trim(), Base64.getDecoder().decode(entry.substring(separator + 1).trim()));
+        }
+        return keyRing;
+    }
+}
@@ -0,0 +1,160 @@
+package com.nhnacademy.miniDooray.warmup;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 자주 조회되는 회원 ID 를 세어 두었다가 종료 시 상위 목록을 파일로 남긴다.
+ * 다음 기동 때 {@link WarmupRunner} 가 이 목록으로 캐시를 미리 채운다.
+ * decay-interval 마다 모든 횟수를 절반으로 줄이고 0 이 된 키는 지우므로, 예전에만 많이 조회된 키는 점점 밀려난다.
+ * 키 수가 max-tracked-keys 에 닿으면 앞쪽 몇 개 중 횟수가 가장 적은 키를 새 키로 바꾼다.
+ */
+@Slf4j
+@Component
+public class HotKeyTracker {
+
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Path hotKeysFile;
+    private final int maxTrackedKeys;
+    private final int persistedKeys;
+    private final long decayIntervalMillis;
+    private final ConcurrentMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final AtomicLong nextDecayAt;
+    private final ThreadLocal<Boolean> untracked = new ThreadLocal<>();
+
+    public HotKeyTracker(@Value("${member.warmup.hot-keys-file:hot-keys.txt}") Path hotKeysFile,
+                         @Value("${member.warmup.max-tracked-keys:50000}") int maxTrackedKeys,
+                         @Value("${member.warmup.persisted-keys:1000}") int persistedKeys,
+                         @Value("${member.warmup.decay-interval-ms:600000}") long decayIntervalMillis) {
+        this.hotKeysFile = hotKeysFile;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.persistedKeys = persistedKeys;
+        this.decayIntervalMillis = decayIntervalMillis;
+        this.nextDecayAt = new AtomicLong(System.currentTimeMillis() + decayIntervalMillis);
+    }
+
+    public void record(String memberId) {
+        record(memberId, System.currentTimeMillis());
+    }
+
+    void record(String memberId, long nowMillis) {
+        if (untracked.get() != null) {
+            return;
+        }
+        long decayAt = nextDecayAt.get();
+        if (nowMillis >= decayAt && nextDecayAt.compareAndSet(decayAt, nowMillis + decayIntervalMillis)) {
+            decay();
+        }
+        LongAdder count = counts.get(memberId);
+        if (count == null) {
+            if (counts.size() >= maxTrackedKeys) {
+                makeRoom();
+            }
+            count = counts.computeIfAbsent(memberId, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * 현재 스레드에서 실행하는 동안의 조회는 세지 않는다. 워밍업이 지난 목록을 다시 조회하면서 스스로를 hot key 로 만들지 않게 한다.
+     */
+    public void runUntracked(Runnable work) {
+        untracked.set(Boolean.TRUE);
+        try {
+            work.run();
+        } finally {
+            untracked.remove();
+        }
+    }
+
+    public List<String> topKeys(int limit) {
+        return counts.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    private synchronized void decay() {
+        // 그 사이 들어온 증가분은 잃지 않도록 reset 대신 빼서 절반만 남긴다.
+        for (LongAdder count : counts.values()) {
+            long sum = count.sum();
+            count.add(-(sum - sum / 2));
+        }
+        counts.values().removeIf(count -> count.sum() <= 0);
+    }
+
+    private synchronized void makeRoom() {
+        while (counts.size() >= maxTrackedKeys) {
+            Map.Entry<String, LongAdder> coldest = null;
+            long coldestCount = Long.MAX_VALUE;
+            Iterator<Map.Entry<String, LongAdder>> iterator = counts.entrySet().iterator();
+            for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+                Map.Entry<String, LongAdder> entry = iterator.next();
+                long count = entry.getValue().sum();
+                if (count < coldestCount) {
+                    coldest = entry;
+                    coldestCount = count;
+                }
+            }
+            if (coldest == null) {
+                return;
+            }
+            counts.remove(coldest.getKey(), coldest.getValue());
+        }
+    }
+
+    public List<String> loadPersisted() {
+        if (!Files.isReadable(hotKeysFile)) {
+            return List.of();
+        }
+        try {
+            return Files.readAllLines(hotKeysFile, StandardCharsets.UTF_8).stream()
+                    .filter(line -> !line.isBlank())
+                    .limit(persistedKeys)
+                    .toList();
+        } catch (IOException e) {
+            log.warn("hot key 목록을 읽지 못했습니다. file: {}", hotKeysFile, e);
+            return List.of();
+        }
+    }
+
+    @PreDestroy
+    public void persist() {
+        List<String> hotKeys = topKeys(persistedKeys);
+        if (hotKeys.isEmpty()) {
+            return;
+        }
+        try {
+            Path parent = hotKeysFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "hot-keys", ".tmp");
+            Files.write(temp, hotKeys, StandardCharsets.UTF_8);
+            Files.move(temp, hotKeysFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("hot key 목록을 저장하지 못했습니다. file: {}", hotKeysFile, e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.nhnacademy.miniDooray.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import com.nhnacademy.miniDooray.service.MemberService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 트래픽을 받기 전에 커넥션 풀, 캐시, JIT 를 데운다.
+ * ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되므로 준비 상태는 자연히 뒤로 밀린다.
+ * Eureka 에는 STARTING 으로 등록되어 있다가 readiness 가 ACCEPTING_TRAFFIC 이 되면 UP 으로 바뀐다.
+ * 이 이벤트는 ApplicationReadyEvent 리스너(디렉터리, 검색 색인 적재, 통계 보정)가 모두 끝난 뒤에 발행된다.
+ * 워밍업 조회는 hot key 로 세지 않는다.
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private final MemberService memberService;
+    private final HotKeyTracker hotKeyTracker;
+    private final DataSource dataSource;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final int connections;
+    private final int iterations;
+
+    public WarmupRunner(MemberService memberService,
+                        HotKeyTracker hotKeyTracker,
+                        DataSource dataSource,
+                        ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+                        @Value("${member.warmup.enabled:true}") boolean enabled,
+                        @Value("${member.warmup.timeout-ms:30000}") long timeoutMillis,
+                        @Value("${member.warmup.connections:10}") int connections,
+                        @Value("${member.warmup.iterations:200}") int iterations) {
+        this.memberService = memberService;
+        this.hotKeyTracker = hotKeyTracker;
+        this.dataSource = dataSource;
+        this.applicationInfoManager = applicationInfoManager;
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+        this.connections = connections;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            long start = System.nanoTime();
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            CompletableFuture<Void> warmup = CompletableFuture.runAsync(this::warmUp, executor);
+            try {
+                warmup.get(timeoutMillis, TimeUnit.MILLISECONDS);
+                log.info("워밍업 완료. {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (TimeoutException e) {
+                log.warn("워밍업이 {}ms 안에 끝나지 않아 중단합니다.", timeoutMillis);
+            } catch (ExecutionException e) {
+                log.warn("워밍업 중 오류가 발생했습니다.", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            applicationInfoManager.ifAvailable(manager -> manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP));
+        }
+    }
+
+    void warmUp() {
+        openConnections();
+        List<String> hotKeys = hotKeyTracker.loadPersisted();
+        hotKeyTracker.runUntracked(() -> {
+            preload(hotKeys);
+            exerciseServiceLayer(hotKeys);
+        });
+    }
+
+    private void openConnections() {
+        List<Connection> opened = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                opened.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("워밍업 커넥션을 {}개만 열었습니다.", opened.size(), e);
+        } finally {
+            for (Connection connection : opened) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("워밍업 커넥션 반환 실패", e);
+                }
+            }
+        }
+    }
+
+    private void preload(List<String> hotKeys) {
+        for (String memberId : hotKeys) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            try {
+                memberService.getMember(memberId);
+            } catch (RuntimeException e) {
+                log.debug("hot key 적재 실패. id: {}", memberId, e);
+            }
+        }
+    }
+
+    private void exerciseServiceLayer(List<String> hotKeys) {
+        List<String> lookupIds = hotKeys.stream().limit(20).toList();
+        for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+            try {
+                memberService.getMembers(0, 20);
+                if (!lookupIds.isEmpty()) {
+                    memberService.lookupMembers(lookupIds);
+                }
+            } catch (RuntimeException e) {
+                log.debug("워밍업 요청 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- 예약 작업 잠금 테이블. (MySQL)
+-- prod 는 ddl-auto=validate 라 테이블이 없으면 시작하지 않으므로 배포 전에 먼저 실행한다.
+create table job_lock (
+    name varchar(64) not null primary key,
+    locked_by varchar(64),
+    locked_until datetime(6)
+);
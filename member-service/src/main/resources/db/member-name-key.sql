@@ -0,0 +1,7 @@
+-- 이름 검색 키(name_key)와 검색 정렬용 binary collation. (MySQL)
+-- prod 는 ddl-auto=validate 라 컬럼이 없으면 시작하지 않으므로 배포 전에 먼저 실행한다.
+-- 기존 행의 name_key 는 빈 문자열로 두면 시작할 때 MemberSchemaBackfill 이 Java 와 같은 규칙으로 채운다.
+alter table member add column name_key varchar(20) character set utf8mb4 collate utf8mb4_bin not null default '';
+alter table member alter column name_key drop default;
+alter table member modify email varchar(255) character set utf8mb4 collate utf8mb4_bin not null;
+create index idx_member_name_key on member (name_key, id);
@@ -3,7 +3,11 @@ package com.nhnacademy.miniDooray;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"member.cache.invalidation.secret=test",
+		"member.token.keys=test:MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=",
+		"member.token.active-key=test"
+})
 class MiniDoorayApplicationTests {
 
 	@Test
@@ -0,0 +1,123 @@
+package com.nhnacademy.miniDooray;
+
+import com.nhnacademy.miniDooray.archive.MemberArchiver;
+import com.nhnacademy.miniDooray.cache.CacheInvalidationBus;
+import com.nhnacademy.miniDooray.directory.MemberDirectory;
+import com.nhnacademy.miniDooray.health.CachedHealthIndicator;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimiters;
+import com.nhnacademy.miniDooray.load.LoadMetadataPublisher;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import com.nhnacademy.miniDooray.stream.MemberChangeStream;
+import com.nhnacademy.miniDooray.token.TokenRevocations;
+import com.nhnacademy.miniDooray.token.TokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 운영과 같은 prod 프로필(lazy-initialization)로 띄운다. DB 만 내장 H2 로 바꾼다.
+ */
+class StartupTimeTest {
+
+    private static final Duration BUDGET = Duration.ofSeconds(Long.getLong("startup.budget-seconds", 30));
+
+    private static final List<Class<?>> EAGER_BEANS = List.of(
+            CacheInvalidationBus.class,
+            MemberDirectory.class,
+            ConcurrencyLimiters.class,
+            LoadMetadataPublisher.class,
+            CachedHealthIndicator.class,
+            MemberStatistics.class,
+            TokenRevocations.class,
+            TokenService.class,
+            MemberArchiver.class,
+            MemberChangeStream.class);
+
+    private static final Set<String> SCHEDULED_TASKS = Set.of(
+            "com.nhnacademy.miniDooray.cache.CacheInvalidationBus.flush",
+            "com.nhnacademy.miniDooray.directory.MemberDirectory.compactIfNeeded",
+            "com.nhnacademy.miniDooray.directory.MemberDirectory.refresh",
+            "com.nhnacademy.miniDooray.load.LoadMetadataPublisher.publish",
+            "com.nhnacademy.miniDooray.stats.MemberStatistics.reconcile",
+            "com.nhnacademy.miniDooray.token.TokenRevocations.purgeExpired",
+            "com.nhnacademy.miniDooray.archive.MemberArchiver.archive",
+            "com.nhnacademy.miniDooray.stream.MemberChangeStream.expireStalledSends");
+
+    @Test
+    void timeToReady() throws IOException {
+        AtomicLong readyAt = new AtomicLong();
+        long start = System.nanoTime();
+
+        try (ConfigurableApplicationContext ignored = prodApplication()
+                .listeners(event -> {
+                    if (event instanceof ApplicationReadyEvent) {
+                        readyAt.set(System.nanoTime());
+                    }
+                })
+                .run()) {
+
+            Duration timeToReady = Duration.ofNanos(readyAt.get() - start);
+            Path report = Path.of("target", "startup-time.txt");
+            Files.createDirectories(report.getParent());
+            Files.writeString(report, timeToReady.toMillis() + "ms" + System.lineSeparator());
+
+            assertTrue(timeToReady.compareTo(BUDGET) < 0, "time to ready: " + timeToReady.toMillis() + "ms");
+        }
+    }
+
+    @Test
+    void eagerBeansAndScheduledTasksSurviveLazyInitialization() {
+        try (ConfigurableApplicationContext context = prodApplication().run()) {
+            assertTrue(context.getEnvironment().getProperty("spring.main.lazy-initialization", Boolean.class, false));
+
+            ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+            for (Class<?> type : EAGER_BEANS) {
+                String[] names = beanFactory.getBeanNamesForType(type, true, false);
+                assertTrue(names.length > 0, type.getSimpleName());
+                for (String name : names) {
+                    assertTrue(beanFactory.containsSingleton(name), name + " 이 시작 시점에 만들어지지 않았습니다.");
+                }
+            }
+
+            Set<String> scheduled = context.getBeansOfType(ScheduledTaskHolder.class).values().stream()
+                    .flatMap(holder -> holder.getScheduledTasks().stream())
+                    .map(ScheduledTask::toString)
+                    .filter(task -> task.startsWith("com.nhnacademy.miniDooray."))
+                    .collect(Collectors.toSet());
+            assertEquals(SCHEDULED_TASKS, scheduled);
+        }
+    }
+
+    private static SpringApplicationBuilder prodApplication() {
+        return new SpringApplicationBuilder(MiniDoorayApplication.class)
+                .profiles("prod")
+                .properties(
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "server.port=0",
+                        "eureka.client.enabled=false",
+                        "member.cache.invalidation.secret=startup-test",
+                        "member.token.keys=startup:MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=",
+                        "member.token.active-key=startup",
+                        "logging.level.root=warn");
+    }
+}
@@ -0,0 +1,105 @@
+package com.nhnacademy.miniDooray.archive;
+
+import com.nhnacademy.miniDooray.entity.JobLock;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeBatchEvent;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.repository.ArchivedMemberRepository;
+import com.nhnacademy.miniDooray.repository.JobLockRepository;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("dev")
+class MemberArchiverTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ArchivedMemberRepository archivedMemberRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void archivesOnlyLongWithdrawnMembers() {
+        save("active", Status.REGISTERED, LocalDateTime.now().minusDays(60));
+        save("recent", Status.WITHDRAWN, LocalDateTime.now().minusDays(1));
+        save("old1", Status.WITHDRAWN, LocalDateTime.now().minusDays(60));
+        save("old2", Status.WITHDRAWN, LocalDateTime.now().minusDays(40));
+        save("unknown", Status.WITHDRAWN, null);
+
+        MemberStatistics memberStatistics = mock(MemberStatistics.class);
+        List<Object> events = new ArrayList<>();
+        MemberArchiver archiver = archiver(memberStatistics, events);
+
+        int archived = archiver.archive();
+
+        assertEquals(2, archived);
+        assertTrue(memberRepository.findById("old1").isEmpty());
+        assertTrue(memberRepository.findById("old2").isEmpty());
+        assertTrue(memberRepository.findById("unknown").isPresent());
+        assertTrue(memberRepository.findById("recent").isPresent());
+        assertTrue(memberRepository.findById("active").isPresent());
+        assertEquals("old1Name", archivedMemberRepository.findById("old1").orElseThrow().getName());
+        // chunk 마다 회원 변경 하나와 그 chunk 를 묶은 batch 이벤트 하나
+        assertEquals(4, events.size());
+        assertEquals(MemberChangeType.ARCHIVED, ((MemberChangedEvent) events.get(0)).getType());
+        assertTrue(((MemberChangedEvent) events.get(0)).isBatched());
+        assertEquals(1, ((MemberChangeBatchEvent) events.get(1)).getChanges().size());
+        verify(memberStatistics, times(2)).recordArchived(1);
+    }
+
+    @Test
+    void skipsWhileAnotherInstanceHoldsTheLock() {
+        save("old1", Status.WITHDRAWN, LocalDateTime.now().minusDays(60));
+        jobLockRepository.saveAndFlush(new JobLock("member-archive", "other-instance", LocalDateTime.now().plusMinutes(10)));
+
+        MemberStatistics memberStatistics = mock(MemberStatistics.class);
+        int archived = archiver(memberStatistics, new ArrayList<>()).archive();
+
+        assertEquals(0, archived);
+        assertTrue(memberRepository.findById("old1").isPresent());
+        verifyNoInteractions(memberStatistics);
+    }
+
+    @Test
+    void takesOverAnExpiredLock() {
+        save("old1", Status.WITHDRAWN, LocalDateTime.now().minusDays(60));
+        jobLockRepository.saveAndFlush(new JobLock("member-archive", "other-instance", LocalDateTime.now().minusMinutes(1)));
+
+        int archived = archiver(mock(MemberStatistics.class), new ArrayList<>()).archive();
+
+        assertEquals(1, archived);
+        assertTrue(memberRepository.findById("old1").isEmpty());
+    }
+
+    private MemberArchiver archiver(MemberStatistics memberStatistics, List<Object> events) {
+        return new MemberArchiver(memberRepository, archivedMemberRepository, jobLockRepository, memberStatistics,
+                events::add, transactionManager, 30, 1, 3600);
+    }
+
+    private void save(String id, Status status, LocalDateTime updatedAt) {
+        Member member = new Member(id, "password", id + "@naver.com", id + "Name", status);
+        member.markChanged(1L, updatedAt);
+        memberRepository.save(member);
+    }
+}
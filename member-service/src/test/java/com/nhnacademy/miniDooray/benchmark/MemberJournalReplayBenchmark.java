@@ -0,0 +1,115 @@
+package com.nhnacademy.miniDooray.benchmark;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.journal.JournalRecord;
+import com.nhnacademy.miniDooray.journal.MemberJournal;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 회원 변경 journal replay 처리량. 결과의 {@code megabytes} 행이 초당 읽은 MB 이다.
+ * replay 는 레코드를 읽어 넘기기만 하고, latest 는 회원마다 마지막 상태를 map 으로 모은다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberJournalReplayBenchmark {
+
+    @Param({"1000000"})
+    private int records;
+
+    @Param({"100000"})
+    private int members;
+
+    private Path directory;
+    private MemberJournal journal;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("member-journal-benchmark");
+        journal = MemberJournal.open(directory, 64 << 20, Duration.ofSeconds(10), Integer.MAX_VALUE);
+        List<JournalRecord> batch = new ArrayList<>();
+        for (int i = 0; i < records; i++) {
+            String id = "member" + (i % members);
+            batch.add(new JournalRecord(i, MemberChangeType.UPDATED,
+                    new MemberDto(id, "password" + i, id + "@naver.com", "두레이" + i, Status.REGISTERED)));
+            if (batch.size() == 10_000) {
+                journal.appendAll(batch);
+                batch.clear();
+            }
+        }
+        journal.appendAll(batch);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void replay(Throughput throughput, Blackhole blackhole) throws IOException {
+        throughput.megabytes += journal.replay(blackhole::consume) / 1_000_000.0;
+    }
+
+    @Benchmark
+    public Map<String, JournalRecord> latest(Throughput throughput) throws IOException {
+        Map<String, JournalRecord> latest = new HashMap<>();
+        throughput.megabytes += journal.replay(record -> latest.put(record.member().getId(), record)) / 1_000_000.0;
+        return latest;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MemberJournalReplayBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
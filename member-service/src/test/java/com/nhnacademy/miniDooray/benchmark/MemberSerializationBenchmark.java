@@ -0,0 +1,97 @@
+package com.nhnacademy.miniDooray.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberPage;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.json.MemberDtoSerializer;
+import com.nhnacademy.miniDooray.json.MemberPageSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /members 응답 직렬화 비교. 기존 PageImpl + reflection 직렬화와 MemberPage + 전용 serializer 를 비교한다.
+ * 할당량은 {@code -prof gc} 의 gc.alloc.rate.norm 으로 본다. 실행 방법은 README 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter reflectiveWriter;
+    private ObjectWriter directWriter;
+    private Page<MemberDto> page;
+    private MemberPage memberPage;
+
+    @Setup
+    public void setUp() {
+        reflectiveWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        directWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new SimpleModule()
+                        .addSerializer(new MemberDtoSerializer())
+                        .addSerializer(new MemberPageSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+
+        List<MemberDto> members = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            members.add(new MemberDto("member" + i, "password" + i, "member" + i + "@naver.com", "두레이" + i, Status.REGISTERED));
+        }
+        page = new PageImpl<>(members, PageRequest.of(0, pageSize), pageSize * 50L);
+        memberPage = MemberPage.from(page);
+    }
+
+    @Benchmark
+    public void reflectivePageImpl() throws IOException {
+        reflectiveWriter.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void directMemberPage() throws IOException {
+        directWriter.writeValue(OutputStream.nullOutputStream(), memberPage);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MemberSerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,178 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.dto.InvalidationMessage;
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.token.TokenRevocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheInvalidationBusTest {
+
+    private static final String SERVICE_ID = "member-service";
+
+    private final StubRegistry registry = new StubRegistry();
+    private final StubTransport transport = new StubTransport();
+    private final Map<String, MemberCache> caches = new HashMap<>();
+    private final Map<String, TokenRevocations> revocations = new HashMap<>();
+    private final Map<String, CacheInvalidationBus> buses = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        for (String node : List.of("node-a", "node-b", "node-c")) {
+            MemberCache cache = new MemberCache(100);
+            TokenRevocations tokenRevocations = new TokenRevocations(300);
+            CacheInvalidationBus bus = new CacheInvalidationBus(cache, new NegativeMemberCache(60000, 100), tokenRevocations,
+                    registry, transport, event -> { }, SERVICE_ID, node, 2);
+            caches.put(node, cache);
+            revocations.put(node, tokenRevocations);
+            buses.put(node, bus);
+            registry.instances.add(new DefaultServiceInstance(node, SERVICE_ID, node, 8081, false));
+            transport.buses.put(node, bus);
+        }
+    }
+
+    @Test
+    void invalidatesPeersAfterFlush() {
+        fill("member1", "member2");
+        // 첫 메시지는 송신자를 처음 보는 것이므로 전체 비우기가 일어난다.
+        change("node-a", "member1");
+        fill("member1", "member2");
+
+        change("node-a", "member1");
+
+        assertNull(caches.get("node-a").get("member1"));
+        assertNull(caches.get("node-b").get("member1"));
+        assertNull(caches.get("node-c").get("member1"));
+        assertNotNull(caches.get("node-b").get("member2"));
+        assertNotNull(caches.get("node-c").get("member2"));
+    }
+
+    @Test
+    void coalescesAndBatchesPendingIds() {
+        CacheInvalidationBus bus = buses.get("node-a");
+        bus.onMemberChanged(event("member1"));
+        bus.onMemberChanged(event("member1"));
+        bus.onMemberChanged(event("member2"));
+        bus.onMemberChanged(event("member3"));
+
+        bus.flush();
+
+        List<InvalidationMessage> toB = transport.delivered.get("node-b");
+        assertEquals(2, toB.size());
+        assertEquals(3, toB.get(0).getMemberIds().size() + toB.get(1).getMemberIds().size());
+        assertEquals(toB.get(0).getSequence() + 1, toB.get(1).getSequence());
+        assertFalse(transport.delivered.containsKey("node-a"));
+    }
+
+    @Test
+    void missedSequenceFlushesWholeCache() {
+        change("node-a", "member1");
+        fill("member1", "member2");
+
+        transport.dropNextTo = "node-b";
+        change("node-a", "member1");
+        fill("member1", "member2");
+
+        change("node-a", "member3");
+
+        assertEquals(0, caches.get("node-b").size());
+        assertEquals(2, caches.get("node-c").size());
+    }
+
+    @Test
+    void propagatesTokenRevocations() {
+        MemberChangedEvent withdrawn = new MemberChangedEvent(MemberChangeType.STATUS_CHANGED,
+                new MemberDto("member1", "password", "member1@naver.com", "두레이", Status.WITHDRAWN), 0L, null);
+        revocations.get("node-a").onMemberChanged(withdrawn);
+        buses.get("node-a").onMemberChanged(withdrawn);
+
+        transport.dropNextTo = "node-c";
+        buses.get("node-a").flush();
+
+        long revokedAt = revocations.get("node-a").revokedAt("member1");
+        assertTrue(revokedAt > 0);
+        assertEquals(revokedAt, revocations.get("node-b").revokedAt("member1"));
+        assertEquals(-1, revocations.get("node-c").revokedAt("member1"));
+
+        // 전송에 실패한 node-c 에게만 다음 flush 에 다시 싣는다.
+        buses.get("node-a").flush();
+
+        assertEquals(revokedAt, revocations.get("node-c").revokedAt("member1"));
+        List<InvalidationMessage> toB = transport.delivered.get("node-b");
+        assertTrue(toB.get(toB.size() - 1).getRevocations().isEmpty());
+
+        int deliveredToC = transport.delivered.get("node-c").size();
+        buses.get("node-a").flush();
+        assertEquals(deliveredToC, transport.delivered.get("node-c").size());
+    }
+
+    private void change(String node, String memberId) {
+        CacheInvalidationBus bus = buses.get(node);
+        bus.onMemberChanged(event(memberId));
+        bus.flush();
+    }
+
+    private void fill(String... memberIds) {
+        for (MemberCache cache : caches.values()) {
+            for (String memberId : memberIds) {
+                cache.putIfUnchanged(memberId, member(memberId), cache.token());
+            }
+        }
+    }
+
+    private static MemberChangedEvent event(String memberId) {
+        return new MemberChangedEvent(MemberChangeType.UPDATED, member(memberId), 0L, null);
+    }
+
+    private static MemberDto member(String memberId) {
+        return new MemberDto(memberId, "password", memberId + "@naver.com", "두레이", Status.REGISTERED);
+    }
+
+    private static class StubRegistry implements DiscoveryClient {
+        private final List<ServiceInstance> instances = new ArrayList<>();
+
+        @Override
+        public String description() {
+            return "stub";
+        }
+
+        @Override
+        public List<ServiceInstance> getInstances(String serviceId) {
+            return SERVICE_ID.equals(serviceId) ? instances : List.of();
+        }
+
+        @Override
+        public List<String> getServices() {
+            return List.of(SERVICE_ID);
+        }
+    }
+
+    private static class StubTransport implements PeerTransport {
+        private final Map<String, CacheInvalidationBus> buses = new HashMap<>();
+        private final Map<String, List<InvalidationMessage>> delivered = new HashMap<>();
+        private String dropNextTo;
+
+        @Override
+        public void send(ServiceInstance peer, InvalidationMessage message) {
+            if (peer.getInstanceId().equals(dropNextTo)) {
+                dropNextTo = null;
+                throw new IllegalStateException("dropped");
+            }
+            delivered.computeIfAbsent(peer.getInstanceId(), key -> new ArrayList<>()).add(message);
+            buses.get(peer.getInstanceId()).receive(message);
+        }
+    }
+}
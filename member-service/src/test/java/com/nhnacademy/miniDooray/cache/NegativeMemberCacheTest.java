@@ -0,0 +1,53 @@
+package com.nhnacademy.miniDooray.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeMemberCacheTest {
+
+    private final NegativeMemberCache cache = new NegativeMemberCache(1000, 3);
+
+    @Test
+    void missingIdExpiresAfterTtl() {
+        cache.putIfUnchanged("ghost", cache.token(), 0);
+
+        assertTrue(cache.isKnownMissing("ghost", 999));
+        assertFalse(cache.isKnownMissing("ghost", 1000));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void invalidationDuringLoadIsNotOverwritten() {
+        long token = cache.token();
+        cache.invalidate("ghost");
+        cache.putIfUnchanged("ghost", token, 0);
+
+        assertFalse(cache.isKnownMissing("ghost", 0));
+    }
+
+    @Test
+    void peerInvalidationRemovesIds() {
+        cache.putIfUnchanged("a", cache.token(), 0);
+        cache.putIfUnchanged("b", cache.token(), 0);
+
+        cache.invalidateAll(List.of("a"));
+
+        assertFalse(cache.isKnownMissing("a", 0));
+        assertTrue(cache.isKnownMissing("b", 0));
+    }
+
+    @Test
+    void sizeIsBounded() {
+        for (int i = 0; i < 100; i++) {
+            cache.putIfUnchanged("ghost" + i, cache.token(), 0);
+        }
+
+        assertEquals(3, cache.size());
+        assertEquals(97, cache.getEvictions());
+    }
+}
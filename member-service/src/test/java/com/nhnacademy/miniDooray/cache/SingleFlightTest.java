@@ -0,0 +1,121 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.exception.IdNotFoundException;
+import com.nhnacademy.miniDooray.exception.OverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLoadsShareOneCall() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(5000);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.load("member1", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "두레이";
+        }));
+        waitUntil(() -> singleFlight.getLeaders() == 1);
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.load("member1", () -> {
+                calls.incrementAndGet();
+                return "other";
+            })));
+        }
+        waitUntil(() -> singleFlight.getCollapsed() == 5);
+        release.countDown();
+
+        assertEquals("두레이", leader.get(1, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("두레이", follower.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void followersReceiveLeaderException() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(5000);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> singleFlight.load("member1", () -> {
+            await(release);
+            throw new IdNotFoundException("해당 ID가 없습니다.");
+        }));
+        waitUntil(() -> singleFlight.getLeaders() == 1);
+        Future<Object> follower = executor.submit(() -> singleFlight.load("member1", () -> "other"));
+        waitUntil(() -> singleFlight.getCollapsed() == 1);
+        release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(1, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IdNotFoundException.class, leaderFailure.getCause());
+        assertInstanceOf(IdNotFoundException.class, followerFailure.getCause());
+    }
+
+    @Test
+    void followerTimesOut() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(50);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(() -> singleFlight.load("member1", () -> {
+            await(release);
+            return "두레이";
+        }));
+        waitUntil(() -> singleFlight.getLeaders() == 1);
+
+        assertThrows(OverloadedException.class, () -> singleFlight.load("member1", () -> "other"));
+        assertEquals(1, singleFlight.getTimeouts());
+        release.countDown();
+    }
+
+    @Test
+    void sequentialLoadsAreNotCollapsed() {
+        SingleFlight singleFlight = new SingleFlight(50);
+
+        assertEquals("a", singleFlight.load("member1", () -> "a"));
+        assertEquals("b", singleFlight.load("member1", () -> "b"));
+        assertEquals(0, singleFlight.getCollapsed());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("timed out");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
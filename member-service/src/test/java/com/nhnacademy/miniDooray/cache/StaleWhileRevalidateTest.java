@@ -0,0 +1,105 @@
+package com.nhnacademy.miniDooray.cache;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.exception.OverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StaleWhileRevalidateTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final StaleWhileRevalidate staleWhileRevalidate = new StaleWhileRevalidate(executor, transactionManager, 500, 100, 1, 10);
+
+    private final MemberDto member = new MemberDto("testId", "pw", "test@naver.com", "두레이", Status.REGISTERED);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void servesLastKnownValueWhenDeadlinePasses() {
+        assertEquals(Optional.of(member), staleWhileRevalidate.load("testId", () -> Optional.of(member)));
+
+        assertEquals(Optional.of(member), staleWhileRevalidate.load("testId", () -> {
+            throw new QueryTimeoutException("timeout");
+        }));
+
+        assertEquals(1, staleWhileRevalidate.getFresh());
+        assertEquals(1, staleWhileRevalidate.getStale());
+    }
+
+    @Test
+    void readsWithLastKnownValueRunUnderDeadline() {
+        staleWhileRevalidate.load("testId", () -> Optional.of(member));
+        staleWhileRevalidate.load("testId", () -> Optional.of(member));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        // JDBC 쿼리 타임아웃은 초 단위이므로 500ms 는 1초로 올린다.
+        assertEquals(1, definition.getValue().getTimeout());
+    }
+
+    @Test
+    void slowReadWithoutLastKnownValueIsAwaited() {
+        Optional<MemberDto> loaded = staleWhileRevalidate.load("testId", () -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(member);
+        });
+
+        assertEquals(Optional.of(member), loaded);
+        assertEquals(0, staleWhileRevalidate.getUnavailable());
+    }
+
+    @Test
+    void failsFastWithoutLastKnownValue() {
+        assertThrows(OverloadedException.class, () -> staleWhileRevalidate.load("testId", () -> {
+            throw new QueryTimeoutException("timeout");
+        }));
+        assertEquals(1, staleWhileRevalidate.getUnavailable());
+    }
+
+    @Test
+    void readStartedBeforeChangeIsNotRemembered() {
+        MemberDto renamed = new MemberDto("testId", "pw", "test@naver.com", "뚜레이", Status.REGISTERED);
+
+        staleWhileRevalidate.load("testId", () -> {
+            staleWhileRevalidate.onMemberChanged(new MemberChangedEvent(MemberChangeType.UPDATED, renamed, 2L, null));
+            return Optional.of(member);
+        });
+
+        assertEquals(Optional.of(renamed), staleWhileRevalidate.load("testId", () -> {
+            throw new QueryTimeoutException("timeout");
+        }));
+    }
+
+    @Test
+    void otherFailuresArePropagated() {
+        staleWhileRevalidate.load("testId", () -> Optional.of(member));
+
+        assertThrows(IllegalArgumentException.class, () -> staleWhileRevalidate.load("testId", () -> {
+            throw new IllegalArgumentException();
+        }));
+    }
+}
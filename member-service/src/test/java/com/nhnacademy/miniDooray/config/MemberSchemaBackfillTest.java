@@ -0,0 +1,33 @@
+package com.nhnacademy.miniDooray.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("dev")
+class MemberSchemaBackfillTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void fillsEmptyNameKeysInBatches() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String id : new String[]{"old1", "old2", "old3"}) {
+            jdbcTemplate.update("insert into member (id, password, email, name, name_key, status, change_seq) " +
+                    "values (?, 'pw', ?, ?, '', 'REGISTERED', 0)", id, id + "@naver.com", "Old" + id.toUpperCase());
+        }
+
+        new MemberSchemaBackfill(jdbcTemplate, 2).backfill();
+
+        assertEquals("oldold1", jdbcTemplate.queryForObject("select name_key from member where id = 'old1'", String.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from member where name_key = ''", Integer.class));
+    }
+}
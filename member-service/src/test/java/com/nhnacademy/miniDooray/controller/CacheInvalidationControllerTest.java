@@ -0,0 +1,57 @@
+package com.nhnacademy.miniDooray.controller;
+
+import com.nhnacademy.miniDooray.cache.CacheInvalidationBus;
+import com.nhnacademy.miniDooray.cache.PeerAuthentication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CacheInvalidationController.class)
+@Import(PeerAuthentication.class)
+@TestPropertySource(properties = "member.cache.invalidation.secret=peer-secret")
+class CacheInvalidationControllerTest {
+
+    private static final String MESSAGE = "{\"sourceId\":\"node-a\",\"epoch\":\"e\",\"sequence\":1,\"memberIds\":[\"member1\"]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Test
+    void appliesMessageWithPeerSecret() throws Exception {
+        mockMvc.perform(post("/internal/cache/invalidations")
+                        .header(PeerAuthentication.HEADER, "peer-secret")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MESSAGE))
+                .andExpect(status().isNoContent());
+
+        verify(cacheInvalidationBus).receive(any());
+    }
+
+    @Test
+    void rejectsMessageWithoutPeerSecret() throws Exception {
+        mockMvc.perform(post("/internal/cache/invalidations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MESSAGE))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/internal/cache/invalidations")
+                        .header(PeerAuthentication.HEADER, "guess")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MESSAGE))
+                .andExpect(status().isForbidden());
+
+        verify(cacheInvalidationBus, never()).receive(any());
+    }
+}
@@ -5,7 +5,10 @@ import com.nhnacademy.miniDooray.entity.Status;
 import com.nhnacademy.miniDooray.exception.IdAlreadyExistsException;
 import com.nhnacademy.miniDooray.exception.IllegalIdOrPasswordException;
 import com.nhnacademy.miniDooray.exception.StatusIsWithdrawnException;
+import com.nhnacademy.miniDooray.exception.TooManyLoginAttemptsException;
+import com.nhnacademy.miniDooray.limit.LoginThrottle;
 import com.nhnacademy.miniDooray.service.MemberService;
+import com.nhnacademy.miniDooray.token.TokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,6 +43,12 @@ class MemberControllerTest {
     @MockBean
     private MemberService memberService;
 
+    @MockBean
+    private TokenService tokenService;
+
+    @MockBean
+    private LoginThrottle loginThrottle;
+
     @Test
     @DisplayName("POST - /members/register")
     void testRegisterMember() throws Exception {
@@ -121,7 +130,12 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.content[0].password").value("testPassword"))
                 .andExpect(jsonPath("$.content[0].email").value("test@Email.com"))
                 .andExpect(jsonPath("$.content[0].name").value("testName"))
-                .andExpect(jsonPath("$.content[0].status").value("WITHDRAWN"));
+                .andExpect(jsonPath("$.content[0].status").value("WITHDRAWN"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.numberOfElements").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
     }
 
 
@@ -158,12 +172,16 @@ class MemberControllerTest {
     @Test
     @DisplayName("POST - /members/login")
     void testDoLogin_Success() throws Exception {
+        MemberDto memberDto = new MemberDto("testId", "testPassword", "test@naver.com", "testName", Status.REGISTERED);
         when(memberService.matches(anyString(), anyString())).thenReturn(true);
+        when(memberService.getMember("testId")).thenReturn(memberDto);
+        when(tokenService.issue(memberDto)).thenReturn("signed-token");
 
         mockMvc.perform(post("/members/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"id\":\"testId\",\"password\":\"testPassword\"}"))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Authorization", "Bearer signed-token"));
     }
 
     @Test
@@ -175,6 +193,65 @@ class MemberControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"id\":\"wrongId\",\"password\":\"wrongPassword\"}"))
                 .andExpect(status().isUnauthorized());
+
+        verify(loginThrottle).recordFailure(eq("wrongId"), anyString());
+    }
+
+    @Test
+    @DisplayName("POST - /members/login 실패 - 로그인 실패가 많아 막힘")
+    void testDoLogin_Throttled() throws Exception {
+        doThrow(new TooManyLoginAttemptsException("로그인 실패가 많아 잠시 로그인할 수 없습니다.", 30))
+                .when(loginThrottle).check(eq("testId"), anyString());
+
+        mockMvc.perform(post("/members/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"testId\",\"password\":\"testPassword\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"));
+
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    @DisplayName("POST - /members/login - Email")
+    void testDoLogin_ByEmail() throws Exception {
+        MemberDto memberDto = new MemberDto("testId", "testPassword", "test@naver.com", "testName", Status.REGISTERED);
+        when(memberService.authenticateByEmail("test@naver.com", "testPassword")).thenReturn(memberDto);
+        when(tokenService.issue(memberDto)).thenReturn("signed-token");
+
+        mockMvc.perform(post("/members/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"test@naver.com\",\"password\":\"testPassword\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Authorization", "Bearer signed-token"));
+
+        verify(memberService, never()).matches(anyString(), anyString());
+        verify(memberService, never()).getMemberByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("POST - /members/login - Email, 실패")
+    void testDoLogin_ByEmailFailure() throws Exception {
+        when(memberService.authenticateByEmail("test@naver.com", "wrong"))
+                .thenThrow(new IllegalIdOrPasswordException("Email 이나 Password가 일치하지 않습니다."));
+
+        mockMvc.perform(post("/members/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"test@naver.com\",\"password\":\"wrong\"}"))
+                .andExpect(status().isUnauthorized());
+
+        verify(loginThrottle).recordFailure(eq("test@naver.com"), anyString());
+    }
+
+    @Test
+    @DisplayName("GET - /members/by-email")
+    void testGetMemberByEmail() throws Exception {
+        MemberDto memberDto = new MemberDto("testId", "testPassword", "test@naver.com", "testName", Status.REGISTERED);
+        when(memberService.getMemberByEmail("test@naver.com")).thenReturn(memberDto);
+
+        mockMvc.perform(get("/members/by-email").param("email", "test@naver.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("testId"));
     }
 
     @Test
@@ -182,7 +259,7 @@ class MemberControllerTest {
     void testLookupMembers() throws Exception {
         List<MemberInfoDto> memberInfoList = List.of(new MemberInfoDto("testId", "testName"));
 
-        when(memberService.lookupMembers(any())).thenReturn(memberInfoList);
+        when(memberService.lookupMembers(any(), eq(false), eq(false))).thenReturn(memberInfoList);
 
         mockMvc.perform(post("/members/lookup")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -191,4 +268,19 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$[0].id").value("testId"))
                 .andExpect(jsonPath("$[0].name").value("testName"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST - /members/lookup?partial=true")
+    void testLookupMembers_Partial() throws Exception {
+        when(memberService.lookupMembers(List.of("testId", "ghost"), false, true))
+                .thenReturn(List.of(new MemberInfoDto("testId", "testName")));
+
+        mockMvc.perform(post("/members/lookup")
+                        .param("partial", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberIds\":[\"testId\",\"ghost\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("testId"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.nhnacademy.miniDooray.directory;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.event.PeerMembersChangedEvent;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberDirectoryTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberDirectory memberDirectory;
+
+    @BeforeEach
+    void setUp() {
+        memberDirectory = new MemberDirectory(memberRepository, 2, 100);
+        when(memberRepository.findInfosAfter(eq(Status.WITHDRAWN), eq(""), any(Pageable.class)))
+                .thenReturn(List.of(new MemberInfoDto("dooray", "두레이"), new MemberInfoDto("abc", "에이비씨")));
+        when(memberRepository.findInfosAfter(eq(Status.WITHDRAWN), eq("abc"), any(Pageable.class)))
+                .thenReturn(List.of(new MemberInfoDto("zeta", "제타")));
+        when(memberRepository.findInfosAfter(eq(Status.WITHDRAWN), eq("zeta"), any(Pageable.class)))
+                .thenReturn(List.of());
+        memberDirectory.load();
+    }
+
+    @Test
+    void findNameFromSnapshot() {
+        assertTrue(memberDirectory.isReady());
+        assertEquals("두레이", memberDirectory.findName("dooray"));
+        assertEquals("에이비씨", memberDirectory.findName("abc"));
+        assertEquals("제타", memberDirectory.findName("zeta"));
+        assertNull(memberDirectory.findName("unknown"));
+        assertEquals(3, memberDirectory.size());
+        assertTrue(memberDirectory.footprintBytes() > 0);
+    }
+
+    @Test
+    void patchesOverrideSnapshotAndSurviveCompaction() {
+        memberDirectory.onMemberChanged(event("dooray", "뚜레이", Status.REGISTERED));
+        memberDirectory.onMemberChanged(event("zeta", "제타", Status.WITHDRAWN));
+        memberDirectory.onMemberChanged(event("new", "신규", Status.REGISTERED));
+
+        assertEquals("뚜레이", memberDirectory.findName("dooray"));
+        assertNull(memberDirectory.findName("zeta"));
+        assertEquals("신규", memberDirectory.findName("new"));
+
+        long before = memberDirectory.footprintBytes();
+        memberDirectory.compact();
+
+        assertEquals("뚜레이", memberDirectory.findName("dooray"));
+        assertNull(memberDirectory.findName("zeta"));
+        assertEquals("신규", memberDirectory.findName("new"));
+        assertEquals(3, memberDirectory.size());
+        assertTrue(memberDirectory.footprintBytes() < before);
+    }
+
+    @Test
+    void repeatedCompactionsMergeInIdOrder() {
+        memberDirectory.onMemberChanged(event("bcd", "비씨디", Status.REGISTERED));
+        memberDirectory.onMemberChanged(event("ghost", "유령", Status.WITHDRAWN));
+        memberDirectory.compact();
+        memberDirectory.onMemberChanged(event("abc", "에이", Status.REGISTERED));
+        memberDirectory.onMemberChanged(event("dooray", "두레이", Status.WITHDRAWN));
+        memberDirectory.compact();
+
+        assertEquals("에이", memberDirectory.findName("abc"));
+        assertEquals("비씨디", memberDirectory.findName("bcd"));
+        assertNull(memberDirectory.findName("dooray"));
+        assertNull(memberDirectory.findName("ghost"));
+        assertEquals("제타", memberDirectory.findName("zeta"));
+        assertEquals(3, memberDirectory.size());
+    }
+
+    @Test
+    void peerChangesFallBackToDbUntilRefreshed() {
+        memberDirectory.onPeerMembersChanged(new PeerMembersChangedEvent(List.of("dooray", "zeta"), false));
+
+        assertNull(memberDirectory.findName("dooray"));
+        assertNull(memberDirectory.findName("zeta"));
+        assertEquals("에이비씨", memberDirectory.findName("abc"));
+
+        when(memberRepository.findAllById(any())).thenReturn(List.of(
+                new Member("dooray", "pw", "dooray@naver.com", "뚜레이", Status.REGISTERED),
+                new Member("zeta", "pw", "zeta@naver.com", "제타", Status.WITHDRAWN)));
+        memberDirectory.refresh();
+
+        assertEquals("뚜레이", memberDirectory.findName("dooray"));
+        assertNull(memberDirectory.findName("zeta"));
+        memberDirectory.compact();
+        assertEquals("뚜레이", memberDirectory.findName("dooray"));
+        assertEquals(2, memberDirectory.size());
+    }
+
+    @Test
+    void dirtyPatchesAreNotCompacted() {
+        memberDirectory.onPeerMembersChanged(new PeerMembersChangedEvent(List.of("dooray"), false));
+        memberDirectory.compact();
+
+        assertNull(memberDirectory.findName("dooray"));
+    }
+
+    @Test
+    void missedPeerMessageReloadsDirectory() {
+        memberDirectory.onPeerMembersChanged(PeerMembersChangedEvent.missed());
+
+        assertNull(memberDirectory.findName("abc"));
+
+        memberDirectory.refresh();
+
+        assertEquals("에이비씨", memberDirectory.findName("abc"));
+        verify(memberRepository, times(2)).findInfosAfter(eq(Status.WITHDRAWN), eq(""), any(Pageable.class));
+    }
+
+    private static MemberChangedEvent event(String id, String name, Status status) {
+        return new MemberChangedEvent(MemberChangeType.UPDATED, new MemberDto(id, "pw", id + "@naver.com", name, status), 0L, null);
+    }
+}
@@ -0,0 +1,113 @@
+package com.nhnacademy.miniDooray.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedHealthIndicatorTest {
+
+    private final AtomicInteger checks = new AtomicInteger();
+    private final AtomicReference<Health> result = new AtomicReference<>(Health.up().build());
+    private final HealthIndicator delegate = () -> {
+        checks.incrementAndGet();
+        return result.get();
+    };
+    private final RepositoryFailureTracker tracker = new RepositoryFailureTracker(3, 10_000);
+    private final CachedHealthIndicator indicator = new CachedHealthIndicator("db", delegate, tracker,
+            Duration.ofSeconds(5), Duration.ofSeconds(15));
+
+    @AfterEach
+    void tearDown() {
+        indicator.close();
+    }
+
+    @Test
+    void probesAreServedFromLastCheck() {
+        indicator.refresh(0);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Status.UP, indicator.health(1000).getStatus());
+        }
+        assertEquals(1, checks.get());
+
+        result.set(Health.down().build());
+        indicator.refresh(5000);
+        assertEquals(Status.DOWN, indicator.health(5000).getStatus());
+    }
+
+    @Test
+    void firstProbeChecksDirectly() {
+        assertEquals(Status.UP, indicator.health(0).getStatus());
+        assertEquals(1, checks.get());
+    }
+
+    @Test
+    void staleResultIsDown() {
+        indicator.refresh(0);
+
+        assertEquals(Status.UP, indicator.health(15_000).getStatus());
+        assertEquals(Status.DOWN, indicator.health(15_001).getStatus());
+    }
+
+    @Test
+    void failingCheckIsDown() {
+        CachedHealthIndicator failing = new CachedHealthIndicator("db", () -> {
+            throw new IllegalStateException("boom");
+        }, null, Duration.ofSeconds(5), Duration.ofSeconds(15));
+
+        failing.refresh(0);
+
+        assertEquals(Status.DOWN, failing.health(0).getStatus());
+        failing.close();
+    }
+
+    @Test
+    void repositoryFailuresTurnDownBeforeNextCheck() {
+        indicator.refresh(0);
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("connection refused");
+
+        tracker.record(failure, 100);
+        tracker.record(failure, 200);
+        assertEquals(Status.UP, indicator.health(300).getStatus());
+
+        tracker.record(failure, 300);
+        Health health = indicator.health(400);
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals(3, health.getDetails().get("consecutiveFailures"));
+
+        tracker.recordSuccess();
+        assertEquals(Status.UP, indicator.health(500).getStatus());
+    }
+
+    @Test
+    void oldFailuresExpireWithoutTraffic() {
+        indicator.refresh(0);
+        for (int i = 0; i < 3; i++) {
+            tracker.record(new DataAccessResourceFailureException("connection refused"), 0);
+        }
+
+        assertEquals(Status.DOWN, indicator.health(10_000).getStatus());
+        indicator.refresh(10_001);
+        assertEquals(Status.UP, indicator.health(10_001).getStatus());
+    }
+
+    @Test
+    void onlyDatabaseFailuresAreCounted() {
+        assertFalse(tracker.record(new DataIntegrityViolationException("duplicate"), 0));
+        assertFalse(tracker.record(new PessimisticLockingFailureException("deadlock"), 0));
+        assertTrue(tracker.record(new DataAccessResourceFailureException("connection refused"), 0));
+
+        assertEquals(1, tracker.getConsecutiveFailures());
+    }
+}
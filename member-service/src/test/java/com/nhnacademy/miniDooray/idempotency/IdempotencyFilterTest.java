@@ -0,0 +1,170 @@
+package com.nhnacademy.miniDooray.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyFilterTest {
+
+    private final IdempotencyFilter filter =
+            new IdempotencyFilter(new ObjectMapper().registerModule(new JavaTimeModule()), 100, 60, 2000);
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final FilterChain created = (request, response) -> {
+        executions.incrementAndGet();
+        request.getInputStream().readAllBytes();
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        httpResponse.setStatus(201);
+        httpResponse.setContentType("application/json");
+        httpResponse.getOutputStream().write("{\"id\":\"testId\"}".getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    void retryIsReplayed() throws Exception {
+        MockHttpServletResponse first = perform("key-1", "{\"id\":\"testId\"}", created);
+        MockHttpServletResponse retry = perform("key-1", "{\"id\":\"testId\"}", created);
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        perform("key-1", "{\"id\":\"testId\"}", created);
+        MockHttpServletResponse other = perform("key-1", "{\"id\":\"otherId\"}", created);
+
+        assertEquals(1, executions.get());
+        assertEquals(422, other.getStatus());
+    }
+
+    @Test
+    void serverErrorIsNotStored() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+
+        perform("key-1", "{}", failing);
+        MockHttpServletResponse retry = perform("key-1", "{}", created);
+
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForFirst() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created.doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> performUnchecked(slow));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> performUnchecked(created));
+        release.countDown();
+
+        assertEquals(201, first.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(201, duplicate.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void sameKeyFromAnotherCallerIsNotReplayed() throws Exception {
+        perform("key-1", "{\"id\":\"testId\"}", created);
+        MockHttpServletRequest other = new MockHttpServletRequest("POST", "/members/register");
+        other.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        other.setRemoteAddr("10.0.0.2");
+        other.setContent("{\"id\":\"testId\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(other, response, created);
+
+        assertEquals(2, executions.get());
+        assertNull(response.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void inFlightKeyIsNotEvictedWhenStoreIsFull() throws Exception {
+        IdempotencyFilter small = new IdempotencyFilter(new ObjectMapper().registerModule(new JavaTimeModule()), 1, 60, 2000);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created.doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> first =
+                CompletableFuture.supplyAsync(() -> performUnchecked(small, "key-1", slow));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        MockHttpServletResponse rejected = perform(small, "key-2", "{}", created);
+        release.countDown();
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals(201, first.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(201, perform(small, "key-1", "{\"id\":\"testId\"}", created).getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void requestsWithoutKeyPassThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/members/register");
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+
+        filter.doFilter(request, new MockHttpServletResponse(), created);
+        filter.doFilter(request, new MockHttpServletResponse(), created);
+
+        assertEquals(2, executions.get());
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        return perform(filter, key, body, chain);
+    }
+
+    private MockHttpServletResponse perform(IdempotencyFilter target, String key, String body, FilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/members/register");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        target.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse performUnchecked(FilterChain chain) {
+        return performUnchecked(filter, "key-1", chain);
+    }
+
+    private MockHttpServletResponse performUnchecked(IdempotencyFilter target, String key, FilterChain chain) {
+        try {
+            return perform(target, key, "{\"id\":\"testId\"}", chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.miniDooray.importer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportModeEnvironmentPostProcessorTest {
+
+    private final ImportModeEnvironmentPostProcessor postProcessor = new ImportModeEnvironmentPostProcessor();
+
+    @Test
+    void importFileTurnsOffWebServerAndEureka() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("member.import.file", "members.csv")
+                .withProperty("spring.main.web-application-type", "servlet")
+                .withProperty("eureka.client.enabled", "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("none", environment.getProperty("spring.main.web-application-type"));
+        assertEquals("false", environment.getProperty("eureka.client.enabled"));
+        assertEquals("false", environment.getProperty("eureka.client.register-with-eureka"));
+    }
+
+    @Test
+    void serviceModeIsUntouched() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertNull(environment.getPropertySources().get(ImportModeEnvironmentPostProcessor.PROPERTY_SOURCE_NAME));
+        assertNull(environment.getProperty("spring.main.web-application-type"));
+    }
+}
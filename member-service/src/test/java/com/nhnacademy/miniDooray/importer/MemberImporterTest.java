@@ -0,0 +1,124 @@
+package com.nhnacademy.miniDooray.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("dev")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberImporterTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("delete from member where id like 'imp%'");
+    }
+
+    @Test
+    void importsValidRowsAndRejectsTheRest() throws Exception {
+        Path file = write("members.csv",
+                "id,name,email,password",
+                "imp1,회원하나,One@Naver.com,pw1",
+                "imp2,회원둘,two@naver.com,pw2",
+                "imp3,회원셋,not-an-email,pw3",
+                "imp1,중복아이디,dup@naver.com,pw4",
+                "imp5,\"쉼표, 있음\",one@naver.com,pw5",
+                "imp6,\"따옴표",
+                "imp7,회원일곱,seven@naver.com,pw7");
+
+        // writer 가 하나면 batch 순서대로 들어가므로 뒤쪽 batch 의 imp1 은 내용이 다른 기존 ID 로 거부된다.
+        ImportReport report = importer(1).importFile(file, ImportFormat.CSV);
+
+        assertEquals(7, report.read());
+        assertEquals(3, report.imported());
+        assertEquals(0, report.skipped());
+        assertEquals(4, report.rejected());
+        assertEquals("one@naver.com", new JdbcTemplate(dataSource)
+                .queryForObject("select email from member where id = 'imp1'", String.class));
+        assertEquals(4, Files.readAllLines(directory.resolve("members.csv.rejected")).size());
+        assertEquals("8", Files.readString(directory.resolve("members.csv.checkpoint")));
+    }
+
+    @Test
+    void resumesAfterCheckpointWithoutDuplicates() throws Exception {
+        Path file = write("members.ndjson",
+                "{\"id\":\"imp1\",\"password\":\"pw\",\"email\":\"imp1@naver.com\",\"name\":\"회원하나\"}",
+                "{\"id\":\"imp2\",\"password\":\"pw\",\"email\":\"imp2@naver.com\",\"name\":\"회원둘\"}",
+                "{\"id\":\"imp3\",\"password\":\"pw\",\"email\":\"imp3@naver.com\",\"name\":\"회원셋\"}");
+        importer(2).importFile(file, ImportFormat.NDJSON);
+        Files.writeString(directory.resolve("members.ndjson.checkpoint"), "1");
+
+        ImportReport report = importer(2).importFile(file, ImportFormat.NDJSON);
+
+        assertEquals(1, report.resumedAfterLine());
+        assertEquals(2, report.read());
+        assertEquals(0, report.imported());
+        assertEquals(2, report.skipped());
+        assertEquals(3, new JdbcTemplate(dataSource)
+                .queryForObject("select count(*) from member where id like 'imp%'", Integer.class));
+    }
+
+    @Test
+    void rejectsExistingIdWithDifferentMemberOnResume() throws Exception {
+        new JdbcTemplate(dataSource).update("insert into member (id, password, email, name, name_key, status, change_seq, " +
+                "updated_at, registered_at) values ('imp2', 'other', 'other@naver.com', '다른회원', '다른회원', 'REGISTERED', 0, " +
+                "current_timestamp, current_timestamp)");
+        Path file = write("members.ndjson",
+                "{\"id\":\"imp1\",\"password\":\"pw\",\"email\":\"imp1@naver.com\",\"name\":\"회원하나\"}",
+                "{\"id\":\"imp2\",\"password\":\"pw\",\"email\":\"imp2@naver.com\",\"name\":\"회원둘\"}");
+        importer(1).importFile(file, ImportFormat.NDJSON);
+        Files.writeString(directory.resolve("members.ndjson.checkpoint"), "0");
+
+        ImportReport report = importer(1).importFile(file, ImportFormat.NDJSON);
+
+        // imp1 은 이전 실행이 넣은 그대로라 건너뛰고, imp2 는 다른 회원의 ID 라 매번 거부된다.
+        assertEquals(1, report.skipped());
+        assertEquals(1, report.rejected());
+        assertEquals("other@naver.com", new JdbcTemplate(dataSource)
+                .queryForObject("select email from member where id = 'imp2'", String.class));
+    }
+
+    @Test
+    void parsesQuotedCsvFields() {
+        assertEquals(List.of("a", "b,c", "say \"hi\"", ""), CsvMemberRecordReader.parse("a,\"b,c\",\"say \"\"hi\"\"\","));
+    }
+
+    private MemberImporter importer(int writers) {
+        return new MemberImporter(new JdbcTemplate(dataSource), transactionManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), new ChangeSequence(),
+                2, writers, 2);
+    }
+
+    private Path write(String name, String... lines) throws Exception {
+        Path file = directory.resolve(name);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,65 @@
+package com.nhnacademy.miniDooray.journal;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeBatchEvent;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberJournalRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    private MemberJournalRecorder recorder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        recorder = new MemberJournalRecorder(directory, 1 << 20, 1000, 4);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        recorder.close();
+    }
+
+    @Test
+    void batchIsWrittenWithOneFsync() throws IOException {
+        List<MemberChangedEvent> changes = LongStream.rangeClosed(1, 3)
+                .mapToObj(seq -> event("member" + seq, seq, true))
+                .toList();
+
+        // 발행 순서대로 batched 이벤트를 먼저 받고 batch 이벤트를 받는다.
+        changes.forEach(recorder::onMemberChanged);
+        assertEquals(0, recorder.getJournal().getAppends());
+        recorder.onMemberChangeBatch(new MemberChangeBatchEvent(changes));
+
+        assertEquals(3, recorder.getJournal().getAppends());
+        assertEquals(1, recorder.getJournal().getFsyncs());
+        assertEquals(3, recorder.getJournal().latest().size());
+    }
+
+    @Test
+    void singleChangeIsWrittenOnItsOwn() throws IOException {
+        recorder.onMemberChanged(event("member1", 1, false));
+
+        assertEquals(1, recorder.getJournal().getAppends());
+        assertTrue(recorder.getJournal().latest().containsKey("member1"));
+    }
+
+    private static MemberChangedEvent event(String id, long changeSeq, boolean batched) {
+        return new MemberChangedEvent(MemberChangeType.STATUS_CHANGED,
+                new MemberDto(id, "pw", id + "@naver.com", id, Status.WITHDRAWN), changeSeq, null, batched);
+    }
+}
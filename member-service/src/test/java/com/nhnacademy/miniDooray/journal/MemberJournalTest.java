@@ -0,0 +1,178 @@
+package com.nhnacademy.miniDooray.journal;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private MemberJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void recordsSurviveReopen() throws IOException {
+        journal = open(4096);
+        journal.append(record(1, MemberChangeType.REGISTERED, "member1", "회원하나", Status.REGISTERED));
+        journal.append(record(2, MemberChangeType.STATUS_CHANGED, "member1", "회원하나", Status.WITHDRAWN));
+        journal.close();
+
+        journal = open(4096);
+        journal.append(record(3, MemberChangeType.REGISTERED, "member2", "회원둘", Status.REGISTERED));
+
+        List<JournalRecord> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+        assertEquals(List.of(1L, 2L, 3L), replayed.stream().map(JournalRecord::changeSeq).toList());
+        // 비밀번호는 journal 에 남기지 않는다.
+        assertEquals(new MemberDto("member1", null, "member1@naver.com", "회원하나", Status.WITHDRAWN),
+                replayed.get(1).member());
+        assertEquals(MemberChangeType.STATUS_CHANGED, replayed.get(1).type());
+    }
+
+    @Test
+    void legacyRecordsAreReadWithoutPassword() {
+        byte[] id = "member1".getBytes(StandardCharsets.UTF_8);
+        byte[] password = "password".getBytes(StandardCharsets.UTF_8);
+        byte[] email = "member1@naver.com".getBytes(StandardCharsets.UTF_8);
+        byte[] name = "회원하나".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer legacy = ByteBuffer.allocate(Long.BYTES + 2 + 4 * Integer.BYTES
+                + id.length + password.length + email.length + name.length);
+        legacy.putLong(7).put((byte) MemberChangeType.UPDATED.ordinal()).put((byte) Status.REGISTERED.ordinal());
+        for (byte[] value : List.of(id, password, email, name)) {
+            legacy.putInt(value.length).put(value);
+        }
+
+        JournalRecord record = JournalRecord.decode(legacy.flip());
+
+        assertEquals(7, record.changeSeq());
+        assertEquals(MemberChangeType.UPDATED, record.type());
+        assertEquals(new MemberDto("member1", null, "member1@naver.com", "회원하나", Status.REGISTERED), record.member());
+    }
+
+    @Test
+    void batchIsSyncedOnce() throws IOException {
+        journal = open(1 << 20);
+        List<JournalRecord> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(record(i, MemberChangeType.REGISTERED, "member" + i, "회원" + i, Status.REGISTERED));
+        }
+
+        journal.appendAll(records);
+
+        assertEquals(100, journal.getAppends());
+        assertEquals(1, journal.getFsyncs());
+    }
+
+    @Test
+    void concurrentAppendsAreAllKept() throws Exception {
+        journal = open(4096);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int seq = i;
+            futures.add(executor.submit(() -> {
+                journal.append(record(seq, MemberChangeType.UPDATED, "member" + seq, "회원" + seq, Status.REGISTERED));
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(500, journal.latest().size());
+        assertTrue(journal.getSegmentCount() > 1);
+        assertTrue(journal.getFsyncs() <= journal.getAppends());
+    }
+
+    @Test
+    void compactionKeepsLastRecordPerMember() throws IOException {
+        journal = open(512);
+        for (int i = 0; i < 60; i++) {
+            journal.append(record(i, MemberChangeType.UPDATED, "member" + (i % 3), "이름" + i, Status.REGISTERED));
+        }
+        journal.append(record(60, MemberChangeType.ARCHIVED, "member0", "이름60", Status.WITHDRAWN));
+        Map<String, JournalRecord> before = journal.latest();
+        int segments = journal.getSegmentCount();
+
+        assertEquals(segments - 1, journal.compact());
+
+        assertEquals(2, journal.getSegmentCount());
+        assertEquals(before, journal.latest());
+        assertEquals(MemberChangeType.ARCHIVED, journal.latest().get("member0").type());
+        journal.close();
+
+        journal = open(512);
+        assertEquals(before, journal.latest());
+    }
+
+    @Test
+    void compactionWaitsForEnoughSegments() throws IOException {
+        journal = open(4096);
+        journal.append(record(1, MemberChangeType.REGISTERED, "member1", "회원하나", Status.REGISTERED));
+
+        assertEquals(0, journal.compact());
+    }
+
+    @Test
+    void tornTailIsDiscarded() throws IOException {
+        journal = open(4096);
+        JournalRecord first = record(1, MemberChangeType.REGISTERED, "member1", "회원하나", Status.REGISTERED);
+        journal.append(first);
+        journal.append(record(2, MemberChangeType.REGISTERED, "member2", "회원둘", Status.REGISTERED));
+        journal.close();
+
+        int secondCrcOffset = JournalSegment.recordBytes(first.encode()) + Integer.BYTES;
+        try (FileChannel channel = FileChannel.open(onlySegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 42), secondCrcOffset);
+        }
+
+        journal = open(4096);
+        assertEquals(List.of("member1"), List.copyOf(journal.latest().keySet()));
+        journal.append(record(3, MemberChangeType.REGISTERED, "member3", "회원셋", Status.REGISTERED));
+        assertEquals(List.of("member1", "member3"), List.copyOf(journal.latest().keySet()));
+    }
+
+    private MemberJournal open(int segmentSize) throws IOException {
+        return MemberJournal.open(directory, segmentSize, Duration.ofSeconds(1), 3);
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private JournalRecord record(long changeSeq, MemberChangeType type, String id, String name, Status status) {
+        return new JournalRecord(changeSeq, type, new MemberDto(id, "password", id + "@naver.com", name, status));
+    }
+}
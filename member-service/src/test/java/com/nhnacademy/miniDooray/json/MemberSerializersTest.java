@@ -0,0 +1,68 @@
+package com.nhnacademy.miniDooray.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberInfoDto;
+import com.nhnacademy.miniDooray.dto.MemberPage;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.exception.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberSerializersTest {
+
+    private final ObjectMapper reflective = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper direct = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule()
+                    .addSerializer(new MemberDtoSerializer())
+                    .addSerializer(new MemberInfoDtoSerializer())
+                    .addSerializer(new MemberPageSerializer())
+                    .addSerializer(new ErrorResponseSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void sameOutputAsReflectiveSerialization() throws Exception {
+        MemberPage page = new MemberPage(Arrays.asList(
+                new MemberDto("testId", "pw", "test@naver.com", "두레이", Status.REGISTERED),
+                new MemberDto("nullId", null, null, "\"quoted\"", null)), 0, 10, 2, 1, true, true, 2, false,
+                new MemberPage.SortInfo(true, false, true));
+        MemberInfoDto info = new MemberInfoDto("testId", "두레이");
+        ErrorResponse error = new ErrorResponse("해당 ID가 없습니다.", 404, LocalDateTime.of(2024, 10, 1, 9, 30, 15, 123_000_000));
+
+        for (Object value : List.of(page, info, error)) {
+            assertEquals(reflective.readTree(reflective.writeValueAsString(value)),
+                    direct.readTree(direct.writeValueAsString(value)));
+        }
+    }
+
+    @Test
+    void keepsPageImplFieldsExceptPageable() throws Exception {
+        Page<MemberDto> page = new PageImpl<>(List.of(new MemberDto("testId", "pw", "test@naver.com", "두레이", Status.REGISTERED)),
+                PageRequest.of(1, 1, Sort.by("id")), 3);
+
+        ObjectNode legacy = (ObjectNode) reflective.readTree(reflective.writeValueAsString(page));
+        legacy.remove("pageable");
+
+        assertEquals(legacy, direct.readTree(direct.writeValueAsString(MemberPage.from(page))));
+    }
+}
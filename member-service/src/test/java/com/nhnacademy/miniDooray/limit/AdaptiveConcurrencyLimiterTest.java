@@ -0,0 +1,107 @@
+package com.nhnacademy.miniDooray.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    @Test
+    void rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 500);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    void growsWhenFastAndUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 500);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST);
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void backsOffWhenSlow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, 500);
+        long now = 0;
+
+        for (int expected : new int[]{4, 2, 1, 1}) {
+            limiter.tryAcquire();
+            now += SLOW;
+            limiter.release(SLOW, now);
+            assertEquals(expected, limiter.getLimit());
+        }
+    }
+
+    @Test
+    void backsOffOncePerRoundTrip() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, 500);
+        long now = SLOW;
+
+        // 같은 지연에 걸린 요청들이 한꺼번에 느리게 끝나도 한 번만 줄인다.
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 5; i++) {
+            limiter.release(SLOW, now + i);
+        }
+        assertEquals(4, limiter.getLimit());
+
+        // 줄인 뒤에 시작한 요청이 느리면 다시 줄인다.
+        limiter.tryAcquire();
+        limiter.release(SLOW, now + 10 + SLOW);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void invalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 0, 10, 0.5, 500));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 1, 10, 1.0, 500));
+    }
+
+    @Test
+    void lowerPriorityGroupShedWhileLoginSaturated() {
+        Map<RouteGroup, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RouteGroup.class);
+        for (RouteGroup group : RouteGroup.values()) {
+            limiters.put(group, new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5, 500));
+        }
+        ConcurrencyLimiters concurrencyLimiters = new ConcurrencyLimiters(limiters, 1);
+
+        ConcurrencyLimiters.Permit login = concurrencyLimiters.tryAcquire(RouteGroup.LOGIN);
+        assertNotNull(login);
+        assertNull(concurrencyLimiters.tryAcquire(RouteGroup.LIST));
+        assertEquals(1, concurrencyLimiters.get(RouteGroup.LIST).getRejected());
+
+        login.release();
+        assertNotNull(concurrencyLimiters.tryAcquire(RouteGroup.LIST));
+    }
+
+    @Test
+    void saturatedWriteDoesNotShedReads() {
+        Map<RouteGroup, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RouteGroup.class);
+        for (RouteGroup group : RouteGroup.values()) {
+            limiters.put(group, new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5, 500));
+        }
+        ConcurrencyLimiters concurrencyLimiters = new ConcurrencyLimiters(limiters, 1);
+
+        assertNotNull(concurrencyLimiters.tryAcquire(RouteGroup.WRITE));
+
+        assertNotNull(concurrencyLimiters.tryAcquire(RouteGroup.READ));
+        assertNull(concurrencyLimiters.tryAcquire(RouteGroup.LIST));
+        assertEquals(0, concurrencyLimiters.get(RouteGroup.READ).getRejected());
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhnacademy.miniDooray.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentileIsWithinOneBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        long p99 = histogram.takePercentile(0.99);
+
+        assertTrue(p99 >= TimeUnit.MILLISECONDS.toNanos(99));
+        assertTrue(p99 <= TimeUnit.MILLISECONDS.toNanos(99) * 1.25);
+    }
+
+    @Test
+    void takingPercentileResets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.SECONDS.toNanos(1));
+
+        histogram.takePercentile(0.99);
+
+        assertEquals(0, histogram.takePercentile(0.99));
+    }
+}
@@ -0,0 +1,95 @@
+package com.nhnacademy.miniDooray.limit;
+
+import com.nhnacademy.miniDooray.exception.TooManyLoginAttemptsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    private final LoginThrottle throttle = new LoginThrottle(300, 5, 1024, 3, 3, 5, 1000, 1000);
+
+    @Test
+    void memberIsBlockedAfterTooManyFailures() {
+        for (int i = 0; i < 2; i++) {
+            throttle.recordFailure("member1", "10.0.0." + i, NOW);
+        }
+        assertDoesNotThrow(() -> throttle.check("member1", "10.0.0.9", NOW));
+
+        throttle.recordFailure("member1", "10.0.0.2", NOW);
+
+        TooManyLoginAttemptsException exception = assertThrows(TooManyLoginAttemptsException.class,
+                () -> throttle.check("member1", "10.0.0.9", NOW));
+        assertEquals(20, exception.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> throttle.check("member2", "10.0.0.9", NOW));
+    }
+
+    @Test
+    void clientIsBlockedAcrossMembers() {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure("member" + i, "10.0.0.1", NOW);
+        }
+
+        assertThrows(TooManyLoginAttemptsException.class, () -> throttle.check("other", "10.0.0.1", NOW));
+        assertDoesNotThrow(() -> throttle.check("other", "10.0.0.2", NOW));
+    }
+
+    @Test
+    void failuresDecayAfterWindow() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("member1", null, NOW + i * 100_000L);
+        }
+        assertThrows(TooManyLoginAttemptsException.class, () -> throttle.check("member1", null, NOW + 200_000));
+
+        // 첫 실패가 window 밖으로 나가면 다시 시도할 수 있다.
+        assertDoesNotThrow(() -> throttle.check("member1", null, NOW + 300_000));
+    }
+
+    @Test
+    void sketchCollisionsDoNotBlockOtherMembers() {
+        // 칸이 하나뿐인 sketch 에서는 모든 키가 같은 칸을 쓴다.
+        LoginThrottle crowded = new LoginThrottle(300, 5, 1, 1, 3, 5, 1000, 1000);
+        for (int i = 0; i < 100; i++) {
+            crowded.recordFailure("member" + i, null, NOW);
+        }
+
+        assertDoesNotThrow(() -> crowded.check("innocent", null, NOW));
+        crowded.recordFailure("target", null, NOW);
+        crowded.recordFailure("target", null, NOW);
+        crowded.recordFailure("target", null, NOW);
+        assertThrows(TooManyLoginAttemptsException.class, () -> crowded.check("target", null, NOW));
+    }
+
+    @Test
+    void exactCounterStaysBoundedAndKeepsHotKeys() {
+        ExactWindowCounter counter = new ExactWindowCounter(16, 5, Duration.ofMinutes(5));
+        for (int i = 0; i < 5; i++) {
+            counter.increment("target", NOW);
+        }
+        for (int i = 0; i < 1000; i++) {
+            counter.increment("member" + i, NOW);
+        }
+
+        assertTrue(counter.size() <= 16);
+        assertTrue(counter.getEvictions() > 0);
+        assertEquals(5, counter.count("target", NOW));
+        assertEquals(0, counter.count("target", NOW + 300_000));
+    }
+
+    @Test
+    void counterNeverUndercounts() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(2, 16, 5, Duration.ofMinutes(5));
+        for (int i = 0; i < 1000; i++) {
+            counter.increment("member" + i, NOW);
+        }
+        for (int i = 0; i < 7; i++) {
+            counter.increment("target", NOW);
+        }
+
+        assertTrue(counter.estimate("target", NOW) >= 7);
+    }
+}
@@ -0,0 +1,64 @@
+package com.nhnacademy.miniDooray.load;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.nhnacademy.miniDooray.limit.ConcurrencyLimiters;
+import com.nhnacademy.miniDooray.limit.RouteGroup;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoadMetadataPublisherTest {
+
+    private final ConcurrencyLimiters concurrencyLimiters = ConcurrencyLimiters.from(new MockEnvironment());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishesLoadToInstanceMetadata() throws Exception {
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(pool.getActiveConnections()).thenReturn(3);
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+        when(hikari.getMaximumPoolSize()).thenReturn(10);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikari);
+
+        ApplicationInfoManager manager = mock(ApplicationInfoManager.class);
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        registry.registerSingleton("applicationInfoManager", manager);
+
+        ConcurrencyLimiters.Permit busy = concurrencyLimiters.tryAcquire(RouteGroup.READ);
+        concurrencyLimiters.tryAcquire(RouteGroup.READ).release();
+
+        new LoadMetadataPublisher(concurrencyLimiters, dataSource, registry.getBeanProvider(ApplicationInfoManager.class))
+                .publish();
+
+        ArgumentCaptor<Map<String, String>> metadata = ArgumentCaptor.forClass(Map.class);
+        verify(manager).registerAppMetadata(metadata.capture());
+        assertEquals("1", metadata.getValue().get(LoadMetadataPublisher.IN_FLIGHT));
+        assertEquals("0", metadata.getValue().get(LoadMetadataPublisher.P99_MILLIS));
+        assertEquals("0.30", metadata.getValue().get(LoadMetadataPublisher.POOL_UTILIZATION));
+        assertNotNull(metadata.getValue().get(LoadMetadataPublisher.UPDATED_AT));
+        busy.release();
+    }
+
+    @Test
+    void skipsPoolUtilizationForOtherDataSources() {
+        LoadMetadataPublisher publisher = new LoadMetadataPublisher(concurrencyLimiters, mock(DataSource.class),
+                new DefaultListableBeanFactory().getBeanProvider(ApplicationInfoManager.class));
+
+        Map<String, String> metadata = publisher.snapshot();
+
+        assertFalse(metadata.containsKey(LoadMetadataPublisher.POOL_UTILIZATION));
+        assertEquals("0", metadata.get(LoadMetadataPublisher.IN_FLIGHT));
+    }
+}
@@ -1,5 +1,6 @@
 package com.nhnacademy.miniDooray.repository;
 
+import com.nhnacademy.miniDooray.dto.MemberSearchResult;
 import com.nhnacademy.miniDooray.entity.Member;
 import com.nhnacademy.miniDooray.entity.Status;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,7 +63,7 @@ class MemberRepositoryTest {
         assertNotNull(savedMember);
         assertEquals(id, savedMember.getId());
         assertEquals(password, savedMember.getPassword());
-        assertEquals(email, savedMember.getEmail());
+        assertEquals("testemail@naver.com", savedMember.getEmail());
         assertEquals(name, savedMember.getName());
         assertEquals(status, savedMember.getStatus());
     }
@@ -77,7 +84,7 @@ class MemberRepositoryTest {
         assertNotNull(foundMember);
         assertEquals(id, foundMember.getId());
         assertEquals(password, foundMember.getPassword());
-        assertEquals(email, foundMember.getEmail());
+        assertEquals("testemail@naver.com", foundMember.getEmail());
         assertEquals(name, foundMember.getName());
         assertEquals(status, foundMember.getStatus());
     }
@@ -97,7 +104,7 @@ class MemberRepositoryTest {
         assertNotNull(foundMember);
         assertEquals(id, foundMember.getId());
         assertEquals(password, foundMember.getPassword());
-        assertEquals(email, foundMember.getEmail());
+        assertEquals("testemail@naver.com", foundMember.getEmail());
         assertEquals(name, foundMember.getName());
         assertEquals(status, foundMember.getStatus());
 
@@ -177,4 +184,83 @@ class MemberRepositoryTest {
         exists = memberRepository.existsByIdAndPassword(id, password);
         assertFalse(exists);
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateStatusByIdIn() {
+        memberRepository.save(new Member("testId1", "testPassword1", "testEmail1@naver.com", "testName1", Status.REGISTERED));
+        memberRepository.save(new Member("testId2", "testPassword2", "testEmail2@naver.com", "testName2", Status.WITHDRAWN));
+
+        int updated = memberRepository.updateStatusByIdIn(List.of("testId1", "testId2", "wrongId"), Status.WITHDRAWN, 10L, LocalDateTime.now());
+
+        assertEquals(1, updated);
+        assertEquals(Status.WITHDRAWN, memberRepository.findById("testId1").orElseThrow().getStatus());
+        assertEquals(10L, memberRepository.findById("testId1").orElseThrow().getChangeSeq());
+    }
+
+    @Test
+    void findChangesAfter() {
+        Member first = new Member("testId1", "testPassword1", "testEmail1@naver.com", "testName1", Status.REGISTERED);
+        first.markChanged(10L, LocalDateTime.now());
+        Member second = new Member("testId2", "testPassword2", "testEmail2@naver.com", "testName2", Status.REGISTERED);
+        second.markChanged(10L, LocalDateTime.now());
+        Member third = new Member("testId3", "testPassword3", "testEmail3@naver.com", "testName3", Status.REGISTERED);
+        third.markChanged(30L, LocalDateTime.now());
+        memberRepository.save(first);
+        memberRepository.save(second);
+        memberRepository.save(third);
+
+        List<Member> page = memberRepository.findChangesAfter(10L, "testId1", 20L, PageRequest.of(0, 10));
+
+        assertEquals(List.of("testId2"), page.stream().map(Member::getId).toList());
+    }
+
+    @Test
+    void findIdsByStatusAfter() {
+        memberRepository.save(new Member("testId1", "testPassword1", "testEmail1@naver.com", "testName1", Status.DORMANT));
+        memberRepository.save(new Member("testId2", "testPassword2", "testEmail2@naver.com", "testName2", Status.REGISTERED));
+        memberRepository.save(new Member("testId3", "testPassword3", "testEmail3@naver.com", "testName3", Status.DORMANT));
+
+        List<String> first = memberRepository.findIdsByStatusAfter(Status.DORMANT, "", PageRequest.of(0, 1));
+        List<String> second = memberRepository.findIdsByStatusAfter(Status.DORMANT, "testId1", PageRequest.of(0, 1));
+
+        assertEquals(List.of("testId1"), first);
+        assertEquals(List.of("testId3"), second);
+    }
+
+    @Test
+    void searchByNamePrefix() {
+        memberRepository.save(new Member("testId1", "testPassword1", "testEmail1@naver.com", "testName1", Status.REGISTERED));
+        memberRepository.save(new Member("testId2", "testPassword2", "testEmail2@naver.com", "testName2", Status.WITHDRAWN));
+        memberRepository.save(new Member("testId3", "testPassword3", "testEmail3@naver.com", "TESTName3", Status.DORMANT));
+        memberRepository.save(new Member("testId4", "testPassword4", "testEmail4@naver.com", "other", Status.REGISTERED));
+
+        // 이름은 소문자 검색 키로 비교/정렬하므로 대소문자가 달라도 같은 접두어로 찾고, cursor 도 검색 키로 넘긴다.
+        List<MemberSearchResult> first = memberRepository.searchByNamePrefix("test%", Status.WITHDRAWN, "", "", PageRequest.of(0, 1));
+        List<MemberSearchResult> second = memberRepository.searchByNamePrefix("test%", Status.WITHDRAWN, "testname1", "testId1", PageRequest.of(0, 10));
+
+        assertEquals(List.of("testId1"), first.stream().map(MemberSearchResult::getId).toList());
+        assertEquals(List.of("testId3"), second.stream().map(MemberSearchResult::getId).toList());
+    }
+
+    @Test
+    void countByStatusAndRegistrationsPerDay() {
+        LocalDateTime today = LocalDate.now().atTime(10, 0);
+        Member first = new Member("testId1", "testPassword1", "testEmail1@naver.com", "testName1", Status.REGISTERED);
+        first.markRegistered(today);
+        Member second = new Member("testId2", "testPassword2", "testEmail2@naver.com", "testName2", Status.REGISTERED);
+        second.markRegistered(today.minusDays(1));
+        Member third = new Member("testId3", "testPassword3", "testEmail3@naver.com", "testName3", Status.WITHDRAWN);
+        third.markRegistered(today);
+        memberRepository.save(first);
+        memberRepository.save(second);
+        memberRepository.save(third);
+
+        Map<Status, Long> byStatus = memberRepository.countByStatus().stream()
+                .collect(Collectors.toMap(StatusCount::getStatus, StatusCount::getTotal));
+        Map<LocalDate, Long> perDay = memberRepository.countRegistrationsSince(today.minusDays(7)).stream()
+                .collect(Collectors.toMap(DailyCount::getRegisteredOn, DailyCount::getTotal));
+
+        assertEquals(Map.of(Status.REGISTERED, 2L, Status.WITHDRAWN, 1L), byStatus);
+        assertEquals(Map.of(today.toLocalDate(), 2L, today.toLocalDate().minusDays(1), 1L), perDay);
+    }
+}
@@ -0,0 +1,148 @@
+package com.nhnacademy.miniDooray.search;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.dto.MemberSearchResult;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.event.PeerMembersChangedEvent;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPrefixIndexTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberPrefixIndex(memberRepository, 2);
+        when(memberRepository.findSearchEntriesAfter(eq(Status.WITHDRAWN), eq(""), any(Pageable.class))).thenReturn(List.of(
+                new MemberSearchResult("a1", "Dooray", "dooray@naver.com"),
+                new MemberSearchResult("a2", "doyoung", "doyoung@naver.com")));
+        when(memberRepository.findSearchEntriesAfter(eq(Status.WITHDRAWN), eq("a2"), any(Pageable.class))).thenReturn(List.of(
+                new MemberSearchResult("a3", "kim", "kim@naver.com")));
+        when(memberRepository.findSearchEntriesAfter(eq(Status.WITHDRAWN), eq("a3"), any(Pageable.class))).thenReturn(List.of());
+        index.load();
+    }
+
+    @Test
+    void searchByPrefixIgnoresCase() {
+        assertTrue(index.isReady());
+        assertEquals(3, index.size());
+
+        List<MemberSearchResult> results = index.search(SearchField.NAME, "DO", SearchCursor.START, 10);
+
+        assertEquals(List.of("a1", "a2"), results.stream().map(MemberSearchResult::getId).toList());
+    }
+
+    @Test
+    void searchContinuesAfterCursor() {
+        List<MemberSearchResult> first = index.search(SearchField.EMAIL, "do", SearchCursor.START, 1);
+        SearchCursor cursor = SearchCursor.decode(new SearchCursor(first.get(0).getEmail(), first.get(0).getId()).encode());
+
+        List<MemberSearchResult> second = index.search(SearchField.EMAIL, "do", cursor, 1);
+
+        assertEquals("a1", first.get(0).getId());
+        assertEquals("a2", second.get(0).getId());
+    }
+
+    @Test
+    void keptInSyncWithChanges() {
+        index.onMemberChanged(new MemberChangedEvent(MemberChangeType.UPDATED,
+                new MemberDto("a3", "pw", "kim@naver.com", "donald", Status.REGISTERED), 0L, null));
+        index.onMemberChanged(new MemberChangedEvent(MemberChangeType.STATUS_CHANGED,
+                new MemberDto("a1", "pw", "dooray@naver.com", "Dooray", Status.WITHDRAWN), 0L, null));
+
+        List<MemberSearchResult> results = index.search(SearchField.NAME, "do", SearchCursor.START, 10);
+
+        assertEquals(List.of("a3", "a2"), results.stream().map(MemberSearchResult::getId).toList());
+        assertTrue(index.search(SearchField.NAME, "kim", SearchCursor.START, 10).isEmpty());
+    }
+
+    @Test
+    void changesDuringLoadAreAppliedAfterStaleBatches() {
+        MemberPrefixIndex loading = new MemberPrefixIndex(memberRepository, 2);
+        when(memberRepository.findSearchEntriesAfter(eq(Status.WITHDRAWN), eq("a2"), any(Pageable.class))).thenAnswer(invocation -> {
+            // 첫 batch 를 읽은 뒤 a1 이 탈퇴하고 a3 의 이름이 바뀌었지만, 다음 batch 는 바뀌기 전 값을 돌려준다.
+            loading.onMemberChanged(new MemberChangedEvent(MemberChangeType.STATUS_CHANGED,
+                    new MemberDto("a1", "pw", "dooray@naver.com", "Dooray", Status.WITHDRAWN), 0L, null));
+            loading.onMemberChanged(new MemberChangedEvent(MemberChangeType.UPDATED,
+                    new MemberDto("a3", "pw", "kim@naver.com", "donald", Status.REGISTERED), 0L, null));
+            return List.of(new MemberSearchResult("a3", "kim", "kim@naver.com"));
+        });
+
+        loading.load();
+
+        assertEquals(2, loading.size());
+        assertEquals(List.of("a3", "a2"), loading.search(SearchField.NAME, "do", SearchCursor.START, 10).stream()
+                .map(MemberSearchResult::getId).toList());
+    }
+
+    @Test
+    void peerChangesFallBackToDbUntilRefreshed() {
+        index.onPeerMembersChanged(new PeerMembersChangedEvent(List.of("a1", "a3"), false));
+
+        assertFalse(index.isReady());
+
+        when(memberRepository.findAllById(any())).thenReturn(List.of(
+                new Member("a3", "pw", "kim@naver.com", "donald", Status.REGISTERED)));
+        index.refresh();
+
+        assertTrue(index.isReady());
+        assertEquals(2, index.size());
+        assertEquals(List.of("a3", "a2"), index.search(SearchField.NAME, "do", SearchCursor.START, 10).stream()
+                .map(MemberSearchResult::getId).toList());
+    }
+
+    @Test
+    void localChangeDuringRefreshKeepsMemberDirty() {
+        index.onPeerMembersChanged(new PeerMembersChangedEvent(List.of("a3"), false));
+        when(memberRepository.findAllById(any())).thenAnswer(invocation -> {
+            index.onMemberChanged(new MemberChangedEvent(MemberChangeType.UPDATED,
+                    new MemberDto("a3", "pw", "kim@naver.com", "donald", Status.REGISTERED), 0L, null));
+            return List.of(new Member("a3", "pw", "kim@naver.com", "kim", Status.REGISTERED));
+        });
+
+        index.refresh();
+
+        assertFalse(index.isReady());
+        assertEquals(List.of("a3"), index.search(SearchField.NAME, "donald", SearchCursor.START, 10).stream()
+                .map(MemberSearchResult::getId).toList());
+    }
+
+    @Test
+    void missedPeerMessageReloadsIndex() {
+        index.onMemberChanged(new MemberChangedEvent(MemberChangeType.UPDATED,
+                new MemberDto("a4", "pw", "lee@naver.com", "lee", Status.REGISTERED), 0L, null));
+        index.onPeerMembersChanged(PeerMembersChangedEvent.missed());
+
+        assertFalse(index.isReady());
+
+        index.refresh();
+
+        assertTrue(index.isReady());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void invalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode("@@@"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.nhnacademy.miniDooray.service.impl;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.exception.IdNotFoundException;
+import com.nhnacademy.miniDooray.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncMemberServiceImplTest {
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getMember_success() throws Exception {
+        MemberDto memberDto = new MemberDto("123", "456", "dign552@naver.com", "두레이", Status.REGISTERED);
+        when(memberService.getMember("123")).thenReturn(memberDto);
+        AsyncMemberServiceImpl asyncMemberService = new AsyncMemberServiceImpl(memberService, executor, transactionManager, 3000);
+
+        MemberDto result = asyncMemberService.getMember("123").get(1, TimeUnit.SECONDS);
+
+        assertEquals("두레이", result.getName());
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals(3, definition.getValue().getTimeout());
+    }
+
+    @Test
+    void getMember_propagatesException() {
+        when(memberService.getMember("123")).thenThrow(new IdNotFoundException("해당 ID가 없습니다."));
+        AsyncMemberServiceImpl asyncMemberService = new AsyncMemberServiceImpl(memberService, executor, transactionManager, 3000);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> asyncMemberService.getMember("123").get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IdNotFoundException.class, e.getCause());
+    }
+
+    @Test
+    void getMember_timesOut() {
+        when(memberService.getMember("123")).thenAnswer(invocation -> {
+            Thread.sleep(3000);
+            return null;
+        });
+        AsyncMemberServiceImpl asyncMemberService = new AsyncMemberServiceImpl(memberService, executor, transactionManager, 1500);
+
+        CompletableFuture<MemberDto> future = asyncMemberService.getMember("123");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+    }
+
+    @Test
+    void getMember_subSecondTimeoutRunsWithOneSecondQueryTimeout() throws Exception {
+        MemberDto memberDto = new MemberDto("123", "456", "dign552@naver.com", "두레이", Status.REGISTERED);
+        when(memberService.getMember("123")).thenReturn(memberDto);
+        AsyncMemberServiceImpl asyncMemberService = new AsyncMemberServiceImpl(memberService, executor, transactionManager, 500);
+
+        assertEquals("두레이", asyncMemberService.getMember("123").get(1, TimeUnit.SECONDS).getName());
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(1, definition.getValue().getTimeout());
+    }
+
+    @Test
+    void getMember_subSecondDeadlineIsEnforcedByTheFuture() {
+        when(memberService.getMember("123")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return null;
+        });
+        AsyncMemberServiceImpl asyncMemberService = new AsyncMemberServiceImpl(memberService, executor, transactionManager, 200);
+
+        long start = System.nanoTime();
+        CompletableFuture<MemberDto> future = asyncMemberService.getMember("123");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 800);
+    }
+}
@@ -0,0 +1,77 @@
+package com.nhnacademy.miniDooray.service.impl;
+
+import com.nhnacademy.miniDooray.dto.MemberChangesResponse;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.feed.ChangeCursor;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberChangeFeedServiceImplTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    private MemberChangeFeedServiceImpl memberChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        memberChangeFeedService = new MemberChangeFeedServiceImpl(
+                memberRepository, changeSequence, 2, -1, Duration.ofSeconds(10), 5, 1000);
+    }
+
+    @Test
+    void getChanges_fromStart() {
+        Member member = new Member("a", "pw", "a@naver.com", "두레이", Status.REGISTERED);
+        member.markChanged(100L, LocalDateTime.now());
+        when(changeSequence.currentMicros()).thenReturn(20_000_000L);
+        // settle 구간은 트랜잭션 timeout 10초 + 시계 오차 1초
+        when(memberRepository.findChangesAfter(0L, "", 9_000_000L, PageRequest.of(0, 2))).thenReturn(List.of(member));
+
+        MemberChangesResponse response = memberChangeFeedService.getChanges(null, 10);
+
+        assertEquals(1, response.getChanges().size());
+        assertEquals(new ChangeCursor(100L, "a"), ChangeCursor.decode(response.getNextCursor()));
+    }
+
+    @Test
+    void getChanges_emptyKeepsCursor() {
+        String cursor = new ChangeCursor(100L, "a").encode();
+        when(memberRepository.findChangesAfter(eq(100L), eq("a"), anyLong(), any())).thenReturn(List.of());
+
+        MemberChangesResponse response = memberChangeFeedService.getChanges(cursor, 10);
+
+        assertTrue(response.getChanges().isEmpty());
+        assertEquals(cursor, response.getNextCursor());
+    }
+
+    @Test
+    void settleShorterThanTransactionTimeoutIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MemberChangeFeedServiceImpl(
+                memberRepository, changeSequence, 2, 2000, Duration.ofSeconds(1), 10, 1000));
+    }
+
+    @Test
+    void getChanges_invalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> memberChangeFeedService.getChanges("bm9wZQ", 10));
+        assertThrows(IllegalArgumentException.class, () -> memberChangeFeedService.getChanges(null, 0));
+    }
+}
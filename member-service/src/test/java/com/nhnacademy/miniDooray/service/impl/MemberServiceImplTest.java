@@ -1,25 +1,47 @@
 package com.nhnacademy.miniDooray.service.impl;
 
+import com.nhnacademy.miniDooray.cache.MemberCache;
+import com.nhnacademy.miniDooray.cache.MemberEmailCache;
+import com.nhnacademy.miniDooray.cache.NegativeMemberCache;
+import com.nhnacademy.miniDooray.cache.SingleFlight;
+import com.nhnacademy.miniDooray.cache.StaleWhileRevalidate;
+import com.nhnacademy.miniDooray.directory.MemberDirectory;
 import com.nhnacademy.miniDooray.dto.MemberDto;
 import com.nhnacademy.miniDooray.dto.MemberInfoDto;
 import com.nhnacademy.miniDooray.dto.RegisterRequest;
 import com.nhnacademy.miniDooray.dto.UpdateRequest;
+import com.nhnacademy.miniDooray.entity.ArchivedMember;
 import com.nhnacademy.miniDooray.entity.Member;
 import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.exception.EmailAlreadyExistsException;
 import com.nhnacademy.miniDooray.exception.IdAlreadyExistsException;
 import com.nhnacademy.miniDooray.exception.IdNotFoundException;
+import com.nhnacademy.miniDooray.exception.IllegalIdOrPasswordException;
 import com.nhnacademy.miniDooray.exception.StatusIsWithdrawnException;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import com.nhnacademy.miniDooray.repository.ArchivedMemberRepository;
 import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import com.nhnacademy.miniDooray.warmup.HotKeyTracker;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +49,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +61,44 @@ class MemberServiceImplTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ArchivedMemberRepository archivedMemberRepository;
+
+    @Mock
+    private MemberCache memberCache;
+
+    @Spy
+    private NegativeMemberCache negativeMemberCache = new NegativeMemberCache(60000, 100);
+
+    @Spy
+    private MemberEmailCache memberEmailCache = new MemberEmailCache(100);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(1000);
+
+    @Spy
+    private StaleWhileRevalidate staleWhileRevalidate = new StaleWhileRevalidate(Runnable::run, mock(PlatformTransactionManager.class), 1000, 100, 1, 10);
+
+    @Mock
+    private MemberDirectory memberDirectory;
+
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    @Mock
+    private MemberStatistics memberStatistics;
+
     @Test
     void registerMember_success() {
         RegisterRequest registerRequest = new RegisterRequest("123", "456", "dign552@naver.com", "두레이");
@@ -50,6 +111,21 @@ class MemberServiceImplTest {
         assertEquals(registerRequest.getId(), result.getId());
     }
 
+    @Test
+    void registerMember_changeSeqIsAssignedInsideTransaction() {
+        RegisterRequest registerRequest = new RegisterRequest("123", "456", "dign552@naver.com", "두레이");
+        when(memberRepository.existsById(anyString())).thenReturn(false);
+
+        memberService.registerMember(registerRequest);
+
+        // 커넥션을 잡는 트랜잭션 시작 뒤에 순번을 매겨야 커넥션 대기 시간이 settle 구간 밖으로 새지 않는다.
+        InOrder inOrder = inOrder(transactionManager, changeSequence, memberRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(changeSequence).next();
+        inOrder.verify(memberRepository).save(any(Member.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
     @Test
     void registerMember_alreadyExists() {
         RegisterRequest registerRequest = new RegisterRequest("123", "456", "dign552@naver.com", "두레이");
@@ -70,6 +146,83 @@ class MemberServiceImplTest {
     }
 
 
+    @Test
+    void getMember_cached() {
+        MemberDto cached = new MemberDto("123", "456", "dign552@naver.com", "두레이", Status.REGISTERED);
+        when(memberCache.get("123")).thenReturn(cached);
+
+        MemberDto result = memberService.getMember("123");
+
+        assertEquals("두레이", result.getName());
+        verify(memberRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void deleteMember_publishesStatusChanged() {
+        Member member = new Member("123", "456", "dign552@naver.com", "두레이", Status.REGISTERED);
+        when(memberRepository.findById("123")).thenReturn(Optional.of(member));
+
+        memberService.deleteMember("123");
+
+        ArgumentCaptor<MemberChangedEvent> captor = ArgumentCaptor.forClass(MemberChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(MemberChangeType.STATUS_CHANGED, captor.getValue().getType());
+        assertEquals("123", captor.getValue().getMemberId());
+    }
+
+    @Test
+    void registerMember_emailAlreadyExists() {
+        RegisterRequest registerRequest = new RegisterRequest("123", "456", " Dign552@Naver.com", "두레이");
+        when(memberRepository.existsByEmail("dign552@naver.com")).thenReturn(true);
+
+        assertThrows(EmailAlreadyExistsException.class, () -> memberService.registerMember(registerRequest));
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    void getMemberByEmail_resolvesIdOnce() {
+        Member member = new Member("123", "456", "dign552@naver.com", "두레이", Status.REGISTERED);
+        when(memberRepository.findIdByEmail("dign552@naver.com")).thenReturn(Optional.of("123"));
+        when(memberCache.get("123")).thenReturn(null, new MemberDto("123", "456", "dign552@naver.com", "두레이", Status.REGISTERED));
+        when(memberRepository.findById("123")).thenReturn(Optional.of(member));
+
+        assertEquals("123", memberService.getMemberByEmail("Dign552@naver.com").getId());
+        assertEquals("123", memberService.getMemberByEmail("dign552@naver.com").getId());
+
+        verify(memberRepository, times(1)).findIdByEmail("dign552@naver.com");
+    }
+
+    @Test
+    void getMemberByEmail_staleEntryIsResolvedAgain() {
+        memberEmailCache.put("dign552@naver.com", "old");
+        when(memberCache.get("old")).thenReturn(new MemberDto("old", "456", "changed@naver.com", "두레이", Status.REGISTERED));
+        when(memberRepository.findIdByEmail("dign552@naver.com")).thenReturn(Optional.empty());
+
+        assertThrows(IdNotFoundException.class, () -> memberService.getMemberByEmail("dign552@naver.com"));
+        assertEquals(0, memberEmailCache.size());
+    }
+
+    @Test
+    void authenticateByEmail_resolvesMemberInOneQuery() {
+        Member member = new Member("123", "456", "dign552@naver.com", "두레이", Status.REGISTERED);
+        when(memberRepository.findByEmailAndPasswordAndStatusNot("dign552@naver.com", "456", Status.WITHDRAWN))
+                .thenReturn(Optional.of(member));
+
+        assertEquals("123", memberService.authenticateByEmail("Dign552@naver.com", "456").getId());
+        verify(memberRepository, never()).findIdByEmail(anyString());
+        verify(memberRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void authenticateByEmail_failuresAreIndistinguishable() {
+        // 없는 이메일, 탈퇴한 회원, 틀린 비밀번호 모두 조회 결과가 비므로 같은 예외가 난다.
+        when(memberRepository.findByEmailAndPasswordAndStatusNot(anyString(), anyString(), eq(Status.WITHDRAWN)))
+                .thenReturn(Optional.empty());
+
+        assertThrows(IllegalIdOrPasswordException.class, () -> memberService.authenticateByEmail("nobody@naver.com", "456"));
+        assertThrows(IllegalIdOrPasswordException.class, () -> memberService.authenticateByEmail("dign552@naver.com", "wrong"));
+    }
+
     @Test
     void getMember_notFound() {
         when(memberRepository.findById("123")).thenReturn(Optional.empty());
@@ -77,6 +230,20 @@ class MemberServiceImplTest {
         assertThrows(IdNotFoundException.class, () -> memberService.getMember("123"));
     }
 
+    @Test
+    void getMember_notFoundIsRememberedUntilRegistered() {
+        when(memberRepository.findById("123")).thenReturn(Optional.empty());
+
+        assertThrows(IdNotFoundException.class, () -> memberService.getMember("123"));
+        assertThrows(IdNotFoundException.class, () -> memberService.getMember("123"));
+        verify(memberRepository, times(1)).findById("123");
+
+        negativeMemberCache.onMemberChanged(new MemberChangedEvent(MemberChangeType.REGISTERED,
+                new MemberDto("123", "pw", "a@b.com", "두레이", Status.REGISTERED), 1L, null));
+        assertThrows(IdNotFoundException.class, () -> memberService.getMember("123"));
+        verify(memberRepository, times(2)).findById("123");
+    }
+
     @Test
     void getMember_withWithdrawnStatus() {
         Member member = new Member("123", "456", "dign552@naver.com", "두레이", Status.WITHDRAWN);
@@ -296,5 +463,37 @@ class MemberServiceImplTest {
         assertThrows(IdNotFoundException.class, () -> memberService.lookupMembers(memberIds));
     }
 
+    @Test
+    void lookupMembers_servedFromDirectory() {
+        when(memberDirectory.findName("123")).thenReturn("두레이");
+
+        List<MemberInfoDto> result = memberService.lookupMembers(List.of("123"));
+
+        assertEquals("두레이", result.get(0).getName());
+        verify(memberRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void lookupMembers_includeArchived() {
+        Member withdrawn = new Member("789", "password", "old@naver.com", "두영호", Status.WITHDRAWN);
+        when(memberRepository.findById("789")).thenReturn(Optional.empty());
+        when(archivedMemberRepository.findById("789"))
+                .thenReturn(Optional.of(new ArchivedMember(withdrawn, LocalDateTime.now())));
+
+        assertThrows(IdNotFoundException.class, () -> memberService.lookupMembers(List.of("789")));
+        List<MemberInfoDto> result = memberService.lookupMembers(List.of("789"), true);
 
+        assertEquals("두영호", result.get(0).getName());
+    }
+
+    @Test
+    void lookupMembers_partialSkipsMissingIds() {
+        when(memberDirectory.findName("123")).thenReturn("두레이");
+        when(memberRepository.findById("ghost")).thenReturn(Optional.empty());
+
+        List<MemberInfoDto> result = memberService.lookupMembers(List.of("123", "ghost"), false, true);
+
+        assertEquals(1, result.size());
+        assertEquals("123", result.get(0).getId());
+    }
 }
@@ -0,0 +1,129 @@
+package com.nhnacademy.miniDooray.service.impl;
+
+import com.nhnacademy.miniDooray.dto.BulkStatusRequest;
+import com.nhnacademy.miniDooray.dto.BulkStatusResponse;
+import com.nhnacademy.miniDooray.dto.StatusTransitionResult;
+import com.nhnacademy.miniDooray.entity.Member;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeBatchEvent;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.feed.ChangeSequence;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.repository.MemberStatusView;
+import com.nhnacademy.miniDooray.stats.MemberStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberStatusServiceImplTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private MemberStatistics memberStatistics;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MemberStatusServiceImpl memberStatusService;
+
+    @BeforeEach
+    void setUp() {
+        memberStatusService = new MemberStatusServiceImpl(memberRepository, eventPublisher, changeSequence, memberStatistics, transactionManager, 2, 5, 10);
+    }
+
+    @Test
+    void changeStatuses_byIds() {
+        when(memberRepository.findByIdIn(List.of("a", "b"))).thenReturn(List.of(view("a", Status.REGISTERED), view("b", Status.WITHDRAWN)));
+        when(memberRepository.findByIdIn(List.of("c"))).thenReturn(List.of());
+        when(memberRepository.findAllById(List.of("a")))
+                .thenReturn(List.of(new Member("a", "pw", "a@naver.com", "두레이", Status.WITHDRAWN)));
+
+        BulkStatusResponse response = memberStatusService.changeStatuses(
+                new BulkStatusRequest(List.of("a", "b", "c", "a"), null, Status.WITHDRAWN, null));
+
+        assertEquals(1, response.getUpdated());
+        assertEquals(3, response.getResults().size());
+        assertEquals(StatusTransitionResult.Outcome.UPDATED, response.getResults().get(0).getOutcome());
+        assertEquals(StatusTransitionResult.Outcome.UNCHANGED, response.getResults().get(1).getOutcome());
+        assertEquals(StatusTransitionResult.Outcome.NOT_FOUND, response.getResults().get(2).getOutcome());
+        verify(memberRepository).updateStatusByIdIn(eq(List.of("a", "b")), eq(Status.WITHDRAWN), anyLong(), any());
+        verify(memberRepository).updateStatusByIdIn(eq(List.of("c")), eq(Status.WITHDRAWN), anyLong(), any());
+        verify(eventPublisher, times(1)).publishEvent(any(MemberChangedEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(any(MemberChangeBatchEvent.class));
+        verify(memberStatistics).recordTransition(Status.REGISTERED, Status.WITHDRAWN);
+    }
+
+    @Test
+    void changeStatuses_byFilterPagesWithKeyset() {
+        when(memberRepository.findIdsByStatusAfter(eq(Status.DORMANT), eq(""), any(Pageable.class))).thenReturn(List.of("a", "b"));
+        when(memberRepository.findIdsByStatusAfter(eq(Status.DORMANT), eq("b"), any(Pageable.class))).thenReturn(List.of());
+        when(memberRepository.findByIdIn(List.of("a", "b"))).thenReturn(List.of(view("a", Status.DORMANT), view("b", Status.DORMANT)));
+
+        BulkStatusResponse response = memberStatusService.changeStatuses(
+                new BulkStatusRequest(null, Status.DORMANT, Status.WITHDRAWN, null));
+
+        assertEquals(2, response.getUpdated());
+        assertNull(response.getNextAfterId());
+        verify(memberRepository).updateStatusByIdIn(eq(List.of("a", "b")), eq(Status.WITHDRAWN), anyLong(), any());
+    }
+
+    @Test
+    void changeStatuses_byFilterStopsAtMaxMemberIds() {
+        when(memberRepository.findIdsByStatusAfter(eq(Status.DORMANT), eq("a"), any(Pageable.class)))
+                .thenReturn(List.of("b", "c"));
+        when(memberRepository.findIdsByStatusAfter(eq(Status.DORMANT), eq("c"), any(Pageable.class))).thenReturn(List.of("d", "e"));
+        when(memberRepository.findIdsByStatusAfter(eq(Status.DORMANT), eq("e"), any(Pageable.class))).thenReturn(List.of("f"));
+        when(memberRepository.findByIdIn(anyList())).thenReturn(List.of());
+
+        BulkStatusResponse response = memberStatusService.changeStatuses(
+                new BulkStatusRequest(null, Status.DORMANT, Status.WITHDRAWN, "a"));
+
+        // max-member-ids 5 중 마지막 page 는 1명만 가져온다.
+        assertEquals(5, response.getResults().size());
+        assertEquals("f", response.getNextAfterId());
+        verify(memberRepository).findIdsByStatusAfter(eq(Status.DORMANT), eq("e"), argThat(page -> page.getPageSize() == 1));
+    }
+
+    @Test
+    void changeStatuses_invalidRequest() {
+        assertThrows(IllegalArgumentException.class, () -> memberStatusService.changeStatuses(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberStatusService.changeStatuses(new BulkStatusRequest(null, null, Status.WITHDRAWN, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberStatusService.changeStatuses(new BulkStatusRequest(List.of("a", "b", "c", "d", "e", "f"), null, Status.WITHDRAWN, null)));
+    }
+
+    private static MemberStatusView view(String id, Status status) {
+        return new MemberStatusView() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.nhnacademy.miniDooray.stats;
+
+import com.nhnacademy.miniDooray.dto.MemberStatisticsResponse;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.repository.DailyCount;
+import com.nhnacademy.miniDooray.repository.MemberRepository;
+import com.nhnacademy.miniDooray.repository.StatusCount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberStatisticsTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Test
+    void countersFollowWrites() {
+        MemberStatistics statistics = new MemberStatistics(memberRepository, 7);
+        LocalDateTime now = LocalDateTime.now();
+
+        statistics.recordRegistration(Status.REGISTERED, now);
+        statistics.recordRegistration(Status.REGISTERED, now);
+        statistics.recordTransition(Status.REGISTERED, Status.WITHDRAWN);
+        statistics.recordTransition(Status.WITHDRAWN, Status.WITHDRAWN);
+
+        MemberStatisticsResponse snapshot = statistics.snapshot();
+        assertEquals(1L, snapshot.getByStatus().get(Status.REGISTERED));
+        assertEquals(1L, snapshot.getByStatus().get(Status.WITHDRAWN));
+        assertEquals(0L, snapshot.getByStatus().get(Status.DORMANT));
+        assertEquals(2L, snapshot.getRegistrationsPerDay().get(now.toLocalDate()));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void reconcileOverwritesDrift() {
+        MemberStatistics statistics = new MemberStatistics(memberRepository, 7);
+        LocalDate today = LocalDate.now();
+        statistics.recordRegistration(Status.REGISTERED, today.minusDays(30).atStartOfDay());
+        when(memberRepository.countByStatus()).thenReturn(List.of(statusCount(Status.REGISTERED, 5), statusCount(Status.DORMANT, 2)));
+        when(memberRepository.countRegistrationsSince(any())).thenReturn(List.of(dailyCount(today, 3)));
+
+        statistics.reconcile();
+
+        MemberStatisticsResponse snapshot = statistics.snapshot();
+        assertEquals(5L, snapshot.getByStatus().get(Status.REGISTERED));
+        assertEquals(2L, snapshot.getByStatus().get(Status.DORMANT));
+        assertEquals(Map.of(today, 3L), snapshot.getRegistrationsPerDay());
+        assertEquals(6, statistics.getLastDrift());
+        assertNotNull(snapshot.getReconciledAt());
+    }
+
+    @Test
+    void reconcileKeepsWritesThatOverlapTheQuery() {
+        MemberStatistics statistics = new MemberStatistics(memberRepository, 7);
+        LocalDateTime now = LocalDateTime.now();
+        when(memberRepository.countByStatus()).thenAnswer(invocation -> {
+            statistics.recordRegistration(Status.REGISTERED, now);
+            return List.of(statusCount(Status.REGISTERED, 4));
+        });
+        when(memberRepository.countRegistrationsSince(any())).thenReturn(List.of(dailyCount(now.toLocalDate(), 4)));
+
+        statistics.reconcile();
+
+        // 쿼리 결과(4)에 더해 쿼리 도중 이 인스턴스가 처리한 가입 1건이 남는다.
+        assertEquals(5L, statistics.getCount(Status.REGISTERED));
+        assertEquals(5L, statistics.snapshot().getRegistrationsPerDay().get(now.toLocalDate()));
+        assertEquals(4, statistics.getLastDrift());
+    }
+
+    private StatusCount statusCount(Status status, long total) {
+        return new StatusCount() {
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private DailyCount dailyCount(LocalDate day, long total) {
+        return new DailyCount() {
+            @Override
+            public LocalDate getRegisteredOn() {
+                return day;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
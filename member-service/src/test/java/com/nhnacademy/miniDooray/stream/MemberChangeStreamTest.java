@@ -0,0 +1,105 @@
+package com.nhnacademy.miniDooray.stream;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.event.PeerMembersChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberChangeStreamTest {
+
+    private final List<Runnable> pending = new ArrayList<>();
+
+    @Test
+    void replayAfterLastEventId() {
+        MemberChangeStream stream = new MemberChangeStream(pending::add, 4, 8, 1000, 5000);
+        for (int i = 1; i <= 3; i++) {
+            stream.onMemberChanged(event("member" + i));
+        }
+
+        List<MemberChangeStream.Entry> replay = stream.replayAfter(1);
+
+        assertEquals(List.of(2L, 3L), replay.stream().map(MemberChangeStream.Entry::id).toList());
+        assertEquals("member3", replay.get(1).change().getId());
+        assertTrue(stream.replayAfter(3).isEmpty());
+    }
+
+    @Test
+    void replayOutsideRingIsReset() {
+        MemberChangeStream stream = new MemberChangeStream(pending::add, 4, 8, 1000, 5000);
+        for (int i = 1; i <= 10; i++) {
+            stream.onMemberChanged(event("member" + i));
+        }
+
+        assertNull(stream.replayAfter(2));
+        assertNull(stream.replayAfter(42));
+        assertEquals(4, stream.replayAfter(6).size());
+    }
+
+    @Test
+    void overflowingSubscriberGetsResetAndStaysConnected() {
+        MemberChangeStream stream = new MemberChangeStream(pending::add, 16, 2, 1000, 5000);
+        stream.subscribe(null);
+        assertEquals(1, stream.getSubscriberCount());
+
+        // executor 가 큐를 비우지 않으므로 세 번째 이벤트에서 큐가 넘친다.
+        for (int i = 1; i <= 3; i++) {
+            stream.onMemberChanged(event("member" + i));
+        }
+        stream.onMemberChanged(event("member4"));
+
+        assertEquals(1, stream.getSubscriberCount());
+        assertEquals(1, stream.getResets());
+        pending.forEach(Runnable::run);
+        assertEquals(1, stream.getSubscriberCount());
+    }
+
+    @Test
+    void peerChangesResetSubscribers() {
+        MemberChangeStream stream = new MemberChangeStream(pending::add, 16, 8, 1000, 5000);
+        stream.subscribe(null);
+        stream.onMemberChanged(event("member1"));
+
+        stream.onPeerMembersChanged(new PeerMembersChangedEvent(List.of("member2"), false));
+
+        assertEquals(1, stream.getResets());
+        assertEquals(1, stream.getSubscriberCount());
+        pending.forEach(Runnable::run);
+        assertEquals(1, stream.getSubscriberCount());
+    }
+
+    @Test
+    void idleSubscribersAreNotExpired() {
+        MemberChangeStream stream = new MemberChangeStream(pending::add, 16, 8, 1000, 0);
+        stream.subscribe(null);
+        stream.onMemberChanged(event("member1"));
+        pending.forEach(Runnable::run);
+
+        stream.expireStalledSends();
+
+        assertEquals(1, stream.getSubscriberCount());
+        assertEquals(0, stream.getStalled());
+    }
+
+    @Test
+    void changeCarriesRowUpdatedAt() {
+        MemberChangeStream stream = new MemberChangeStream(pending::add, 4, 8, 1000, 5000);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        stream.onMemberChanged(new MemberChangedEvent(MemberChangeType.UPDATED,
+                new MemberDto("member1", "pw", "member1@naver.com", "두레이", Status.REGISTERED), 7L, updatedAt));
+
+        assertEquals(updatedAt, stream.replayAfter(0).get(0).change().getUpdatedAt());
+    }
+
+    private MemberChangedEvent event(String memberId) {
+        return new MemberChangedEvent(MemberChangeType.UPDATED,
+                new MemberDto(memberId, "pw", memberId + "@naver.com", "두레이", Status.REGISTERED), 0L, null);
+    }
+}
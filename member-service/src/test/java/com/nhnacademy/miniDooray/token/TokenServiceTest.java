@@ -0,0 +1,88 @@
+package com.nhnacademy.miniDooray.token;
+
+import com.nhnacademy.miniDooray.dto.MemberDto;
+import com.nhnacademy.miniDooray.entity.Status;
+import com.nhnacademy.miniDooray.event.MemberChangeType;
+import com.nhnacademy.miniDooray.event.MemberChangedEvent;
+import com.nhnacademy.miniDooray.exception.InvalidTokenException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final String KEY1 = "k1:MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+    private static final String KEY2 = "k2:ZmVkY2JhOTg3NjU0MzIxMGZlZGNiYTk4NzY1NDMyMTA=";
+
+    private final MemberDto member = new MemberDto("testId", "pw", "test@naver.com", "두레이", Status.REGISTERED);
+
+    @Test
+    void issueAndVerify() {
+        TokenService tokenService = new TokenService(new TokenRevocations(300), KEY1 + "," + KEY2, "k2", 300);
+
+        TokenClaims claims = tokenService.verify(tokenService.issue(member));
+
+        assertEquals("testId", claims.memberId());
+        assertEquals("REGISTERED", claims.status());
+        assertEquals(300, claims.expiresAt() - claims.issuedAt());
+    }
+
+    @Test
+    void verifyAfterKeyRotation() {
+        TokenRevocations revocations = new TokenRevocations(300);
+        String issuedWithOldKey = new TokenService(revocations, KEY1, "k1", 300).issue(member);
+        TokenService rotated = new TokenService(revocations, KEY1 + "," + KEY2, "k2", 300);
+        TokenService retired = new TokenService(revocations, KEY2, "k2", 300);
+
+        assertEquals("testId", rotated.verify(issuedWithOldKey).memberId());
+        assertThrows(InvalidTokenException.class, () -> retired.verify(issuedWithOldKey));
+    }
+
+    @Test
+    void missingKeysFailStartup() {
+        assertThrows(IllegalStateException.class, () -> new TokenService(new TokenRevocations(300), "", "", 300));
+    }
+
+    @Test
+    void rejectTamperedAndExpired() {
+        MemberTokenCodec codec = new MemberTokenCodec(Map.of("k1", "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII)));
+        long now = Instant.now().getEpochSecond();
+        String token = codec.encode("k1", new TokenClaims("testId", "REGISTERED", now, now + 10));
+        String forged = codec.encode("k1", new TokenClaims("admin", "REGISTERED", now, now + 10));
+        String tampered = token.substring(0, token.lastIndexOf('.')) + forged.substring(forged.lastIndexOf('.'));
+
+        assertThrows(InvalidTokenException.class, () -> codec.decode(tampered, now));
+        assertThrows(InvalidTokenException.class, () -> codec.decode(token, now + 10));
+        assertThrows(InvalidTokenException.class, () -> codec.decode("not-a-token", now));
+    }
+
+    @Test
+    void withdrawalRevokesIssuedTokens() {
+        TokenRevocations revocations = new TokenRevocations(300);
+        TokenService tokenService = new TokenService(revocations, KEY1, "k1", 300);
+        String token = tokenService.issue(member);
+
+        revocations.onMemberChanged(new MemberChangedEvent(MemberChangeType.STATUS_CHANGED,
+                new MemberDto("testId", "pw", "test@naver.com", "두레이", Status.WITHDRAWN), 0L, null));
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.verify(token));
+        assertEquals(1, revocations.since(0).size());
+    }
+
+    @Test
+    void reactivationInTheRevokedSecondIssuesUsableToken() {
+        TokenRevocations revocations = new TokenRevocations(300);
+        TokenService tokenService = new TokenService(revocations, KEY1, "k1", 300);
+        String beforeWithdrawal = tokenService.issue(member);
+        revocations.revoke("testId", tokenService.verify(beforeWithdrawal).issuedAt());
+
+        TokenClaims reissued = tokenService.verify(tokenService.issue(member));
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.verify(beforeWithdrawal));
+        assertEquals(revocations.revokedAt("testId") + 1, reissued.issuedAt());
+    }
+}
@@ -0,0 +1,75 @@
+package com.nhnacademy.miniDooray.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeyTrackerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void persistsHottestKeysAndLoadsThemBack() {
+        Path file = tempDir.resolve("hot-keys.txt");
+        HotKeyTracker tracker = new HotKeyTracker(file, 100, 2, 60_000);
+        for (int i = 0; i < 5; i++) {
+            tracker.record("owner");
+        }
+        tracker.record("member1");
+        tracker.record("member2");
+        tracker.record("member2");
+
+        tracker.persist();
+
+        assertEquals(List.of("owner", "member2"), new HotKeyTracker(file, 100, 2, 60_000).loadPersisted());
+    }
+
+    @Test
+    void replacesColdestKeyWhenFull() {
+        HotKeyTracker tracker = new HotKeyTracker(tempDir.resolve("hot-keys.txt"), 2, 10, 60_000);
+        tracker.record("member1");
+        tracker.record("member1");
+        tracker.record("member2");
+        tracker.record("member3");
+
+        assertEquals(2, tracker.size());
+        assertEquals(List.of("member1", "member3"), tracker.topKeys(10));
+    }
+
+    @Test
+    void countsDecaySoNewHotKeysOvertakeOldOnes() {
+        HotKeyTracker tracker = new HotKeyTracker(tempDir.resolve("hot-keys.txt"), 10, 10, 1_000);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 8; i++) {
+            tracker.record("yesterday", now);
+        }
+        tracker.record("once", now);
+
+        for (int i = 0; i < 4; i++) {
+            tracker.record("today", now + 2_000);
+        }
+        tracker.record("today", now + 4_000);
+
+        // 두 번 절반이 되어 yesterday 는 2, once 는 0 이 되어 지워지고 today 는 4 → 2 → 3 이다.
+        assertEquals(List.of("today", "yesterday"), tracker.topKeys(10));
+    }
+
+    @Test
+    void ignoresLookupsRunUntracked() {
+        HotKeyTracker tracker = new HotKeyTracker(tempDir.resolve("hot-keys.txt"), 10, 10, 60_000);
+        tracker.runUntracked(() -> tracker.record("warmup"));
+        tracker.record("member1");
+
+        assertEquals(List.of("member1"), tracker.topKeys(10));
+    }
+
+    @Test
+    void missingFileLoadsNothing() {
+        assertTrue(new HotKeyTracker(tempDir.resolve("missing.txt"), 10, 10, 60_000).loadPersisted().isEmpty());
+    }
+}
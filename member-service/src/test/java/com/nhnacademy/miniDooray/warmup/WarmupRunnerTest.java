@@ -0,0 +1,100 @@
+package com.nhnacademy.miniDooray.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import com.nhnacademy.miniDooray.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private ObjectProvider<ApplicationInfoManager> applicationInfoManagerProvider;
+
+    @Mock
+    private ApplicationInfoManager applicationInfoManager;
+
+    @Test
+    void warmsUpWithoutTrackingHotKeys() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(hotKeyTracker.loadPersisted()).thenReturn(List.of("owner"));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(hotKeyTracker).runUntracked(any());
+
+        new WarmupRunner(memberService, hotKeyTracker, dataSource, applicationInfoManagerProvider, true, 5000, 3, 2)
+                .run(null);
+
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        verify(memberService).getMember("owner");
+        verify(memberService, times(2)).lookupMembers(List.of("owner"));
+        verify(hotKeyTracker).runUntracked(any());
+        verifyNoInteractions(applicationInfoManagerProvider);
+    }
+
+    @Test
+    void stopsWarmupAfterTimeout() throws Exception {
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return connection;
+        });
+
+        long start = System.nanoTime();
+        new WarmupRunner(memberService, hotKeyTracker, dataSource, applicationInfoManagerProvider, true, 50, 1, 1)
+                .run(null);
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    void marksUpOnceAcceptingTraffic() {
+        givenEureka();
+        WarmupRunner warmupRunner = new WarmupRunner(memberService, hotKeyTracker, dataSource,
+                applicationInfoManagerProvider, true, 5000, 1, 1);
+
+        warmupRunner.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.REFUSING_TRAFFIC));
+        verifyNoInteractions(applicationInfoManager);
+
+        warmupRunner.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenEureka() {
+        doAnswer(invocation -> {
+            ((Consumer<ApplicationInfoManager>) invocation.getArgument(0)).accept(applicationInfoManager);
+            return null;
+        }).when(applicationInfoManagerProvider).ifAvailable(any());
+    }
+}